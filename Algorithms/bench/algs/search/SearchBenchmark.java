@@ -0,0 +1,128 @@
+package algs.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Benchmarks single searches of a sorted int array, by each search of BinarySearch and by the static search indexes,
+ * over keys spread evenly and keys skewed toward the front of their range, and over targets chosen at random and
+ * targets which each lie near the one before. The exponential search is given the answer of the previous search as
+ * its hint.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SearchBenchmark {
+    private static final int LOOKUPS = 1 << 10;
+
+    /**
+     * The spread of the keys of the searched array.
+     */
+    public enum Keys {
+        /* Keys spaced about evenly. */
+        UNIFORM,
+        /* Squares of keys spaced about evenly, so most lie near the front of their range. */
+        SKEWED
+    }
+
+    /**
+     * The order in which targets are searched for.
+     */
+    public enum Lookups {
+        /* Each target is a random element of the array. */
+        RANDOM,
+        /* Each target is an element within a few dozen places of the one before. */
+        LOCAL
+    }
+
+    @Param({ "Binary", "Interpolation", "Exponential", "Eytzinger", "STree" })
+    public String search;
+
+    @Param({ "1000", "1000000", "10000000" })
+    public int n;
+
+    @Param
+    public Keys keys;
+
+    @Param
+    public Lookups lookups;
+
+    private int[] data;
+    private int[] targets;
+    private IntUnaryOperator finder;
+    /* The answer of the previous exponential search, from which the next one starts. */
+    private int hint;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        final Random random = new Random(n);
+        data = new int[n];
+        for (int i = 0; i < n; ++i) {
+            final long key = random.nextInt(Integer.MAX_VALUE);
+            data[i] = keys == Keys.UNIFORM ? (int) key : (int) (key * key / Integer.MAX_VALUE);
+        }
+        Arrays.sort(data);
+        targets = new int[LOOKUPS];
+        int at = random.nextInt(n);
+        for (int i = 0; i < LOOKUPS; ++i) {
+            at = lookups == Lookups.RANDOM
+                    ? random.nextInt(n)
+                    : Math.max(0, Math.min(n - 1, at + random.nextInt(65) - 32));
+            targets[i] = data[at];
+        }
+        switch (search) {
+            case "Binary":
+                finder = target -> BinarySearch.find(target, data);
+                break;
+            case "Interpolation":
+                finder = target -> BinarySearch.interpolationFind(target, data);
+                break;
+            case "Exponential":
+                finder = target -> {
+                    final int found = BinarySearch.exponentialFind(target, data, hint);
+                    hint = found < 0 ? Math.min(-found - 1, n - 1) : found;
+                    return found;
+                };
+                break;
+            case "Eytzinger":
+                finder = new EytzingerSearchIndex(data)::find;
+                break;
+            case "STree":
+                finder = new STreeSearchIndex(data)::find;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown search: " + search);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int find() {
+        int sum = 0;
+        for (final int target : targets) {
+            sum += finder.applyAsInt(target);
+        }
+        return sum;
+    }
+}
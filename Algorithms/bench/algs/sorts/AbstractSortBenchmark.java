@@ -0,0 +1,81 @@
+package algs.sorts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a Sort over every Distribution and ElementType. Throughput is reported alongside sampled latencies, from
+ * which JMH derives percentiles; run with "-prof gc" (the default bench.args) to also report the allocation rate per
+ * operation.
+ *
+ * The unsorted input is generated once per trial, and copied into the working array before each invocation, so that
+ * neither generating nor copying the data is part of the measurement.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public abstract class AbstractSortBenchmark {
+    @Param
+    public Distribution distribution;
+
+    @Param
+    public ElementType elementType;
+
+    /* The sort and element type are only chosen at run time, so the raw types are needed to pair them up. */
+    @SuppressWarnings("rawtypes")
+    private Sort sort;
+    @SuppressWarnings("rawtypes")
+    private Comparable[] input;
+    @SuppressWarnings("rawtypes")
+    private Comparable[] data;
+
+    /**
+     * Returns a new instance of the sort to measure.
+     *
+     * @return the sort to measure.
+     */
+    protected abstract Sort<?> newSort();
+
+    /**
+     * Returns the length of the arrays to sort.
+     *
+     * @return the length of the arrays to sort.
+     */
+    protected abstract int size();
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sort = newSort();
+        input = elementType.box(distribution.generate(size()));
+        data = input.clone();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(input, 0, data, 0, input.length);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object sort() {
+        sort.sort(data);
+        return data;
+    }
+}
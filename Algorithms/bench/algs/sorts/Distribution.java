@@ -0,0 +1,109 @@
+package algs.sorts;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Describes the shape of the input handed to a sort in the benchmarks. Every distribution is generated from a fixed
+ * seed so that each algorithm is measured against exactly the same data.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public enum Distribution {
+    /** Uniformly random values over the whole int range. */
+    RANDOM {
+        @Override
+        int[] generate(final int n, final Random random) {
+            final int[] values = new int[n];
+            for (int i = 0; i < n; ++i) {
+                values[i] = random.nextInt();
+            }
+            return values;
+        }
+    },
+    /** Values already in ascending order. */
+    SORTED {
+        @Override
+        int[] generate(final int n, final Random random) {
+            final int[] values = RANDOM.generate(n, random);
+            Arrays.sort(values);
+            return values;
+        }
+    },
+    /** Values in descending order. */
+    REVERSED {
+        @Override
+        int[] generate(final int n, final Random random) {
+            final int[] values = SORTED.generate(n, random);
+            for (int i = 0, j = n - 1; i < j; ++i, --j) {
+                final int tmp = values[i];
+                values[i] = values[j];
+                values[j] = tmp;
+            }
+            return values;
+        }
+    },
+    /** Random values drawn from only 16 distinct keys, so nearly every comparison meets a duplicate. */
+    FEW_UNIQUE {
+        @Override
+        int[] generate(final int n, final Random random) {
+            final int[] values = new int[n];
+            for (int i = 0; i < n; ++i) {
+                values[i] = random.nextInt(16);
+            }
+            return values;
+        }
+    },
+    /** Ascending values up to the middle of the array, then descending values after it. */
+    ORGAN_PIPE {
+        @Override
+        int[] generate(final int n, final Random random) {
+            final int[] values = new int[n];
+            for (int i = 0; i < n; ++i) {
+                values[i] = i < n / 2 ? i : n - i;
+            }
+            return values;
+        }
+    },
+    /** Keys drawn from a Zipf distribution (exponent 1) over n / 8 ranks, so a few keys dominate the input. */
+    ZIPF {
+        @Override
+        int[] generate(final int n, final Random random) {
+            final int ranks = Math.max(1, n / 8);
+            /* Build the cumulative distribution once, then invert it with a binary search per value. */
+            final double[] cumulative = new double[ranks];
+            double total = 0;
+            for (int k = 0; k < ranks; ++k) {
+                total += 1.0 / (k + 1);
+                cumulative[k] = total;
+            }
+            final int[] values = new int[n];
+            for (int i = 0; i < n; ++i) {
+                final int k = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                values[i] = k >= 0 ? k : -(k + 1);
+            }
+            return values;
+        }
+    };
+
+    private static final long SEED = 0x5EED;
+
+    /**
+     * Generates n values following this distribution.
+     *
+     * @param n The number of values to generate.
+     * @param random The source of randomness to draw from.
+     * @return the generated values.
+     */
+    abstract int[] generate(final int n, final Random random);
+
+    /**
+     * Generates n values following this distribution, from the same fixed seed on every call.
+     *
+     * @param n The number of values to generate.
+     * @return the generated values.
+     */
+    public int[] generate(final int n) {
+        return generate(n, new Random(SEED));
+    }
+}
@@ -0,0 +1,39 @@
+package algs.sorts;
+
+/**
+ * Describes the type of the elements sorted in the benchmarks, so that the cost of .compareTo(T) on cheap boxed keys
+ * can be told apart from its cost on keys which must be compared character by character.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public enum ElementType {
+    INTEGER {
+        @Override
+        Comparable<?>[] box(final int[] values) {
+            final Integer[] boxed = new Integer[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                boxed[i] = values[i];
+            }
+            return boxed;
+        }
+    },
+    /** Fixed-width strings sharing a common prefix, whose ordering agrees with the ordering of the source ints. */
+    STRING {
+        @Override
+        Comparable<?>[] box(final int[] values) {
+            final String[] boxed = new String[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                boxed[i] = String.format("key-%011d", (long) values[i] - Integer.MIN_VALUE);
+            }
+            return boxed;
+        }
+    };
+
+    /**
+     * Converts the given values into an array of this element type, preserving their relative order.
+     *
+     * @param values The values to convert.
+     * @return an array of this element type, of the same length as values.
+     */
+    abstract Comparable<?>[] box(final int[] values);
+}
@@ -0,0 +1,72 @@
+package algs.sorts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the IntSorts over every Distribution, for comparison with the boxed Integer results of SortBenchmark.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class IntSortBenchmark {
+    @Param({ "IntMergeSort", "IntQuickSort", "IntRadixSort" })
+    public String algorithm;
+
+    @Param({ "1000", "100000", "1000000" })
+    public int n;
+
+    @Param
+    public Distribution distribution;
+
+    private IntSort sort;
+    private int[] input;
+    private int[] data;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        switch (algorithm) {
+            case "IntMergeSort":
+                sort = new IntMergeSort();
+                break;
+            case "IntQuickSort":
+                sort = new IntQuickSort();
+                break;
+            case "IntRadixSort":
+                sort = new IntRadixSort();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown sort: " + algorithm);
+        }
+        input = distribution.generate(n);
+        data = input.clone();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(input, 0, data, 0, input.length);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        sort.sort(data);
+        return data;
+    }
+}
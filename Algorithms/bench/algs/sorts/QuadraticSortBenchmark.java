@@ -0,0 +1,34 @@
+package algs.sorts;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the O(N^2) sorts, on arrays small enough that a run finishes in reasonable time; these sizes also cover
+ * the segment lengths at which the O(N lg N) sorts hand off to Insertion Sort.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class QuadraticSortBenchmark extends AbstractSortBenchmark {
+    @Param({ "InsertionSort", "SelectionSort" })
+    public String algorithm;
+
+    @Param({ "16", "1000", "10000" })
+    public int n;
+
+    @Override
+    protected Sort<?> newSort() {
+        switch (algorithm) {
+            case "InsertionSort":
+                return new InsertionSort<>();
+            case "SelectionSort":
+                return new SelectionSort<>();
+            default:
+                throw new IllegalArgumentException("Unknown sort: " + algorithm);
+        }
+    }
+
+    @Override
+    protected int size() {
+        return n;
+    }
+}
@@ -0,0 +1,52 @@
+package algs.sorts;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the O(N lg N) sorts on arrays large enough to be useful for capacity planning.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class SortBenchmark extends AbstractSortBenchmark {
+    @Param({ "MergeSort", "BottomUpMergeSort", "ParallelMergeSort", "TimSort", "QuickSort", "ThreeWayQuickSort",
+            "DualPivotQuickSort", "IntrospectiveQuickSort", "ParallelQuickSort", "SampleSort", "HeapSort" })
+    public String algorithm;
+
+    @Param({ "1000", "100000", "1000000" })
+    public int n;
+
+    @Override
+    protected Sort<?> newSort() {
+        switch (algorithm) {
+            case "MergeSort":
+                return new MergeSort<>();
+            case "BottomUpMergeSort":
+                return new BottomUpMergeSort<>();
+            case "ParallelMergeSort":
+                return new ParallelMergeSort<>();
+            case "TimSort":
+                return new TimSort<>();
+            case "QuickSort":
+                return new QuickSort<>();
+            case "ThreeWayQuickSort":
+                return new QuickSort<>(QuickSort.Partitioning.THREE_WAY);
+            case "DualPivotQuickSort":
+                return new QuickSort<>(QuickSort.Partitioning.DUAL_PIVOT);
+            case "IntrospectiveQuickSort":
+                return new QuickSort<>(QuickSort.Partitioning.HOARE, true);
+            case "ParallelQuickSort":
+                return new ParallelQuickSort<>();
+            case "SampleSort":
+                return new SampleSort<>();
+            case "HeapSort":
+                return new HeapSort<>();
+            default:
+                throw new IllegalArgumentException("Unknown sort: " + algorithm);
+        }
+    }
+
+    @Override
+    protected int size() {
+        return n;
+    }
+}
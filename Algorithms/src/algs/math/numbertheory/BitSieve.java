@@ -0,0 +1,314 @@
+package algs.math.numbertheory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Implements the Sieve of Eratosthenes over a bitset of the odd numbers, in which bit i of the words is set when 2i + 1
+ * is prime; so, all the primes below 2^31 fit in 128 MiB.
+ *
+ * Multiples of 3, 5 and 7 are never crossed off one at a time: every word of new candidates is instead copied from a
+ * repeating pattern of the odd numbers coprime to them, which repeats every 105 words. Every larger prime p then
+ * crosses off only p * q for q coprime to 2 * 3 * 5 * 7, stepping q through the 48 residues of that wheel, since every
+ * other multiple of p is a multiple of a smaller prime and already crossed off.
+ *
+ * The count of primes before every block of a few words is kept, so that the index of a prime, or the prime of an
+ * index, takes a binary search of the blocks and a count of the bits in at most a block of words. The sieve extends
+ * itself, sieving only the new numbers, whenever getPrime or getPrimeIndex asks for a prime past those it knows.
+ *
+ * - Sieving to N takes O(N lg lg N) time, and N / 16 bytes.
+ * - getPrime, getPrimeIndex and isKnownPrime take O(lg N) time, once the sieve reaches the prime asked for.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class BitSieve implements Sieve {
+    /* Every int below this is sieved. */
+    static final long MAX_LIMIT = 1L << 31;
+    /* Each word holds the 64 odd numbers of 128 consecutive numbers. */
+    private static final int NUMBERS_PER_WORD = 128;
+    /* The count of primes is kept before every block of this many words. */
+    private static final int RANK_WORDS = 8;
+    /* Beyond the square root of the greatest int: a sieve to here knows every prime factor of an int but its last. */
+    static final int INITIAL_LIMIT = 1 << 16;
+
+    /* The primes up to 7 are the wheel, whose multiples the pattern removes. */
+    private static final int WHEEL = 2 * 3 * 5 * 7;
+    /* The residues modulo WHEEL that are coprime to it, then WHEEL + 1, the first residue of the next turn. */
+    private static final int[] SPOKES = new int[49];
+    /* For each residue modulo WHEEL, the index in SPOKES of the first spoke not less than it. */
+    private static final int[] NEXT_SPOKE = new int[WHEEL];
+    /* The words of odd numbers coprime to 3, 5 and 7, which repeat every 3 * 5 * 7 words. */
+    static final long[] PATTERN = new long[3 * 5 * 7];
+
+    static {
+        int spokes = 0;
+        for (int r = 0; r < WHEEL; ++r) {
+            if (r % 2 != 0 && r % 3 != 0 && r % 5 != 0 && r % 7 != 0) {
+                SPOKES[spokes++] = r;
+            }
+        }
+        SPOKES[spokes] = WHEEL + 1;
+        for (int r = WHEEL - 1, spoke = spokes; r >= 0; --r) {
+            if (spoke > 0 && SPOKES[spoke - 1] >= r) {
+                --spoke;
+            }
+            NEXT_SPOKE[r] = spoke;
+        }
+        for (int i = 0; i < PATTERN.length * 64; ++i) {
+            final int odd = 2 * i + 1;
+            if (odd % 3 != 0 && odd % 5 != 0 && odd % 7 != 0) {
+                PATTERN[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    /* Bit i is set when 2i + 1 is a prime; this covers the numbers [0, limit). */
+    private long[] bits = new long[0];
+    private long limit;
+    /* The number of odd primes before each block of RANK_WORDS words, then the number of them all. */
+    private int[] ranks = { 0 };
+
+    /**
+     * Creates a sieve of the numbers below INITIAL_LIMIT, which it will extend as needed.
+     */
+    public BitSieve() {
+        this(INITIAL_LIMIT);
+    }
+
+    /**
+     * Creates a sieve of the numbers below the given limit, which it will extend as needed.
+     *
+     * @param limit The number below which to find every prime at once.
+     */
+    public BitSieve(final int limit) {
+        extend(Math.max(limit, NUMBERS_PER_WORD));
+    }
+
+    /**
+     * @return The number below which every prime is known.
+     */
+    public long limit() {
+        return limit;
+    }
+
+    /**
+     * Sieves the numbers up to the given limit, rounded up to a whole word, if they are not already sieved.
+     */
+    private void extend(final long newLimit) {
+        final long target = Math.min(MAX_LIMIT,
+                (newLimit + NUMBERS_PER_WORD - 1) / NUMBERS_PER_WORD * NUMBERS_PER_WORD);
+        if (target <= limit) {
+            return;
+        }
+        final int oldWords = bits.length;
+        final int words = (int) (target / NUMBERS_PER_WORD);
+        final long oldLimit = limit;
+        bits = Arrays.copyOf(bits, words);
+        for (int w = oldWords; w < words; ++w) {
+            bits[w] = PATTERN[w % PATTERN.length];
+        }
+        if (oldWords == 0) {
+            /* 1 is not prime, and the pattern has removed the primes of the wheel with their multiples. */
+            bits[0] = (bits[0] & ~1L) | 0b1110L;
+        }
+
+        /* Cross off the new multiples of each prime from 11 up to the square root of the new limit. Any such prime
+            not already known lies before its own square, which is sieved before the prime is reached. */
+        for (long p = 11; p * p < target; p += 2) {
+            if (!isOddPrime(p)) {
+                continue;
+            }
+            /* The least multiple to cross off is p * q, where q is the first spoke from max(p, oldLimit / p). */
+            final long first = Math.max(p, (oldLimit + p - 1) / p);
+            long turn = first - first % WHEEL;
+            int spoke = NEXT_SPOKE[(int) (first % WHEEL)];
+            for (long multiple = p * (turn + SPOKES[spoke]); multiple < target; ) {
+                final int i = (int) (multiple >>> 1);
+                bits[i >>> 6] &= ~(1L << i);
+                if (++spoke == SPOKES.length - 1) {
+                    spoke = 0;
+                    turn += WHEEL;
+                }
+                multiple = p * (turn + SPOKES[spoke]);
+            }
+        }
+
+        limit = target;
+        final int oldBlocks = ranks.length - 1;
+        final int blocks = (words + RANK_WORDS - 1) / RANK_WORDS;
+        ranks = Arrays.copyOf(ranks, blocks + 1);
+        /* The last old block may have grown, so its successors are recounted from its start. */
+        final int from = Math.max(0, oldBlocks - 1);
+        for (int b = from; b < blocks; ++b) {
+            int count = ranks[b];
+            for (int w = b * RANK_WORDS; w < Math.min(words, (b + 1) * RANK_WORDS); ++w) {
+                count += Long.bitCount(bits[w]);
+            }
+            ranks[b + 1] = count;
+        }
+    }
+
+    private boolean isOddPrime(final long odd) {
+        final int i = (int) (odd >>> 1);
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Counts the primes not greater than x, which must be below the limit.
+     */
+    private int countTo(final long x) {
+        if (x < 2) {
+            return 0;
+        }
+        /* The odd numbers not greater than x are those of bits [0, last]. */
+        final int last = (int) ((x - 1) >>> 1);
+        final int word = last >>> 6;
+        final int block = word / RANK_WORDS;
+        int count = 1 + ranks[block];
+        for (int w = block * RANK_WORDS; w < word; ++w) {
+            count += Long.bitCount(bits[w]);
+        }
+        return count + Long.bitCount(bits[word] & (-1L >>> (63 - (last & 63))));
+    }
+
+    /**
+     * Returns the number of primes not greater than x, extending the sieve to x if needed.
+     *
+     * @param x The number up to which to count primes.
+     * @return The number of primes in [2, x].
+     */
+    public int primeCount(final int x) {
+        extend((long) x + 1);
+        return countTo(x);
+    }
+
+    /** Returns the nth prime number, where 2 is the first, extending the sieve until it is found.
+     * Note: This runs in O(lg P) time once the sieve reaches the prime, where P is the number of primes known.
+     *
+     * @param n the index of the desired prime, where 2 is the first prime.
+     * @return The nth prime number.
+     */
+    @Override
+    public int getPrime(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Primes are indexed from 1: " + n);
+        }
+        if (n == 1) {
+            return 2;
+        }
+        while (ranks[ranks.length - 1] < n - 1) {
+            if (limit == MAX_LIMIT) {
+                throw new IllegalArgumentException("The prime of index " + n + " is not an int.");
+            }
+            /* For n >= 6, the nth prime is below n (ln n + ln ln n). */
+            final double ln = Math.log(Math.max(n, 6));
+            extend(Math.max(2 * limit, (long) (n * (ln + Math.log(ln))) + 1));
+        }
+
+        /* Find the (n - 1)th odd prime: the block before which fewer come, then the word, then the bit. */
+        int rank = n - 1;
+        int low = 0;
+        int high = ranks.length - 1;
+        while (high - low > 1) {
+            final int mid = (low + high) >>> 1;
+            if (ranks[mid] < rank) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        rank -= ranks[low];
+        int w = low * RANK_WORDS;
+        while (Long.bitCount(bits[w]) < rank) {
+            rank -= Long.bitCount(bits[w++]);
+        }
+        long word = bits[w];
+        for (int i = 1; i < rank; ++i) {
+            word &= word - 1;
+        }
+        return 2 * ((w << 6) + Long.numberOfTrailingZeros(word)) + 1;
+    }
+
+    /** Determines whether the given number is a prime below the limit of the sieve.
+     * Note: This method runs in O(1) time.
+     *
+     * @param prime the target prime.
+     * @return true if the sieve has found the given prime, false otherwise.
+     */
+    @Override
+    public boolean isKnownPrime(final int prime) {
+        if (prime < 3 || prime >= limit) {
+            return prime == 2;
+        }
+        return (prime & 1) != 0 && isOddPrime(prime);
+    }
+
+    /** The index of the given prime, where the index of 2 is 1, extending the sieve to the prime if needed. As in
+     * SieveOfEratosthenes, a number which is not prime gives the negative of the number of primes less than it.
+     * Note: This method runs in O(1) time once the sieve reaches the prime.
+     *
+     * @param prime the prime whose index is desired.
+     * @return the index of the given prime number.
+     */
+    @Override
+    public int getPrimeIndex(final int prime) {
+        extend((long) prime + 1);
+        return isKnownPrime(prime) ? countTo(prime) : -countTo(prime);
+    }
+
+    /** The list of prime factors in sorted order from least to greatest for the given number, each as many times as it
+     * divides the number. Every int is fully factored: the sieve is first extended to INITIAL_LIMIT, if it is short of
+     * it, so it knows every prime up to the square root of the greatest int, and what remains after dividing by those
+     * is 1 or prime.
+     * Note: This method runs in O(sqrt(n) / ln(n)) time.
+     *
+     * @param n The number whose prime factorization is desired.
+     * @return the list of prime factors
+     */
+    @Override
+    public List<Integer> primeFactorize(final int n) {
+        extend(INITIAL_LIMIT);
+        final List<Integer> factors = new ArrayList<>();
+        int m = n;
+        while (m > 1 && (m & 1) == 0) {
+            factors.add(2);
+            m >>>= 1;
+        }
+        for (int p = 3; (long) p * p <= m; p += 2) {
+            if (isOddPrime(p)) {
+                while (m % p == 0) {
+                    factors.add(p);
+                    m /= p;
+                }
+            }
+        }
+        /* What remains has no factor up to its square root, so it is prime, though it may be beyond the limit. */
+        if (m > 1) {
+            factors.add(m);
+        }
+        return factors;
+    }
+
+    /**
+     * Calls the action with every prime below the limit of the sieve, in increasing order.
+     *
+     * @param action The action to take with each prime.
+     */
+    public void forEachPrime(final IntConsumer action) {
+        action.accept(2);
+        for (int w = 0; w < bits.length; ++w) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                action.accept(2 * ((w << 6) + Long.numberOfTrailingZeros(word)) + 1);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        final long start = System.nanoTime();
+        final BitSieve sieve = new BitSieve(Integer.MAX_VALUE);
+        System.out.println("Found " + sieve.primeCount(Integer.MAX_VALUE) + " primes below 2^31 in "
+                + (System.nanoTime() - start) / 1000000 + " ms.");
+    }
+}
@@ -0,0 +1,404 @@
+package algs.math.numbertheory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The prime factorization of a positive long, held as its distinct primes in increasing order, each beside its
+ * exponent, in two primitive arrays.
+ *
+ * Any positive long is factored by trial division by the primes below TRIAL_BOUND, then by Pollard's rho method, with
+ * Brent's cycle detection, splitting each composite cofactor until every factor passes a Miller-Rabin test; with the
+ * seven bases of Jim Sinclair, that test is deterministic for every 64-bit number. Both work in Montgomery form, so that
+ * no step divides: a product modulo n is reduced by two multiplications and a subtraction, and the high 64 bits of each
+ * 128-bit product are assembled from 32-bit halves.
+ *
+ * - Testing the primality of n takes O(lg n) multiplications modulo n.
+ * - Factoring n takes about O(n^(1/4)) multiplications modulo n for its second largest prime factor.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public final class Factorization {
+    /* Factors below this are found by trial division; those above, by Pollard's rho. */
+    static final int TRIAL_BOUND = 1 << 10;
+    private static final int[] TRIAL_PRIMES = SegmentedSieve.basePrimes(TRIAL_BOUND);
+    /* Every composite long fails the strong probable prime test to at least one of these bases. */
+    private static final long[] BASES = { 2, 325, 9375, 28178, 450775, 9780504, 1795265022 };
+    /* Pollard's rho multiplies this many differences together between each gcd. */
+    private static final int BATCH = 128;
+
+    private final long[] primes;
+    private final int[] exponents;
+
+    Factorization(final long[] primes, final int[] exponents) {
+        this.primes = primes;
+        this.exponents = exponents;
+    }
+
+    /**
+     * Factors the given positive long.
+     *
+     * @param n The number to factor.
+     * @return The prime factorization of n; that of 1 has no primes.
+     */
+    public static Factorization of(final long n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Only positive numbers have prime factorizations: " + n);
+        }
+        /* A long has at most 62 prime factors, counted with multiplicity. */
+        final long[] factors = new long[64];
+        int count = 0;
+        long m = n;
+        for (final int p : TRIAL_PRIMES) {
+            if ((long) p * p > m) {
+                break;
+            }
+            while (m % p == 0) {
+                factors[count++] = p;
+                m /= p;
+            }
+        }
+        if (m >= (long) TRIAL_BOUND * TRIAL_BOUND) {
+            count = split(m, factors, count);
+        } else if (m > 1) {
+            /* m has no factor up to its square root, so it is prime. */
+            factors[count++] = m;
+        }
+        Arrays.sort(factors, 0, count);
+        return fromSorted(factors, count);
+    }
+
+    /**
+     * Groups equal factors of the sorted factors[0, count) into a Factorization.
+     */
+    static Factorization fromSorted(final long[] factors, final int count) {
+        int distinct = 0;
+        for (int i = 0; i < count; ++i) {
+            if (i == 0 || factors[i] != factors[i - 1]) {
+                ++distinct;
+            }
+        }
+        final long[] primes = new long[distinct];
+        final int[] exponents = new int[distinct];
+        for (int i = 0, j = -1; i < count; ++i) {
+            if (i == 0 || factors[i] != factors[i - 1]) {
+                primes[++j] = factors[i];
+            }
+            ++exponents[j];
+        }
+        return new Factorization(primes, exponents);
+    }
+
+    /**
+     * Appends the prime factors of m, which has no factor below TRIAL_BOUND, to factors[count, ...), returning the new
+     * count.
+     */
+    private static int split(final long m, final long[] factors, final int count) {
+        if (m == 1) {
+            return count;
+        }
+        final Montgomery montgomery = new Montgomery(m);
+        if (montgomery.isPrime()) {
+            factors[count] = m;
+            return count + 1;
+        }
+        final long d = montgomery.rho();
+        return split(m / d, factors, split(d, factors, count));
+    }
+
+    /**
+     * Determines whether the given long is prime, by trial division by the primes below TRIAL_BOUND, then by a
+     * deterministic Miller-Rabin test.
+     *
+     * @param n The number to test.
+     * @return True if n is prime.
+     */
+    public static boolean isPrime(final long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (final int p : TRIAL_PRIMES) {
+            if (n % p == 0) {
+                return n == p;
+            }
+            if ((long) p * p > n) {
+                return true;
+            }
+        }
+        return new Montgomery(n).isPrime();
+    }
+
+    /**
+     * @return The number of distinct primes of the factorization.
+     */
+    public int size() {
+        return primes.length;
+    }
+
+    /**
+     * @param i The index of a distinct prime, in [0, size()).
+     * @return The ith least distinct prime of the factorization.
+     */
+    public long prime(final int i) {
+        return primes[i];
+    }
+
+    /**
+     * @param i The index of a distinct prime, in [0, size()).
+     * @return The number of times the ith least distinct prime divides the number.
+     */
+    public int exponent(final int i) {
+        return exponents[i];
+    }
+
+    /**
+     * @return The number factored: the product of every prime raised to its exponent.
+     */
+    public long value() {
+        long value = 1;
+        for (int i = 0; i < primes.length; ++i) {
+            for (int e = 0; e < exponents[i]; ++e) {
+                value *= primes[i];
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return The primes of the factorization in increasing order, each repeated as many times as it divides the
+     * number.
+     */
+    public long[] toArray() {
+        int count = 0;
+        for (final int exponent : exponents) {
+            count += exponent;
+        }
+        final long[] factors = new long[count];
+        for (int i = 0, k = 0; i < primes.length; ++i) {
+            for (int e = 0; e < exponents[i]; ++e) {
+                factors[k++] = primes[i];
+            }
+        }
+        return factors;
+    }
+
+    /**
+     * @return The primes of the factorization in increasing order, each repeated as many times as it divides the
+     * number, as Sieve.primeFactorize lists them. The number must be an int.
+     */
+    List<Integer> toList() {
+        final List<Integer> factors = new ArrayList<>();
+        for (int i = 0; i < primes.length; ++i) {
+            for (int e = 0; e < exponents[i]; ++e) {
+                factors.add((int) primes[i]);
+            }
+        }
+        return factors;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Factorization that = (Factorization) o;
+
+        return Arrays.equals(primes, that.primes) && Arrays.equals(exponents, that.exponents);
+    }
+
+    @Override
+    public int hashCode() {
+        return 11 * Arrays.hashCode(primes) + Arrays.hashCode(exponents);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < primes.length; ++i) {
+            if (i > 0) {
+                builder.append(" * ");
+            }
+            builder.append(primes[i]);
+            if (exponents[i] > 1) {
+                builder.append('^').append(exponents[i]);
+            }
+        }
+        return builder.length() == 0 ? "1" : builder.toString();
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128-bit product of a and b.
+     */
+    static long multiplyHighUnsigned(final long a, final long b) {
+        final long aLow = a & 0xFFFFFFFFL;
+        final long aHigh = a >>> 32;
+        final long bLow = b & 0xFFFFFFFFL;
+        final long bHigh = b >>> 32;
+        final long low = aLow * bLow;
+        final long middle = aHigh * bLow;
+        /* This cannot overflow: aLow * bHigh is at most 2^64 - 2^33 + 1, and the rest below 2^33. */
+        final long cross = (low >>> 32) + (middle & 0xFFFFFFFFL) + aLow * bHigh;
+        return aHigh * bHigh + (middle >>> 32) + (cross >>> 32);
+    }
+
+    /**
+     * Arithmetic modulo an odd n in [3, 2^63) in Montgomery form, in which x stands for x * 2^64 modulo n; every value
+     * is kept in [0, n).
+     */
+    private static final class Montgomery {
+        private final long n;
+        /* The inverse of n modulo 2^64. */
+        private final long inverse;
+        /* 1 and 2^64 in Montgomery form: 2^64 and 2^128 modulo n. */
+        private final long one;
+        private final long r2;
+
+        Montgomery(final long n) {
+            this.n = n;
+            /* n is its own inverse modulo 8; each step of Newton's method doubles the bits that are correct. */
+            long inverse = n;
+            for (int i = 0; i < 5; ++i) {
+                inverse *= 2 - n * inverse;
+            }
+            this.inverse = inverse;
+            one = Long.remainderUnsigned(-1L, n) + 1 == n ? 0 : Long.remainderUnsigned(-1L, n) + 1;
+            long r = one;
+            for (int i = 0; i < 64; ++i) {
+                r <<= 1;
+                if (Long.compareUnsigned(r, n) >= 0) {
+                    r -= n;
+                }
+            }
+            r2 = r;
+        }
+
+        /**
+         * Returns (high * 2^64 + low) / 2^64 modulo n, for high below n.
+         */
+        private long reduce(final long high, final long low) {
+            /* m * n agrees with the product in its low 64 bits, so subtracting it leaves a multiple of 2^64. */
+            final long m = low * inverse;
+            final long t = high - multiplyHighUnsigned(m, n);
+            return t < 0 ? t + n : t;
+        }
+
+        long multiply(final long a, final long b) {
+            return reduce(multiplyHighUnsigned(a, b), a * b);
+        }
+
+        long add(final long a, final long b) {
+            final long sum = a + b;
+            return Long.compareUnsigned(sum, n) >= 0 ? sum - n : sum;
+        }
+
+        long toMontgomery(final long a) {
+            return multiply(a % n, r2);
+        }
+
+        long power(final long base, long exponent) {
+            long result = one;
+            long square = base;
+            while (exponent != 0) {
+                if ((exponent & 1) != 0) {
+                    result = multiply(result, square);
+                }
+                square = multiply(square, square);
+                exponent >>>= 1;
+            }
+            return result;
+        }
+
+        /**
+         * Tests n, which must be odd, by the strong probable prime test to each of BASES.
+         */
+        boolean isPrime() {
+            final long minusOne = n - one;
+            final int s = Long.numberOfTrailingZeros(n - 1);
+            final long d = (n - 1) >>> s;
+            for (final long base : BASES) {
+                final long a = base % n;
+                if (a == 0) {
+                    continue;
+                }
+                long x = power(toMontgomery(a), d);
+                if (x == one || x == minusOne) {
+                    continue;
+                }
+                boolean composite = true;
+                for (int i = 1; i < s && composite; ++i) {
+                    x = multiply(x, x);
+                    composite = x != minusOne;
+                }
+                if (composite) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Finds a nontrivial factor of n, which must be an odd composite, by Pollard's rho method with Brent's cycle
+         * detection, trying the maps x^2 + c for c = 1, 2, ... until one splits n.
+         */
+        long rho() {
+            for (long c = 1; ; ++c) {
+                final long shift = toMontgomery(c);
+                long y = toMontgomery(2);
+                long x = y;
+                long saved = y;
+                long product = one;
+                long g = 1;
+                for (int r = 1; g == 1; r <<= 1) {
+                    x = y;
+                    for (int i = 0; i < r; ++i) {
+                        y = add(multiply(y, y), shift);
+                    }
+                    for (int k = 0; k < r && g == 1; k += BATCH) {
+                        saved = y;
+                        for (int i = 0; i < Math.min(BATCH, r - k); ++i) {
+                            y = add(multiply(y, y), shift);
+                            product = multiply(product, x > y ? x - y : y - x);
+                        }
+                        g = gcd(product, n);
+                    }
+                }
+                if (g == n) {
+                    /* The batch passed the factor, or the cycle closed; retrace it one step at a time. */
+                    do {
+                        saved = add(multiply(saved, saved), shift);
+                        g = gcd(x > saved ? x - saved : saved - x, n);
+                    } while (g == 1);
+                }
+                if (g != n) {
+                    return g;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the greatest common divisor of a and b, which must not be negative, by the binary method.
+     */
+    static long gcd(long a, long b) {
+        if (a == 0 || b == 0) {
+            return a | b;
+        }
+        final int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        while (b != 0) {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                final long t = a;
+                a = b;
+                b = t;
+            }
+            b -= a;
+        }
+        return a << shift;
+    }
+}
@@ -0,0 +1,220 @@
+package algs.math.numbertheory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongConsumer;
+
+/**
+ * Implements a parallel, segmented Sieve of Eratosthenes of any range of longs, by handing the segments of the range, as
+ * SegmentedSieve sieves them, to tasks in a ForkJoinPool, each with segment buffers of its own.
+ *
+ * To count the primes of a range, the segments are split into a few contiguous runs per thread, and each task counts
+ * the primes of its run with one buffer. To list the primes in order, the segments are sieved in batches of a few per
+ * thread, each into its own buffer, while the calling thread reports the primes of the batch before: so, sieving goes
+ * on in parallel while the primes come out in order, at the cost of two batches of buffers.
+ *
+ * - Sieving [from, to) takes O((to - from) lg lg to + sqrt(to)) time over all threads, and O(sqrt(to) / ln(to))
+ *   space for the base primes, besides a segment per task.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class ParallelSegmentedSieve {
+    /* The base primes reach the square root of every number below this. */
+    static final long MAX_LIMIT = 1L << 60;
+    private static final int SEGMENT_WORDS = SegmentedSieve.SEGMENT_WORDS;
+    private static final long SEGMENT_NUMBERS = SegmentedSieve.SEGMENT_NUMBERS;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a sieve which runs its tasks in the common ForkJoinPool.
+     */
+    public ParallelSegmentedSieve() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a sieve which runs its tasks in the given pool.
+     *
+     * @param pool The pool in which to sieve segments.
+     */
+    public ParallelSegmentedSieve(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    private static void checkRange(final long from, final long to) {
+        if (from < 0 || to > MAX_LIMIT) {
+            throw new IllegalArgumentException("The range must lie within [0, 2^60): [" + from + ", " + to + ")");
+        }
+    }
+
+    /**
+     * Lists the primes up to the square root of the greatest number below to.
+     */
+    private static int[] basePrimes(final long to) {
+        long root = (long) Math.sqrt((double) to);
+        while (root * root >= to) {
+            --root;
+        }
+        while ((root + 1) * (root + 1) < to) {
+            ++root;
+        }
+        return SegmentedSieve.basePrimes((int) Math.max(root, 2));
+    }
+
+    /**
+     * Counts the set bits of the words in [low, high).
+     */
+    private static int countBits(final long[] words, final int low, final int high) {
+        if (low >= high) {
+            return 0;
+        }
+        final int first = low >>> 6;
+        final int last = (high - 1) >>> 6;
+        if (first == last) {
+            return Long.bitCount(words[first] & (-1L << low) & (-1L >>> -high));
+        }
+        int count = Long.bitCount(words[first] & (-1L << low)) + Long.bitCount(words[last] & (-1L >>> -high));
+        for (int w = first + 1; w < last; ++w) {
+            count += Long.bitCount(words[w]);
+        }
+        return count;
+    }
+
+    /**
+     * The first bit of a segment beginning at start whose odd number is at least from.
+     */
+    private static int firstBit(final long start, final long from) {
+        return (int) Math.min(64L * SEGMENT_WORDS, Math.max(0, from - start) / 2);
+    }
+
+    /**
+     * Counts the primes in [from, to), sieving their segments in parallel.
+     *
+     * @param from The least number of the range.
+     * @param to The number after the greatest of the range.
+     * @return The number of primes in the range.
+     */
+    public long count(final long from, final long to) {
+        checkRange(from, to);
+        if (from >= to) {
+            return 0;
+        }
+        final int[] basePrimes = basePrimes(to);
+        final long firstSegment = from / SEGMENT_NUMBERS;
+        final long segments = (to - 1) / SEGMENT_NUMBERS + 1 - firstSegment;
+        final int runs = (int) Math.max(1, Math.min(4L * pool.getParallelism(), segments));
+        final long[] counts = new long[runs];
+        final List<RecursiveAction> tasks = new ArrayList<>(runs);
+        for (int r = 0; r < runs; ++r) {
+            final int run = r;
+            final long first = firstSegment + segments * r / runs;
+            final long end = firstSegment + segments * (r + 1) / runs;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    final long[] words = new long[SEGMENT_WORDS];
+                    long count = 0;
+                    for (long s = first; s < end; ++s) {
+                        final long start = s * SEGMENT_NUMBERS;
+                        SegmentedSieve.sieveSegment(words, start, basePrimes);
+                        count += countBits(words, firstBit(start, from), firstBit(start, to));
+                    }
+                    counts[run] = count;
+                }
+            });
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        long count = from <= 2 && 2 < to ? 1 : 0;
+        for (final long c : counts) {
+            count += c;
+        }
+        return count;
+    }
+
+    /**
+     * Calls the action with every prime in [from, to), in increasing order, from the calling thread, while the later
+     * segments of the range are sieved in parallel.
+     *
+     * @param from The least number of the range.
+     * @param to The number after the greatest of the range.
+     * @param action The action to take with each prime.
+     */
+    public void forEachPrime(final long from, final long to, final LongConsumer action) {
+        checkRange(from, to);
+        if (from >= to) {
+            return;
+        }
+        if (from <= 2 && 2 < to) {
+            action.accept(2);
+        }
+        final int[] basePrimes = basePrimes(to);
+        final long firstSegment = from / SEGMENT_NUMBERS;
+        final long endSegment = (to - 1) / SEGMENT_NUMBERS + 1;
+        final int batch = 2 * pool.getParallelism();
+        /* Two sets of buffers: one being reported, and one being sieved. */
+        final long[][][] buffers = new long[2][batch][SEGMENT_WORDS];
+
+        ForkJoinTask<?> sieving = sieveBatch(buffers[0], firstSegment, endSegment, basePrimes);
+        for (long s = firstSegment, b = 0; s < endSegment; s += batch, ++b) {
+            sieving.join();
+            final long[][] sieved = buffers[(int) (b & 1)];
+            final long next = s + batch;
+            sieving = sieveBatch(buffers[(int) ((b + 1) & 1)], next, endSegment, basePrimes);
+            for (int i = 0; i < batch && s + i < endSegment; ++i) {
+                final long start = (s + i) * SEGMENT_NUMBERS;
+                final long[] words = sieved[i];
+                final int high = firstBit(start, to);
+                for (int w = firstBit(start, from) >>> 6; w < SEGMENT_WORDS && w << 6 < high; ++w) {
+                    for (long word = words[w]; word != 0; word &= word - 1) {
+                        final long prime = start + 2 * ((w << 6) + Long.numberOfTrailingZeros(word)) + 1;
+                        if (prime >= from && prime < to) {
+                            action.accept(prime);
+                        }
+                    }
+                }
+            }
+        }
+        sieving.join();
+    }
+
+    /**
+     * Starts sieving the segments [first, min(first + batch, end)) into the buffers, one segment per task.
+     */
+    private ForkJoinTask<?> sieveBatch(final long[][] buffers, final long first, final long end,
+            final int[] basePrimes) {
+        final List<RecursiveAction> tasks = new ArrayList<>(buffers.length);
+        for (int i = 0; i < buffers.length && first + i < end; ++i) {
+            final long[] words = buffers[i];
+            final long start = (first + i) * SEGMENT_NUMBERS;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    SegmentedSieve.sieveSegment(words, start, basePrimes);
+                }
+            });
+        }
+        return pool.submit(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    public static void main(String[] args) {
+        final long start = System.nanoTime();
+        final long count = new ParallelSegmentedSieve().count(0, 1000000000L);
+        System.out.println("Found " + count + " primes below 10^9 in " + (System.nanoTime() - start) / 1000000
+                + " ms.");
+    }
+}
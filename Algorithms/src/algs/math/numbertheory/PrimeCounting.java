@@ -0,0 +1,184 @@
+package algs.math.numbertheory;
+
+/**
+ * Counts the primes up to x, and finds the nth prime, without listing the primes before them.
+ *
+ * The count pi(x) is found by the dynamic program of Legendre's sieve over only the values x / k, which is the
+ * combinatorial core of the Meissel-Lehmer method: S(v, p) counts the numbers in [2, v] left after sieving by the primes
+ * up to p, and since only v of the form x / k are ever asked for, of which there are about 2 sqrt(x), a table of those
+ * is updated once per prime p up to sqrt(x), by S(v, p) = S(v, p - 1) - (S(v / p, p - 1) - S(p - 1, p - 1)).
+ *
+ * The nth prime is estimated by inverting the logarithmic integral li, within O(sqrt(x) ln x) of the answer; the
+ * estimate is counted exactly, then the short interval between it and the answer is sieved.
+ *
+ * - pi(x) takes O(x^(3/4)) time and O(sqrt(x)) space.
+ * - nthPrime(n) takes O(x^(3/4)) time and O(sqrt(x)) space besides the sieve of its interval, for x about n ln n.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class PrimeCounting {
+    /* The interval past an estimate of the nth prime is sieved in windows of this many numbers. */
+    private static final long WINDOW = 1 << 20;
+    /* The Euler-Mascheroni constant. */
+    private static final double EULER_GAMMA = 0.5772156649015329;
+
+    private PrimeCounting() {
+    }
+
+    /**
+     * Returns the greatest long whose square is not greater than x.
+     */
+    static long isqrt(final long x) {
+        long r = (long) Math.sqrt((double) x);
+        while (r * r > x) {
+            --r;
+        }
+        while ((r + 1) * (r + 1) <= x) {
+            ++r;
+        }
+        return r;
+    }
+
+    /**
+     * Counts the primes not greater than x.
+     *
+     * @param x The number up to which to count primes.
+     * @return The number of primes in [2, x].
+     */
+    public static long pi(final long x) {
+        if (x < 2) {
+            return 0;
+        }
+        final long r = isqrt(x);
+        final int root = (int) r;
+        /* small[v] holds S(v) for v in [1, r]; large[k] holds S(x / k) for k in [1, r]. */
+        final long[] small = new long[root + 1];
+        final long[] large = new long[root + 1];
+        for (int v = 1; v <= root; ++v) {
+            small[v] = v - 1;
+            large[v] = x / v - 1;
+        }
+        for (int p = 2; p <= root; ++p) {
+            if (small[p] == small[p - 1]) {
+                /* p was sieved out by a smaller prime. */
+                continue;
+            }
+            final long below = small[p - 1];
+            final long square = (long) p * p;
+            /* Only S(v) for v at least p^2 changes; x / k >= p^2 while k <= x / p^2. */
+            final long lastLarge = Math.min(r, x / square);
+            for (int k = 1; k <= lastLarge; ++k) {
+                final long d = (long) k * p;
+                /* S(x / (kp)) is a large value while kp <= r, and x / (kp) < r + 1 otherwise. */
+                final long quotient = d <= r ? large[(int) d] : small[(int) (x / d)];
+                large[k] -= quotient - below;
+            }
+            for (int v = root; v >= square; --v) {
+                small[v] -= small[v / p] - below;
+            }
+        }
+        return large[1];
+    }
+
+    /**
+     * Returns the logarithmic integral li(x), the integral of 1 / ln t from 0 to x, by Ramanujan's series.
+     *
+     * @param x A number greater than 1.
+     * @return li(x).
+     */
+    static double li(final double x) {
+        final double ln = Math.log(x);
+        double sum = 0;
+        double term = 1;
+        double inner = 0;
+        for (int n = 1; n < 200; ++n) {
+            /* term is (ln x)^n / (n! 2^(n - 1)), and inner is the sum of 1 / (2k + 1) for k up to (n - 1) / 2. */
+            term *= ln / n / (n == 1 ? 1 : 2);
+            if ((n - 1) % 2 == 0) {
+                inner += 1.0 / n;
+            }
+            final double next = (n % 2 == 1 ? term : -term) * inner;
+            sum += next;
+            if (Math.abs(next) < 1e-17 * Math.abs(sum)) {
+                break;
+            }
+        }
+        return EULER_GAMMA + Math.log(ln) + Math.sqrt(x) * sum;
+    }
+
+    /**
+     * Returns x such that li(x) is about n, by Newton's method.
+     */
+    static double inverseLi(final double n) {
+        double x = Math.max(3, n * Math.log(Math.max(n, 2)));
+        for (int i = 0; i < 100; ++i) {
+            final double next = Math.max(2.5, x - (li(x) - n) * Math.log(x));
+            if (Math.abs(next - x) < 0.5) {
+                return next;
+            }
+            x = next;
+        }
+        return x;
+    }
+
+    /**
+     * Returns the nth prime number, where 2 is the first.
+     *
+     * @param n the index of the desired prime, where 2 is the first prime.
+     * @return The nth prime number.
+     */
+    public static long nthPrime(final long n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Primes are indexed from 1: " + n);
+        }
+        final ParallelSegmentedSieve sieve = new ParallelSegmentedSieve();
+        final long estimate = Math.max(2, (long) inverseLi(n));
+        /* The estimate is the count-th prime, or lies after it. */
+        final long count = pi(estimate);
+        if (count >= n) {
+            /* The answer is the (count - n)th prime before the greatest prime not above the estimate; step back
+                through windows until one holds it. */
+            long remaining = count - n;
+            long high = estimate + 1;
+            while (true) {
+                final long low = Math.max(0, high - WINDOW);
+                final long inWindow = sieve.count(low, high);
+                if (remaining < inWindow) {
+                    final long[] primes = new long[(int) inWindow];
+                    final int[] size = { 0 };
+                    sieve.forEachPrime(low, high, p -> primes[size[0]++] = p);
+                    return primes[(int) (inWindow - 1 - remaining)];
+                }
+                remaining -= inWindow;
+                high = low;
+            }
+        }
+        /* The answer is the (n - count)th prime after the estimate. */
+        long remaining = n - count;
+        long low = estimate + 1;
+        while (true) {
+            final long high = low + WINDOW;
+            final long inWindow = sieve.count(low, high);
+            if (remaining <= inWindow) {
+                final long[] found = { 0, remaining };
+                sieve.forEachPrime(low, high, p -> {
+                    if (--found[1] == 0) {
+                        found[0] = p;
+                    }
+                });
+                return found[0];
+            }
+            remaining -= inWindow;
+            low = high;
+        }
+    }
+
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        System.out.println("pi(10^11) = " + pi(100000000000L) + " in " + (System.nanoTime() - start) / 1000000
+                + " ms.");
+        start = System.nanoTime();
+        System.out.println("The 10^9th prime is " + nthPrime(1000000000L) + ", found in "
+                + (System.nanoTime() - start) / 1000000 + " ms.");
+    }
+}
@@ -0,0 +1,258 @@
+package algs.math.numbertheory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implements a segmented Sieve of Eratosthenes: the numbers are sieved one segment at a time, each small enough to stay
+ * in the L1 cache as every base prime crosses off its multiples in it, rather than streaming every prime's multiples
+ * through the whole range as BitSieve does. A segment holds one bit per odd number, begins as a copy of BitSieve's
+ * pattern of numbers coprime to 3, 5 and 7, and is sieved by the base primes from 11 up to the square root of its end.
+ *
+ * The sieve keeps only the base primes up to the square root of the greatest int, the count of primes before each
+ * segment, and one segment: the one last sieved or asked about. The known range grows a segment at a time, as far as a
+ * query needs; a query of a number in an earlier segment sieves that segment again, which costs about as much as
+ * counting its primes would.
+ *
+ * - Sieving to N takes O(N lg lg N) time, and O(sqrt(N) / ln(N) + N / SEGMENT_NUMBERS) space besides one segment.
+ * - getPrime, getPrimeIndex and isKnownPrime take O(lg N) time for a number in the cached segment, and the time to
+ *   sieve a segment for a number in any other known segment.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class SegmentedSieve implements Sieve {
+    /* A segment of 32 KiB fits in the L1 cache of most processors. */
+    static final int SEGMENT_WORDS = 1 << 12;
+    /* Each word holds the 64 odd numbers of 128 consecutive numbers. */
+    static final long SEGMENT_NUMBERS = 128L * SEGMENT_WORDS;
+    /* The segments cover every int, and no more. */
+    private static final int MAX_SEGMENTS = (int) (BitSieve.MAX_LIMIT / SEGMENT_NUMBERS);
+    /* The primes up to the square root of the greatest int, enough to sieve or to factor any int. */
+    private static final int[] BASE_PRIMES = basePrimes((int) Math.sqrt(Integer.MAX_VALUE));
+
+    /* The number of primes before each sieved segment, then the number of them all. */
+    private int[] counts = new int[16];
+    private int segments;
+    /* The bits of the odd primes of the segment of index cached; bit i is set when start + 2i + 1 is prime. */
+    private final long[] segment = new long[SEGMENT_WORDS];
+    private int cached = -1;
+
+    /**
+     * Creates a sieve which knows no primes yet, besides its base primes; it sieves segments as queries need them.
+     */
+    public SegmentedSieve() {
+    }
+
+    /**
+     * Lists the primes not greater than bound.
+     */
+    static int[] basePrimes(final int bound) {
+        final BitSieve sieve = new BitSieve(bound + 1);
+        final int[] primes = new int[sieve.primeCount(bound)];
+        final int[] count = { 0 };
+        sieve.forEachPrime(p -> {
+            if (p <= bound) {
+                primes[count[0]++] = p;
+            }
+        });
+        return primes;
+    }
+
+    /**
+     * Sieves the odd numbers of [start, start + 128 * words.length) into the words, setting bit i when start + 2i + 1
+     * is prime. The start must be a multiple of 128, and the base primes must reach the square root of the end.
+     */
+    static void sieveSegment(final long[] words, final long start, final int[] basePrimes) {
+        final long firstWord = start / 128;
+        for (int w = 0; w < words.length; ++w) {
+            words[w] = BitSieve.PATTERN[(int) ((firstWord + w) % BitSieve.PATTERN.length)];
+        }
+        if (start == 0) {
+            /* 1 is not prime, and the pattern has removed the primes of the wheel with their multiples. */
+            words[0] = (words[0] & ~1L) | 0b1110L;
+        }
+        final long end = start + 128L * words.length;
+        final int bits = 64 * words.length;
+        for (final int p : basePrimes) {
+            if (p < 11) {
+                continue;
+            }
+            final long square = (long) p * p;
+            if (square >= end) {
+                break;
+            }
+            /* The first odd multiple of p in the segment, not below p * p; each next odd multiple is p bits on. */
+            long multiple = Math.max(square, (start + p - 1) / p * p);
+            if ((multiple & 1) == 0) {
+                multiple += p;
+            }
+            for (int i = (int) ((multiple - start) >>> 1); i < bits; i += p) {
+                words[i >>> 6] &= ~(1L << i);
+            }
+        }
+    }
+
+    /**
+     * @return The number below which every prime is known.
+     */
+    public long limit() {
+        return segments * SEGMENT_NUMBERS;
+    }
+
+    /**
+     * Makes the segment of the given index the cached one, sieving it if it is not.
+     */
+    private void load(final int s) {
+        if (cached != s) {
+            sieveSegment(segment, s * SEGMENT_NUMBERS, BASE_PRIMES);
+            cached = s;
+        }
+    }
+
+    /**
+     * Sieves the next segment, and counts its primes.
+     */
+    private void extend() {
+        load(segments);
+        int count = segments == 0 ? 1 : 0;
+        for (final long word : segment) {
+            count += Long.bitCount(word);
+        }
+        if (segments + 1 == counts.length) {
+            counts = Arrays.copyOf(counts, 2 * counts.length);
+        }
+        counts[segments + 1] = counts[segments] + count;
+        ++segments;
+    }
+
+    /**
+     * Sieves segments until the given number is known, or every int is.
+     */
+    private void extendTo(final long x) {
+        while (x >= limit() && segments < MAX_SEGMENTS) {
+            extend();
+        }
+    }
+
+    /**
+     * Counts the primes not greater than x, which must be below the limit.
+     */
+    private int countTo(final long x) {
+        if (x < 2) {
+            return 0;
+        }
+        final int s = (int) (x / SEGMENT_NUMBERS);
+        load(s);
+        /* The odd numbers of the segment not greater than x are those of the first bits bits. */
+        final int bits = (int) ((x - s * SEGMENT_NUMBERS + 1) >>> 1);
+        int count = counts[s] + (s == 0 ? 1 : 0);
+        for (int w = 0; w < bits >>> 6; ++w) {
+            count += Long.bitCount(segment[w]);
+        }
+        return (bits & 63) == 0 ? count : count + Long.bitCount(segment[bits >>> 6] & (-1L >>> -(bits & 63)));
+    }
+
+    /** Returns the nth prime number, where 2 is the first, sieving segments until it is found.
+     *
+     * @param n the index of the desired prime, where 2 is the first prime.
+     * @return The nth prime number.
+     */
+    @Override
+    public int getPrime(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Primes are indexed from 1: " + n);
+        }
+        if (n == 1) {
+            return 2;
+        }
+        while (counts[segments] < n) {
+            if (segments == MAX_SEGMENTS) {
+                throw new IllegalArgumentException("The prime of index " + n + " is not an int.");
+            }
+            extend();
+        }
+
+        /* Find the segment before which fewer than n primes come, then the word and the bit within it. */
+        int low = 0;
+        int high = segments;
+        while (high - low > 1) {
+            final int mid = (low + high) >>> 1;
+            if (counts[mid] < n) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        load(low);
+        int rank = n - counts[low] - (low == 0 ? 1 : 0);
+        int w = 0;
+        while (Long.bitCount(segment[w]) < rank) {
+            rank -= Long.bitCount(segment[w++]);
+        }
+        long word = segment[w];
+        for (int i = 1; i < rank; ++i) {
+            word &= word - 1;
+        }
+        return (int) (low * SEGMENT_NUMBERS + 2 * ((w << 6) + Long.numberOfTrailingZeros(word)) + 1);
+    }
+
+    /** Determines whether the given number is a prime below the limit of the sieve.
+     * Note: This sieves the segment of the number, unless it is the cached one.
+     *
+     * @param prime the target prime.
+     * @return true if the sieve has found the given prime, false otherwise.
+     */
+    @Override
+    public boolean isKnownPrime(final int prime) {
+        if (prime < 3 || prime >= limit()) {
+            return prime == 2;
+        }
+        if ((prime & 1) == 0) {
+            return false;
+        }
+        final int s = (int) (prime / SEGMENT_NUMBERS);
+        load(s);
+        final int i = (int) ((prime - s * SEGMENT_NUMBERS) >>> 1);
+        return (segment[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /** The index of the given prime, where the index of 2 is 1, sieving segments until it is known. As in
+     * SieveOfEratosthenes, a number which is not prime gives the negative of the number of primes less than it.
+     *
+     * @param prime the prime whose index is desired.
+     * @return the index of the given prime number.
+     */
+    @Override
+    public int getPrimeIndex(final int prime) {
+        extendTo(prime);
+        final int count = countTo(prime);
+        return isKnownPrime(prime) ? count : -count;
+    }
+
+    /** The list of prime factors in sorted order from least to greatest for the given number, each as many times as it
+     * divides the number, found by trial division by the base primes. Every int is fully factored, since the base
+     * primes reach the square root of the greatest int, whatever the limit of the sieve.
+     * Note: This method runs in O(sqrt(n) / ln(n)) time.
+     *
+     * @param n The number whose prime factorization is desired.
+     * @return the list of prime factors
+     */
+    @Override
+    public List<Integer> primeFactorize(final int n) {
+        final List<Integer> factors = new ArrayList<>();
+        int m = n;
+        for (int i = 0; i < BASE_PRIMES.length && m > 1 && BASE_PRIMES[i] <= m / BASE_PRIMES[i]; ++i) {
+            final int p = BASE_PRIMES[i];
+            while (m % p == 0) {
+                factors.add(p);
+                m /= p;
+            }
+        }
+        /* What remains has no factor up to its square root, so it is prime, though it may be beyond the limit. */
+        if (m > 1) {
+            factors.add(m);
+        }
+        return factors;
+    }
+}
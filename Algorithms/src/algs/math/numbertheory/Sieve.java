@@ -28,11 +28,10 @@ public interface Sieve {
      */
     int getPrimeIndex(int prime);
 
-    /** The list of prime factors in sorted order from least to greatest for the given number.
-     * The possible factors are only those for which isKnownPrime will return true, thus, if the given
-     * number has a prime factor for which that method returns false, it will not appear in the factors list.
-     * The product of the factors list is guaranteed to be less than or equal to the target, being equal when it is
-     * the full factorization.
+    /** The list of prime factors in sorted order from least to greatest for the given number, each as many times as it
+     * divides the number, such that their product is the number. A greatest prime factor which the sieve has not yet
+     * found still appears, since what remains after dividing by the primes up to the square root of the number is
+     * prime. Numbers less than 2 give an empty list.
      *
      * @param n The number whose prime factorization is desired.
      * @return the list of prime factors
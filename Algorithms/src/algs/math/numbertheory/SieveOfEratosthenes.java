@@ -56,27 +56,29 @@ public class SieveOfEratosthenes implements Sieve {
         return 1 + Collections.binarySearch(primes, prime);
     }
 
-    /** The list of prime factors in sorted order from least to greatest for the given number.
-     * The possible factors are only those for which isKnownPrime will return true, thus, if the given
-     * number has a prime factor for which that method returns false, it will not appear in the factors list.
-     * The product of the factors list is guaranteed to be less than or equal to the target, being equal when it is
-     * the full factorization.
-     * Note: This method runs in O(P) time, where P is the number of primes found.
+    /** The list of prime factors in sorted order from least to greatest for the given number, each as many times as it
+     * divides the number. Primes are found up to the square root of the number first, and what remains after dividing
+     * by them is prime, so the full factorization is given even if its greatest prime has not been found.
+     * Note: This method runs in O(sqrt(n) / ln(n)) time, once the primes up to sqrt(n) are found.
      *
      * @param n The number whose prime factorization is desired.
      * @return the list of prime factors
      */
     public List<Integer> primeFactorize(final int n) {
         final List<Integer> factors = new ArrayList<>();
-        primes.forEach(prime -> {
-            if (n % prime == 0) {
-                int m = n / prime;
-                for (int i = 0; i < m; ++i) {
-                    // Add the factor as many times as it divides n.
-                    factors.add(prime);
-                }
+        int m = n;
+        for (int i = 1; m > 1 && getPrime(i) <= m / getPrime(i); ++i) {
+            final int prime = getPrime(i);
+            while (m % prime == 0) {
+                // Add the factor as many times as it divides n.
+                factors.add(prime);
+                m /= prime;
             }
-        });
+        }
+        // What remains has no factor up to its square root, so it is prime.
+        if (m > 1) {
+            factors.add(m);
+        }
         return factors;
     }
 
@@ -0,0 +1,204 @@
+package algs.math.numbertheory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implements the linear Sieve of Euler, which finds the smallest prime factor of every number below its limit, crossing
+ * off each composite exactly once: by its smallest prime factor p, as p times a number whose smallest prime factor is
+ * at least p. The table of smallest prime factors then factors any number below the limit by repeated division, in
+ * O(lg n) steps, with no search for factors at all.
+ *
+ * Numbers beyond the table are factored, and tested for primality, by Factorization, so every int is fully factored,
+ * and isKnownPrime is exact for every int. The table grows, by sieving again with at least twice the limit, whenever
+ * getPrime or getPrimeIndex asks for a prime past it, up to MAX_LIMIT; primes past that are found and indexed by
+ * PrimeCounting instead.
+ *
+ * - Sieving to N takes O(N) time, and 4 N bytes.
+ * - primeFactorize(n) takes O(lg n) time for n below the limit.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class SmallestPrimeFactorSieve implements Sieve {
+    /* The table never grows past this limit, at which it takes 64 MiB. */
+    static final int MAX_LIMIT = 1 << 24;
+
+    /* smallest[k] is the least prime factor of k, for k in [2, smallest.length). */
+    private int[] smallest = new int[0];
+    /* The primes below the limit, in increasing order, in primes[0, primeCount). */
+    private int[] primes = new int[0];
+    private int primeCount;
+
+    /**
+     * Creates a sieve of the numbers below 2^16, which it will extend as needed.
+     */
+    public SmallestPrimeFactorSieve() {
+        this(1 << 16);
+    }
+
+    /**
+     * Creates a sieve of the numbers below the given limit, or below MAX_LIMIT if that is less, which it will extend
+     * as needed.
+     *
+     * @param limit The number below which to find the smallest prime factor of every number at once.
+     */
+    public SmallestPrimeFactorSieve(final int limit) {
+        sieve(Math.min(MAX_LIMIT, Math.max(limit, 2)));
+    }
+
+    /**
+     * @return The number below which the smallest prime factor of every number is known.
+     */
+    public int limit() {
+        return smallest.length;
+    }
+
+    /**
+     * Sieves the numbers below the given limit from the start.
+     */
+    private void sieve(final int limit) {
+        final int[] smallest = new int[limit];
+        /* There are fewer than 1.26 n / ln n primes up to n. */
+        int[] primes = new int[(int) (1.26 * limit / Math.log(Math.max(limit, 3))) + 8];
+        int count = 0;
+        for (int i = 2; i < limit; ++i) {
+            if (smallest[i] == 0) {
+                smallest[i] = i;
+                if (count == primes.length) {
+                    primes = Arrays.copyOf(primes, 2 * count);
+                }
+                primes[count++] = i;
+            }
+            /* Cross off p * i for each prime p up to the smallest prime factor of i, which is then that of p * i. */
+            for (int j = 0; j < count && primes[j] <= smallest[i] && (long) primes[j] * i < limit; ++j) {
+                smallest[primes[j] * i] = primes[j];
+            }
+        }
+        this.smallest = smallest;
+        this.primes = primes;
+        this.primeCount = count;
+    }
+
+    /**
+     * Sieves again, if needed, to at least twice the limit, such that n is below the new limit, unless that is beyond
+     * MAX_LIMIT, to which it sieves instead.
+     */
+    private void extendTo(final long n) {
+        if (n >= smallest.length && smallest.length < MAX_LIMIT) {
+            sieve((int) Math.min(MAX_LIMIT, Math.max(n + 1, 2L * smallest.length)));
+        }
+    }
+
+    /** Returns the nth prime number, where 2 is the first, extending the sieve until it is found, or until MAX_LIMIT,
+     * past which it is found by PrimeCounting.
+     *
+     * @param n the index of the desired prime, where 2 is the first prime.
+     * @return The nth prime number.
+     */
+    @Override
+    public int getPrime(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Primes are indexed from 1: " + n);
+        }
+        while (primeCount < n && smallest.length < MAX_LIMIT) {
+            /* For n >= 6, the nth prime is below n (ln n + ln ln n). */
+            final double ln = Math.log(Math.max(n, 6));
+            extendTo((long) (n * (ln + Math.log(ln))));
+        }
+        if (primeCount >= n) {
+            return primes[n - 1];
+        }
+        final long prime = PrimeCounting.nthPrime(n);
+        if (prime > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The prime of index " + n + " is beyond the greatest int.");
+        }
+        return (int) prime;
+    }
+
+    /** Determines whether the given number is prime: by the table below its limit, and by a Miller-Rabin test beyond.
+     * Note: This method runs in O(1) time below the limit.
+     *
+     * @param prime the target prime.
+     * @return true if the given number is prime, false otherwise.
+     */
+    @Override
+    public boolean isKnownPrime(final int prime) {
+        if (prime < 2) {
+            return false;
+        }
+        return prime < smallest.length ? smallest[prime] == prime : Factorization.isPrime(prime);
+    }
+
+    /** The index of the given prime, where the index of 2 is 1, extending the sieve to the prime if needed. As in
+     * SieveOfEratosthenes, a number which is not prime gives the negative of the number of primes less than it. Past
+     * MAX_LIMIT, the primes are counted by PrimeCounting instead.
+     * Note: This method runs in O(lg P) time once the sieve reaches the prime, where P is the number of primes known.
+     *
+     * @param prime the prime whose index is desired.
+     * @return the index of the given prime number.
+     */
+    @Override
+    public int getPrimeIndex(final int prime) {
+        extendTo(prime);
+        if (prime < smallest.length) {
+            return 1 + Arrays.binarySearch(primes, 0, primeCount, prime);
+        }
+        final int count = (int) PrimeCounting.pi(prime);
+        return isKnownPrime(prime) ? count : -count;
+    }
+
+    /**
+     * Factors the given positive int: by its smallest prime factors below the limit, and by Factorization beyond.
+     *
+     * @param n The number to factor.
+     * @return The prime factorization of n.
+     */
+    public Factorization factorize(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Only positive numbers have prime factorizations: " + n);
+        }
+        if (n >= smallest.length) {
+            return Factorization.of(n);
+        }
+        /* An int has at most 30 prime factors, counted with multiplicity. */
+        final long[] factors = new long[31];
+        int count = 0;
+        for (int m = n; m > 1; m /= smallest[m]) {
+            factors[count++] = smallest[m];
+        }
+        return Factorization.fromSorted(factors, count);
+    }
+
+    /**
+     * Factors every one of the given positive ints, first growing the table to the greatest of them, or to MAX_LIMIT
+     * if that is less.
+     *
+     * @param values The numbers to factor.
+     * @return The prime factorization of each number, in the order of the numbers.
+     */
+    public Factorization[] factorize(final int[] values) {
+        int max = 0;
+        for (final int value : values) {
+            max = Math.max(max, value);
+        }
+        extendTo(max);
+        final Factorization[] factorizations = new Factorization[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            factorizations[i] = factorize(values[i]);
+        }
+        return factorizations;
+    }
+
+    /** The list of prime factors in sorted order from least to greatest for the given number, each as many times as it
+     * divides the number. Every positive int is fully factored; smaller numbers give an empty list.
+     * Note: This method runs in O(lg n) time for n below the limit.
+     *
+     * @param n The number whose prime factorization is desired.
+     * @return the list of prime factors
+     */
+    @Override
+    public List<Integer> primeFactorize(final int n) {
+        return n < 2 ? new ArrayList<>() : factorize(n).toList();
+    }
+}
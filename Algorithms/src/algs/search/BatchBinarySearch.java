@@ -0,0 +1,266 @@
+package algs.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static algs.search.BinarySearch.LINEAR_SCAN_LENGTH;
+
+/**
+ * Implements Binary Search for a whole batch of targets in one sorted array at once, returning for each target what
+ * BinarySearch.find of a primitive array returns for it: the first index of the target, or the negative of 1 + the
+ * index in which it would appear.
+ *
+ * A single search spends most of its time waiting on each probe's load before it can choose the next. Searches for
+ * different targets are independent, so when the targets are in no particular order, GROUP_LENGTH of them are advanced
+ * in lockstep, one level at a time: each level issues GROUP_LENGTH independent loads, which the processor overlaps,
+ * rather than one. Since every branchless search of the same array halves its window identically, the searches of a
+ * group need no per-search bookkeeping beyond their bases.
+ *
+ * When the targets are sorted, the search for the middle target splits the array, and the targets on either side of it
+ * are searched only in the part of the array on their side, recursively; so, M targets cost O(M lg(N / M)) comparisons
+ * rather than O(M lg N), and later searches of a part mostly probe elements cached by the earlier ones.
+ *
+ * The parallel variants split the targets into slices searched by tasks in the common ForkJoinPool; each slice is
+ * searched in whichever way its own order allows.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class BatchBinarySearch {
+    /* The number of searches advanced in lockstep; enough to cover the latency of a load from memory several times. */
+    static final int GROUP_LENGTH = 16;
+    /* Below about this many targets per task, forking costs more than the searches. */
+    private static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    /**
+     * Searches for targets[from, to) in data, into results[from, to), with each target's lower bound negated, as
+     * BinarySearch.find does, when it is not present.
+     */
+    private static void find(final int[] targets, final int[] data, final int from, final int to,
+            final int[] results) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to && sorted; ++i) {
+            sorted = targets[i - 1] <= targets[i];
+        }
+        if (sorted) {
+            narrow(targets, data, from, to - 1, 0, data.length, results);
+        } else {
+            for (int i = from; i < to; i += GROUP_LENGTH) {
+                lockstep(targets, data, i, Math.min(i + GROUP_LENGTH, to), results);
+            }
+        }
+        for (int i = from; i < to; ++i) {
+            final int index = results[i];
+            results[i] = index < data.length && data[index] == targets[i] ? index : -(index + 1);
+        }
+    }
+
+    /**
+     * Stores the lower bound of each of targets[from, to) in results, searching them in lockstep.
+     */
+    private static void lockstep(final int[] targets, final int[] data, final int from, final int to,
+            final int[] results) {
+        int n = data.length;
+        for (int i = from; i < to; ++i) {
+            results[i] = 0;
+        }
+        while (n > LINEAR_SCAN_LENGTH) {
+            final int half = n >>> 1;
+            for (int i = from; i < to; ++i) {
+                results[i] += data[results[i] + half] < targets[i] ? half : 0;
+            }
+            n -= half;
+        }
+        for (int i = from; i < to; ++i) {
+            final int base = results[i];
+            int count = 0;
+            for (int j = base; j < base + n; ++j) {
+                count += data[j] < targets[i] ? 1 : 0;
+            }
+            results[i] = base + count;
+        }
+    }
+
+    /**
+     * Stores the lower bound of each of the sorted targets[first, last] in results, given that all of them lie in
+     * [low, high], by searching for the middle target, then for those on either side of it in the part of [low, high]
+     * on their side.
+     */
+    private static void narrow(final int[] targets, final int[] data, final int first, final int last,
+            final int low, final int high, final int[] results) {
+        if (first > last) {
+            return;
+        }
+        if (low == high) {
+            for (int i = first; i <= last; ++i) {
+                results[i] = low;
+            }
+            return;
+        }
+        final int mid = first + (last - first) / 2;
+        final int bound = BinarySearch.lowerBound(targets[mid], data, low, high - 1);
+        results[mid] = bound;
+        narrow(targets, data, first, mid - 1, low, bound, results);
+        narrow(targets, data, mid + 1, last, bound, high, results);
+    }
+
+    /**
+     * Searches for every target in the sorted array data.
+     *
+     * @param targets The values to search for, in any order.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return For each target, the first index of it, or the negative of 1 + the index in which it would appear.
+     */
+    public static int[] find(final int[] targets, final int[] data) {
+        final int[] results = new int[targets.length];
+        find(targets, data, 0, targets.length, results);
+        return results;
+    }
+
+    /**
+     * Searches for every target in the sorted array data, in parallel, by tasks in the common ForkJoinPool.
+     *
+     * @param targets The values to search for, in any order.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return For each target, the first index of it, or the negative of 1 + the index in which it would appear.
+     */
+    public static int[] parallelFind(final int[] targets, final int[] data) {
+        final int[] results = new int[targets.length];
+        inParallel(targets.length, (from, to) -> find(targets, data, from, to, results));
+        return results;
+    }
+
+    /**
+     * Searches for targets[from, to) in data, into results[from, to), as the search of an int array does.
+     */
+    private static void find(final long[] targets, final long[] data, final int from, final int to,
+            final int[] results) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to && sorted; ++i) {
+            sorted = targets[i - 1] <= targets[i];
+        }
+        if (sorted) {
+            narrow(targets, data, from, to - 1, 0, data.length, results);
+        } else {
+            for (int i = from; i < to; i += GROUP_LENGTH) {
+                lockstep(targets, data, i, Math.min(i + GROUP_LENGTH, to), results);
+            }
+        }
+        for (int i = from; i < to; ++i) {
+            final int index = results[i];
+            results[i] = index < data.length && data[index] == targets[i] ? index : -(index + 1);
+        }
+    }
+
+    /**
+     * Stores the lower bound of each of targets[from, to) in results, searching them in lockstep.
+     */
+    private static void lockstep(final long[] targets, final long[] data, final int from, final int to,
+            final int[] results) {
+        int n = data.length;
+        for (int i = from; i < to; ++i) {
+            results[i] = 0;
+        }
+        while (n > LINEAR_SCAN_LENGTH) {
+            final int half = n >>> 1;
+            for (int i = from; i < to; ++i) {
+                results[i] += data[results[i] + half] < targets[i] ? half : 0;
+            }
+            n -= half;
+        }
+        for (int i = from; i < to; ++i) {
+            final int base = results[i];
+            int count = 0;
+            for (int j = base; j < base + n; ++j) {
+                count += data[j] < targets[i] ? 1 : 0;
+            }
+            results[i] = base + count;
+        }
+    }
+
+    /**
+     * Stores the lower bound of each of the sorted targets[first, last] in results, given that all of them lie in
+     * [low, high], as the search of an int array does.
+     */
+    private static void narrow(final long[] targets, final long[] data, final int first, final int last,
+            final int low, final int high, final int[] results) {
+        if (first > last) {
+            return;
+        }
+        if (low == high) {
+            for (int i = first; i <= last; ++i) {
+                results[i] = low;
+            }
+            return;
+        }
+        final int mid = first + (last - first) / 2;
+        final int bound = BinarySearch.lowerBound(targets[mid], data, low, high - 1);
+        results[mid] = bound;
+        narrow(targets, data, first, mid - 1, low, bound, results);
+        narrow(targets, data, mid + 1, last, bound, high, results);
+    }
+
+    /**
+     * Searches for every target in the sorted array data.
+     *
+     * @param targets The values to search for, in any order.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return For each target, the first index of it, or the negative of 1 + the index in which it would appear.
+     */
+    public static int[] find(final long[] targets, final long[] data) {
+        final int[] results = new int[targets.length];
+        find(targets, data, 0, targets.length, results);
+        return results;
+    }
+
+    /**
+     * Searches for every target in the sorted array data, in parallel, by tasks in the common ForkJoinPool.
+     *
+     * @param targets The values to search for, in any order.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return For each target, the first index of it, or the negative of 1 + the index in which it would appear.
+     */
+    public static int[] parallelFind(final long[] targets, final long[] data) {
+        final int[] results = new int[targets.length];
+        inParallel(targets.length, (from, to) -> find(targets, data, from, to, results));
+        return results;
+    }
+
+    /**
+     * A search of the targets at [from, to).
+     */
+    private interface Slice {
+        void search(final int from, final int to);
+    }
+
+    /**
+     * Splits the targets [0, length) into slices of about equal length, a few per thread of the common pool, and
+     * searches them all in parallel.
+     */
+    private static void inParallel(final int length, final Slice slice) {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int slices = Math.max(1, Math.min(4 * pool.getParallelism(), length / PARALLEL_THRESHOLD));
+        if (slices == 1) {
+            slice.search(0, length);
+            return;
+        }
+        final List<RecursiveAction> tasks = new ArrayList<>(slices);
+        for (int s = 0; s < slices; ++s) {
+            final int from = (int) ((long) length * s / slices);
+            final int to = (int) ((long) length * (s + 1) / slices);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    slice.search(from, to);
+                }
+            });
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+}
@@ -4,6 +4,9 @@ package algs.search;
  * Created by Robert Mitchell on 11/2/16.
  */
 public class BinarySearch {
+    /* Searches of primitive arrays scan the last segment of at most this many elements linearly; 16 ints or 8 longs fill
+        a 64 byte cache line, which is loaded as a whole by the first probe into it anyway. */
+    static final int LINEAR_SCAN_LENGTH = 16;
 
     /**
      * Implements the Binary Search algorithm for finding an element of a list of objects which implement Comparable.
@@ -46,6 +49,491 @@ public class BinarySearch {
         return -(low + 1);
     }
 
+    /**
+     * Finds the first index of the inclusive interval [low, high] of data whose element is not less than target, or
+     * high + 1 if every element is less than target. The interval must be sorted.
+     *
+     * The interval is halved without branching on the comparisons: every step keeps the window [base, base + n], which
+     * contains the answer, and moves base forward by half of n exactly when the element at the middle is less than the
+     * target, which the JIT compiles to a conditional move, rather than to a branch mispredicted half of the time. Once
+     * the window is short, the elements in it less than the target are counted by a linear scan.
+     *
+     * This method runs using O(lg N) comparisons, and no extra space.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be sorted on [low, high].
+     * @param low The first index, inclusive, to search.
+     * @param high The last index, inclusive, to search.
+     * @return The lowest index i in [low, high + 1] such that every element at [low, i) is less than target.
+     */
+    public static int lowerBound(final int target, final int[] data, final int low, final int high) {
+        int base = low;
+        int n = high - low + 1;
+        while (n > LINEAR_SCAN_LENGTH) {
+            final int half = n >>> 1;
+            base += data[base + half] < target ? half : 0;
+            n -= half;
+        }
+        int count = 0;
+        for (int i = base; i < base + n; ++i) {
+            count += data[i] < target ? 1 : 0;
+        }
+        return base + count;
+    }
+
+    /**
+     * Finds the first index of the inclusive interval [low, high] of data whose element is greater than target, or
+     * high + 1 if no element is greater than target, as lowerBound does. The interval must be sorted.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be sorted on [low, high].
+     * @param low The first index, inclusive, to search.
+     * @param high The last index, inclusive, to search.
+     * @return The lowest index i in [low, high + 1] such that every element at [low, i) is at most target.
+     */
+    public static int upperBound(final int target, final int[] data, final int low, final int high) {
+        int base = low;
+        int n = high - low + 1;
+        while (n > LINEAR_SCAN_LENGTH) {
+            final int half = n >>> 1;
+            base += data[base + half] <= target ? half : 0;
+            n -= half;
+        }
+        int count = 0;
+        for (int i = base; i < base + n; ++i) {
+            count += data[i] <= target ? 1 : 0;
+        }
+        return base + count;
+    }
+
+    /**
+     * Finds the first index of data whose element is not less than target, or data.length if there is none.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The lowest index i such that every element at [0, i) is less than target.
+     */
+    public static int lowerBound(final int target, final int[] data) {
+        return lowerBound(target, data, 0, data.length - 1);
+    }
+
+    /**
+     * Finds the first index of data whose element is greater than target, or data.length if there is none.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The lowest index i such that every element at [0, i) is at most target.
+     */
+    public static int upperBound(final int target, final int[] data) {
+        return upperBound(target, data, 0, data.length - 1);
+    }
+
+    /**
+     * Finds target in data by lowerBound. Unlike the search of an array of objects, this finds the first of equal
+     * elements.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The first index of target, or the negative of 1 + the index in which it would appear.
+     */
+    public static int find(final int target, final int[] data) {
+        final int i = lowerBound(target, data);
+        return i < data.length && data[i] == target ? i : -(i + 1);
+    }
+
+    /**
+     * Counts the elements of data in the inclusive range [from, to], by two searches.
+     *
+     * @param from The least value to count.
+     * @param to The greatest value to count.
+     * @param data The array in which to count. This must be a sorted array.
+     * @return The number of elements x of data such that from <= x <= to.
+     */
+    public static int countInRange(final int from, final int to, final int[] data) {
+        if (from > to) {
+            return 0;
+        }
+        final int first = lowerBound(from, data);
+        return upperBound(to, data, first, data.length - 1) - first;
+    }
+
+    /**
+     * Finds the first index of the inclusive interval [low, high] of data whose element is not less than target, or
+     * high + 1 if every element is less than target, as the search of an int array does. The interval must be sorted.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be sorted on [low, high].
+     * @param low The first index, inclusive, to search.
+     * @param high The last index, inclusive, to search.
+     * @return The lowest index i in [low, high + 1] such that every element at [low, i) is less than target.
+     */
+    public static int lowerBound(final long target, final long[] data, final int low, final int high) {
+        int base = low;
+        int n = high - low + 1;
+        while (n > LINEAR_SCAN_LENGTH) {
+            final int half = n >>> 1;
+            base += data[base + half] < target ? half : 0;
+            n -= half;
+        }
+        int count = 0;
+        for (int i = base; i < base + n; ++i) {
+            count += data[i] < target ? 1 : 0;
+        }
+        return base + count;
+    }
+
+    /**
+     * Finds the first index of the inclusive interval [low, high] of data whose element is greater than target, or
+     * high + 1 if no element is greater than target, as lowerBound does. The interval must be sorted.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be sorted on [low, high].
+     * @param low The first index, inclusive, to search.
+     * @param high The last index, inclusive, to search.
+     * @return The lowest index i in [low, high + 1] such that every element at [low, i) is at most target.
+     */
+    public static int upperBound(final long target, final long[] data, final int low, final int high) {
+        int base = low;
+        int n = high - low + 1;
+        while (n > LINEAR_SCAN_LENGTH) {
+            final int half = n >>> 1;
+            base += data[base + half] <= target ? half : 0;
+            n -= half;
+        }
+        int count = 0;
+        for (int i = base; i < base + n; ++i) {
+            count += data[i] <= target ? 1 : 0;
+        }
+        return base + count;
+    }
+
+    /**
+     * Finds the first index of data whose element is not less than target, or data.length if there is none.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The lowest index i such that every element at [0, i) is less than target.
+     */
+    public static int lowerBound(final long target, final long[] data) {
+        return lowerBound(target, data, 0, data.length - 1);
+    }
+
+    /**
+     * Finds the first index of data whose element is greater than target, or data.length if there is none.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The lowest index i such that every element at [0, i) is at most target.
+     */
+    public static int upperBound(final long target, final long[] data) {
+        return upperBound(target, data, 0, data.length - 1);
+    }
+
+    /**
+     * Finds target in data by lowerBound. Unlike the search of an array of objects, this finds the first of equal
+     * elements.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The first index of target, or the negative of 1 + the index in which it would appear.
+     */
+    public static int find(final long target, final long[] data) {
+        final int i = lowerBound(target, data);
+        return i < data.length && data[i] == target ? i : -(i + 1);
+    }
+
+    /**
+     * Counts the elements of data in the inclusive range [from, to], by two searches.
+     *
+     * @param from The least value to count.
+     * @param to The greatest value to count.
+     * @param data The array in which to count. This must be a sorted array.
+     * @return The number of elements x of data such that from <= x <= to.
+     */
+    public static int countInRange(final long from, final long to, final long[] data) {
+        if (from > to) {
+            return 0;
+        }
+        final int first = lowerBound(from, data);
+        return upperBound(to, data, first, data.length - 1) - first;
+    }
+
+    /**
+     * Finds the first index of data whose element is not less than target, or data.length if there is none, halving
+     * the window as the search of an int array does.
+     *
+     * @param target The element to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @param <T> The type of element to search for, which must implement Comparable
+     * @return The lowest index i such that every element at [0, i) is less than target.
+     */
+    public static <T extends Comparable<T>> int lowerBound(final T target, final T[] data) {
+        int base = 0;
+        int n = data.length;
+        while (n > 1) {
+            final int half = n >>> 1;
+            base += data[base + half].compareTo(target) < 0 ? half : 0;
+            n -= half;
+        }
+        return n == 1 && data[base].compareTo(target) < 0 ? base + 1 : base;
+    }
+
+    /**
+     * Finds the first index of data whose element is greater than target, or data.length if there is none.
+     *
+     * @param target The element to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @param <T> The type of element to search for, which must implement Comparable
+     * @return The lowest index i such that every element at [0, i) is at most target.
+     */
+    public static <T extends Comparable<T>> int upperBound(final T target, final T[] data) {
+        int base = 0;
+        int n = data.length;
+        while (n > 1) {
+            final int half = n >>> 1;
+            base += data[base + half].compareTo(target) <= 0 ? half : 0;
+            n -= half;
+        }
+        return n == 1 && data[base].compareTo(target) <= 0 ? base + 1 : base;
+    }
+
+    /**
+     * Counts the elements of data in the inclusive range [from, to], by two searches.
+     *
+     * @param from The least element to count.
+     * @param to The greatest element to count.
+     * @param data The array in which to count. This must be a sorted array.
+     * @param <T> The type of element to count, which must implement Comparable
+     * @return The number of elements x of data such that from <= x <= to.
+     */
+    public static <T extends Comparable<T>> int countInRange(final T from, final T to, final T[] data) {
+        if (from.compareTo(to) > 0) {
+            return 0;
+        }
+        return upperBound(to, data) - lowerBound(from, data);
+    }
+
+    /**
+     * Finds the first index of data whose element is not less than target, or data.length if there is none, by
+     * Interpolation Search: each probe is placed where target would lie if the values of the remaining window were
+     * spread evenly between its first and last elements. On keys spread about evenly, this takes O(lg lg N) probes,
+     * rather than the lg N of a Binary Search. So that skewed keys cannot make it take O(N) probes, any probe which
+     * fails to halve the window is followed by a probe at the middle of the window; so, it takes at most 2 lg N probes.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The lowest index i such that every element at [0, i) is less than target.
+     */
+    public static int interpolationLowerBound(final int target, final int[] data) {
+        int low = 0;
+        int high = data.length - 1;
+        boolean bisect = false;
+        /* The answer is always in [low, high + 1]. */
+        while (high - low >= LINEAR_SCAN_LENGTH) {
+            final int first = data[low];
+            final int last = data[high];
+            if (target <= first) {
+                return low;
+            }
+            if (target > last) {
+                return high + 1;
+            }
+            /* Here first < target <= last, so the probe lies in [low, high]. */
+            final int mid = bisect
+                    ? low + (high - low) / 2
+                    : low + (int) (((long) target - first) * (high - low) / ((long) last - first));
+            final int length = high - low;
+            if (data[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+            bisect = !bisect && 2 * (high - low) > length;
+        }
+        return lowerBound(target, data, low, high);
+    }
+
+    /**
+     * Finds target in data by interpolationLowerBound; this finds the first of equal elements.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The first index of target, or the negative of 1 + the index in which it would appear.
+     */
+    public static int interpolationFind(final int target, final int[] data) {
+        final int i = interpolationLowerBound(target, data);
+        return i < data.length && data[i] == target ? i : -(i + 1);
+    }
+
+    /**
+     * Finds the first index of data whose element is not less than target, or data.length if there is none, by
+     * Exponential Search from the given hint: the distance from the hint is doubled until it passes target, then the
+     * last doubling is searched by a Binary Search. This takes O(lg D) probes, where D is the distance from the hint to
+     * the answer, so it is much faster than a Binary Search when the answer is known to lie near the hint.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @param hint An index near which the answer is expected, in [0, data.length).
+     * @return The lowest index i such that every element at [0, i) is less than target.
+     */
+    public static int exponentialLowerBound(final int target, final int[] data, final int hint) {
+        if (data.length == 0) {
+            return 0;
+        }
+        if (hint < 0 || hint >= data.length) {
+            throw new IllegalArgumentException("The hint must be an index of the array: " + hint);
+        }
+        int near = 0;
+        int far = 1;
+        if (data[hint] < target) {
+            /* The answer is after the hint: gallop right, keeping data[hint + near] < target. The bound is tested as
+                far < data.length - hint, since hint + far may overflow; far is always 2^k - 1, so it cannot. */
+            while (far < data.length - hint && data[hint + far] < target) {
+                near = far;
+                far = 2 * far + 1;
+            }
+            return lowerBound(target, data, hint + near + 1, hint + Math.min(far, data.length - hint) - 1);
+        }
+        /* The answer is at or before the hint: gallop left, keeping data[hint - near] >= target. */
+        while (far <= hint && data[hint - far] >= target) {
+            near = far;
+            far = 2 * far + 1;
+        }
+        return lowerBound(target, data, Math.max(hint - far, -1) + 1, hint - near - 1);
+    }
+
+    /**
+     * Finds target in data by exponentialLowerBound from the given hint; this finds the first of equal elements.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @param hint An index near which target is expected, in [0, data.length).
+     * @return The first index of target, or the negative of 1 + the index in which it would appear.
+     */
+    public static int exponentialFind(final int target, final int[] data, final int hint) {
+        final int i = exponentialLowerBound(target, data, hint);
+        return i < data.length && data[i] == target ? i : -(i + 1);
+    }
+
+    /**
+     * Finds target in data by exponentialLowerBound from the front of the array, which is fastest for targets near the
+     * front.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The first index of target, or the negative of 1 + the index in which it would appear.
+     */
+    public static int exponentialFind(final int target, final int[] data) {
+        return exponentialFind(target, data, 0);
+    }
+
+    /**
+     * Finds the first index of data whose element is not less than target, or data.length if there is none, by
+     * Interpolation Search, as the search of an int array does. The positions of probes are computed in double
+     * precision, since the differences of longs may overflow.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The lowest index i such that every element at [0, i) is less than target.
+     */
+    public static int interpolationLowerBound(final long target, final long[] data) {
+        int low = 0;
+        int high = data.length - 1;
+        boolean bisect = false;
+        while (high - low >= LINEAR_SCAN_LENGTH) {
+            final long first = data[low];
+            final long last = data[high];
+            if (target <= first) {
+                return low;
+            }
+            if (target > last) {
+                return high + 1;
+            }
+            /* Rounding may place the probe at low, or past high, so it is clamped to (low, high]. */
+            final int mid = bisect
+                    ? low + (high - low) / 2
+                    : Math.max(low + 1, Math.min(high, low
+                            + (int) (((double) target - first) / ((double) last - first) * (high - low))));
+            final int length = high - low;
+            if (data[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+            bisect = !bisect && 2 * (high - low) > length;
+        }
+        return lowerBound(target, data, low, high);
+    }
+
+    /**
+     * Finds target in data by interpolationLowerBound; this finds the first of equal elements.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The first index of target, or the negative of 1 + the index in which it would appear.
+     */
+    public static int interpolationFind(final long target, final long[] data) {
+        final int i = interpolationLowerBound(target, data);
+        return i < data.length && data[i] == target ? i : -(i + 1);
+    }
+
+    /**
+     * Finds the first index of data whose element is not less than target, or data.length if there is none, by
+     * Exponential Search from the given hint, as the search of an int array does.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @param hint An index near which the answer is expected, in [0, data.length).
+     * @return The lowest index i such that every element at [0, i) is less than target.
+     */
+    public static int exponentialLowerBound(final long target, final long[] data, final int hint) {
+        if (data.length == 0) {
+            return 0;
+        }
+        if (hint < 0 || hint >= data.length) {
+            throw new IllegalArgumentException("The hint must be an index of the array: " + hint);
+        }
+        int near = 0;
+        int far = 1;
+        if (data[hint] < target) {
+            while (far < data.length - hint && data[hint + far] < target) {
+                near = far;
+                far = 2 * far + 1;
+            }
+            return lowerBound(target, data, hint + near + 1, hint + Math.min(far, data.length - hint) - 1);
+        }
+        while (far <= hint && data[hint - far] >= target) {
+            near = far;
+            far = 2 * far + 1;
+        }
+        return lowerBound(target, data, Math.max(hint - far, -1) + 1, hint - near - 1);
+    }
+
+    /**
+     * Finds target in data by exponentialLowerBound from the given hint; this finds the first of equal elements.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @param hint An index near which target is expected, in [0, data.length).
+     * @return The first index of target, or the negative of 1 + the index in which it would appear.
+     */
+    public static int exponentialFind(final long target, final long[] data, final int hint) {
+        final int i = exponentialLowerBound(target, data, hint);
+        return i < data.length && data[i] == target ? i : -(i + 1);
+    }
+
+    /**
+     * Finds target in data by exponentialLowerBound from the front of the array, which is fastest for targets near the
+     * front.
+     *
+     * @param target The value to search for in the array.
+     * @param data The array in which to search. This must be a sorted array.
+     * @return The first index of target, or the negative of 1 + the index in which it would appear.
+     */
+    public static int exponentialFind(final long target, final long[] data) {
+        return exponentialFind(target, data, 0);
+    }
+
     public static void main(final String[] args) {
         final Integer[] data = { 1, 2, 3, 4, 6, 7, 8, 9, 10, 12 };
 
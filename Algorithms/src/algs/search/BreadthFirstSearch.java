@@ -2,10 +2,16 @@ package algs.search;
 
 import algs.datastructures.Queue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 /**
  * @author Robert Mitchell <robert.mitchell36@gmail.com>
@@ -25,8 +31,11 @@ public class BreadthFirstSearch {
      * @return Either the first Node in the graph which makes isTarget return true, or null if none are encountered.
      */
     public static <Node> Node search(Node source, Function<Node, List<Node>> children, Function<Node, Boolean> isTarget) {
+        /* Nodes are marked visited as they are enqueued, not as they are dequeued, so that a node reachable from many
+            others is enqueued, and expanded, only once. */
         Set<Node> visited = new HashSet<>(); // TODO: Implement a Set interface and HashSet class.
         Queue<Node> toVisit = Queue.newInstance();
+        visited.add(source);
         toVisit.enqueue(source);
 
         while (toVisit.size() > 0) {
@@ -34,10 +43,9 @@ public class BreadthFirstSearch {
             if (isTarget.apply(node)) {
                 return node;
             }
-            visited.add(node);
             for (final Node child : children.apply(node)) {
-                /* Do not consider nodes we have already visited. */
-                if (!visited.contains(child)) {
+                /* Do not consider nodes we have already discovered. */
+                if (visited.add(child)) {
                     toVisit.enqueue(child);
                 }
             }
@@ -47,4 +55,265 @@ public class BreadthFirstSearch {
             the graph */
         return null;
     }
+
+    /**
+     * Searches a graph of the vertices [0, n) in compressed sparse row form, as search does: the neighbors of vertex v
+     * are targets[offsets[v], offsets[v + 1]). The visited vertices are marked in a bitmap of one bit per vertex, and
+     * since each vertex is enqueued at most once, the queue is a plain array of n vertices.
+     *
+     * @param source The vertex to begin searching from.
+     * @param offsets The start of each vertex's neighbors in targets, followed by targets.length.
+     * @param targets The neighbors of every vertex, in order of vertex.
+     * @param isTarget A predicate which will return true if the given vertex is the target in the search.
+     * @return Either the first vertex in the graph which makes isTarget return true, or -1 if none are encountered.
+     */
+    public static int search(final int source, final int[] offsets, final int[] targets, final IntPredicate isTarget) {
+        final int n = offsets.length - 1;
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("The source is not a vertex of the graph: " + source);
+        }
+        final long[] visited = new long[(n + 63) >>> 6];
+        final int[] toVisit = new int[n];
+        int head = 0;
+        int tail = 0;
+        visited[source >>> 6] |= 1L << source;
+        toVisit[tail++] = source;
+
+        while (head < tail) {
+            final int vertex = toVisit[head++];
+            if (isTarget.test(vertex)) {
+                return vertex;
+            }
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; ++e) {
+                final int child = targets[e];
+                final long bit = 1L << child;
+                if ((visited[child >>> 6] & bit) == 0) {
+                    visited[child >>> 6] |= bit;
+                    toVisit[tail++] = child;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches the graph, as search does, iterating over the edges of each vertex without allocation.
+     *
+     * @param graph The graph to search.
+     * @param source The vertex to begin searching from.
+     * @param isTarget A predicate which will return true if the given vertex is the target in the search.
+     * @return Either the first vertex in the graph which makes isTarget return true, or -1 if none are encountered.
+     */
+    public static int search(final CsrGraph graph, final int source, final IntPredicate isTarget) {
+        return search(source, graph.offsets, graph.targets, isTarget);
+    }
+
+    /**
+     * Searches the graph, as search does, for a shortest path from the source to a target, considering only the nodes
+     * at most maxDepth edges from the source. The node from which each node was first discovered is recorded as it is
+     * discovered, so once a target is dequeued, the path to it is read back along these links, with no further search.
+     *
+     * @param source The node to begin searching from.
+     * @param children A Function which given a Node will return a List of Nodes that are its neighbors in the graph.
+     * @param isTarget A Function which will return true if the Node given as an argument is the target in the search.
+     * @param maxDepth The most edges a path may have.
+     * @param <Node> The data-type of which the search graph consists.
+     * @return The nodes of a shortest path from the source to the first target found, both included, or null if no
+     *         target is within maxDepth edges of the source.
+     */
+    public static <Node> List<Node> shortestPath(final Node source, final Function<Node, List<Node>> children,
+            final Function<Node, Boolean> isTarget, final int maxDepth) {
+        /* The parent of each discovered node; its keys are also the set of discovered nodes. */
+        final Map<Node, Node> parents = new HashMap<>();
+        Queue<Node> toVisit = Queue.newInstance();
+        parents.put(source, null);
+        toVisit.enqueue(source);
+
+        for (int depth = 0; toVisit.size() > 0; ++depth) {
+            /* Each pass of this loop visits every node of one depth, and enqueues those of the next. */
+            for (int remaining = toVisit.size(); remaining > 0; --remaining) {
+                final Node node = toVisit.dequeue();
+                if (isTarget.apply(node)) {
+                    final List<Node> path = new ArrayList<>(depth + 1);
+                    for (Node step = node; step != null; step = parents.get(step)) {
+                        path.add(step);
+                    }
+                    Collections.reverse(path);
+                    return path;
+                }
+                if (depth == maxDepth) {
+                    continue;
+                }
+                for (final Node child : children.apply(node)) {
+                    if (!parents.containsKey(child)) {
+                        parents.put(child, node);
+                        toVisit.enqueue(child);
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Searches the graph for a shortest path from the source to a target, as shortestPath with a maxDepth does, but
+     * with no limit on the length of the path.
+     *
+     * @param source The node to begin searching from.
+     * @param children A Function which given a Node will return a List of Nodes that are its neighbors in the graph.
+     * @param isTarget A Function which will return true if the Node given as an argument is the target in the search.
+     * @param <Node> The data-type of which the search graph consists.
+     * @return The nodes of a shortest path from the source to the first target found, both included, or null if none
+     *         are encountered.
+     */
+    public static <Node> List<Node> shortestPath(final Node source, final Function<Node, List<Node>> children,
+            final Function<Node, Boolean> isTarget) {
+        return shortestPath(source, children, isTarget, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Searches the graph, as search does, considering only the vertices at most maxDepth edges from the source, and
+     * records the distance of each vertex it discovers from the source, and the vertex from which it was discovered.
+     * The search stops at the first target; the vertices it had not yet discovered by then are left unreached.
+     *
+     * @param graph The graph to search.
+     * @param source The vertex to begin searching from.
+     * @param isTarget A predicate which will return true if the given vertex is the target in the search.
+     * @param maxDepth The most edges a path may have.
+     * @return The tree of shortest paths from the source discovered by the search, and the target it found, if any.
+     */
+    public static Tree searchTree(final CsrGraph graph, final int source, final IntPredicate isTarget,
+            final int maxDepth) {
+        final int[] offsets = graph.offsets;
+        final int[] targets = graph.targets;
+        final int n = graph.vertexCount();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("The source is not a vertex of the graph: " + source);
+        }
+        /* A vertex is discovered once its distance is set, so the distances double as the visited set. */
+        final int[] distances = new int[n];
+        final int[] parents = new int[n];
+        Arrays.fill(distances, -1);
+        final int[] toVisit = new int[n];
+        int head = 0;
+        int tail = 0;
+        distances[source] = 0;
+        parents[source] = -1;
+        toVisit[tail++] = source;
+
+        while (head < tail) {
+            final int vertex = toVisit[head++];
+            if (isTarget.test(vertex)) {
+                return new Tree(source, vertex, distances, parents);
+            }
+            final int depth = distances[vertex];
+            if (depth == maxDepth) {
+                continue;
+            }
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; ++e) {
+                final int child = targets[e];
+                if (distances[child] < 0) {
+                    distances[child] = depth + 1;
+                    parents[child] = vertex;
+                    toVisit[tail++] = child;
+                }
+            }
+        }
+
+        return new Tree(source, -1, distances, parents);
+    }
+
+    /**
+     * Searches the graph, as searchTree with a maxDepth does, but with no limit on the length of a path.
+     *
+     * @param graph The graph to search.
+     * @param source The vertex to begin searching from.
+     * @param isTarget A predicate which will return true if the given vertex is the target in the search.
+     * @return The tree of shortest paths from the source discovered by the search, and the target it found, if any.
+     */
+    public static Tree searchTree(final CsrGraph graph, final int source, final IntPredicate isTarget) {
+        return searchTree(graph, source, isTarget, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The shortest paths from a source discovered by a Breadth-First Search of a CsrGraph, held as the distance of
+     * each vertex from the source, and the vertex before it on a shortest path.
+     */
+    public static final class Tree {
+        private final int source;
+        private final int target;
+        private final int[] distances;
+        private final int[] parents;
+
+        private Tree(final int source, final int target, final int[] distances, final int[] parents) {
+            this.source = source;
+            this.target = target;
+            this.distances = distances;
+            this.parents = parents;
+        }
+
+        /**
+         * @return The vertex from which the search began.
+         */
+        public int source() {
+            return source;
+        }
+
+        /**
+         * @return The target found by the search, or -1 if it found none.
+         */
+        public int target() {
+            return target;
+        }
+
+        /**
+         * @param vertex A vertex of the graph.
+         * @return True if the search discovered the vertex.
+         */
+        public boolean reached(final int vertex) {
+            return distances[vertex] >= 0;
+        }
+
+        /**
+         * @param vertex A vertex of the graph.
+         * @return The number of edges on a shortest path from the source to the vertex, or -1 if it was not reached.
+         */
+        public int distance(final int vertex) {
+            return distances[vertex];
+        }
+
+        /**
+         * @param vertex A vertex of the graph.
+         * @return The vertex before the given one on a shortest path to it, or -1 for the source or unreached vertices.
+         */
+        public int parent(final int vertex) {
+            return distances[vertex] > 0 ? parents[vertex] : -1;
+        }
+
+        /**
+         * @param vertex A vertex of the graph.
+         * @return The vertices of a shortest path from the source to the vertex, both included, or null if the vertex
+         *         was not reached.
+         */
+        public int[] pathTo(final int vertex) {
+            if (distances[vertex] < 0) {
+                return null;
+            }
+            final int[] path = new int[distances[vertex] + 1];
+            for (int i = path.length - 1, step = vertex; i >= 0; --i, step = parents[step]) {
+                path[i] = step;
+            }
+            return path;
+        }
+
+        /**
+         * @return The vertices of a shortest path from the source to the target, both included, or null if the search
+         *         found no target.
+         */
+        public int[] path() {
+            return target < 0 ? null : pathTo(target);
+        }
+    }
 }
@@ -0,0 +1,234 @@
+package algs.search;
+
+import java.util.Arrays;
+
+/**
+ * An immutable directed graph of the vertices [0, n), in compressed sparse row form: the edges out of every vertex are
+ * stored together, in order of vertex, so the edges out of vertex v are the indexes [firstEdge(v), firstEdge(v + 1))
+ * of one array of targets, and of one array of weights if the graph has any. A search iterates over these indexes,
+ * touching only primitive arrays, with no allocation and no boxing per vertex or edge:
+ *
+ * for (int e = graph.firstEdge(v); e < graph.firstEdge(v + 1); ++e) { final int w = graph.target(e); ... }
+ *
+ * Graphs are made by a Builder, from a list of edges in any order; the edges out of each vertex keep the order in which
+ * they were added.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public final class CsrGraph {
+    /* The index in targets of the first edge out of each vertex, followed by the number of edges. */
+    final int[] offsets;
+    final int[] targets;
+    /* The weight of each edge, or null if the graph is unweighted. */
+    final double[] weights;
+
+    private CsrGraph(final int[] offsets, final int[] targets, final double[] weights) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Returns a new Builder of a graph of the vertices [0, vertexCount).
+     *
+     * @param vertexCount The number of vertices of the graph.
+     * @return A Builder with no edges.
+     */
+    public static Builder builder(final int vertexCount) {
+        return new Builder(vertexCount);
+    }
+
+    /**
+     * @return The number of vertices of the graph.
+     */
+    public int vertexCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return The number of edges of the graph; an undirected edge counts as two, one in each direction.
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @return True if the edges of the graph have weights.
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Returns the index of the first edge out of the given vertex; the edges out of it end at the first edge of the
+     * next vertex, and firstEdge(vertexCount()) is edgeCount().
+     *
+     * @param vertex A vertex of the graph, or vertexCount().
+     * @return The index of the first edge out of the vertex.
+     */
+    public int firstEdge(final int vertex) {
+        return offsets[vertex];
+    }
+
+    /**
+     * @param vertex A vertex of the graph.
+     * @return The number of edges out of the vertex.
+     */
+    public int degree(final int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * @param edge The index of an edge of the graph.
+     * @return The vertex to which the edge leads.
+     */
+    public int target(final int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * @param edge The index of an edge of the graph.
+     * @return The weight of the edge, or 1 if the graph is unweighted.
+     */
+    public double weight(final int edge) {
+        return weights == null ? 1 : weights[edge];
+    }
+
+    /**
+     * Returns the graph with every edge reversed, such that the edges out of each vertex of the transpose are the edges
+     * into it in this graph; a bottom-up search needs these. The transpose of an undirected graph is an equal graph.
+     *
+     * @return The transpose of this graph.
+     */
+    public CsrGraph transpose() {
+        final int n = vertexCount();
+        final int[] from = new int[targets.length];
+        for (int v = 0; v < n; ++v) {
+            Arrays.fill(from, offsets[v], offsets[v + 1], v);
+        }
+        return group(n, targets, from, weights, targets.length);
+    }
+
+    /**
+     * Arranges the edges from[i] to to[i], for i in [0, m), into compressed sparse row form by a stable counting sort
+     * on their sources.
+     */
+    private static CsrGraph group(final int n, final int[] from, final int[] to, final double[] weights, final int m) {
+        final int[] offsets = new int[n + 1];
+        for (int i = 0; i < m; ++i) {
+            ++offsets[from[i] + 1];
+        }
+        for (int v = 0; v < n; ++v) {
+            offsets[v + 1] += offsets[v];
+        }
+        final int[] next = Arrays.copyOf(offsets, n);
+        final int[] targets = new int[m];
+        final double[] sortedWeights = weights == null ? null : new double[m];
+        for (int i = 0; i < m; ++i) {
+            final int edge = next[from[i]]++;
+            targets[edge] = to[i];
+            if (weights != null) {
+                sortedWeights[edge] = weights[i];
+            }
+        }
+        return new CsrGraph(offsets, targets, sortedWeights);
+    }
+
+    /**
+     * Gathers the edges of a graph, in any order, then builds it. A graph is weighted if any of its edges was given a
+     * weight; edges added without one then weigh 1.
+     */
+    public static final class Builder {
+        private final int vertexCount;
+        private int[] from = new int[16];
+        private int[] to = new int[16];
+        private double[] weights;
+        private int edgeCount;
+
+        private Builder(final int vertexCount) {
+            if (vertexCount < 0) {
+                throw new IllegalArgumentException("A graph cannot have a negative number of vertices: " + vertexCount);
+            }
+            this.vertexCount = vertexCount;
+        }
+
+        /**
+         * Adds an edge from one vertex to another.
+         *
+         * @param source The vertex from which the edge leads.
+         * @param target The vertex to which the edge leads.
+         * @return This Builder.
+         */
+        public Builder addEdge(final int source, final int target) {
+            return add(source, target, 1, false);
+        }
+
+        /**
+         * Adds a weighted edge from one vertex to another, making the graph weighted.
+         *
+         * @param source The vertex from which the edge leads.
+         * @param target The vertex to which the edge leads.
+         * @param weight The weight of the edge.
+         * @return This Builder.
+         */
+        public Builder addEdge(final int source, final int target, final double weight) {
+            return add(source, target, weight, true);
+        }
+
+        private Builder add(final int source, final int target, final double weight, final boolean weighted) {
+            if (source < 0 || source >= vertexCount || target < 0 || target >= vertexCount) {
+                throw new IllegalArgumentException("Both ends of an edge must be vertices: " + source + ", " + target);
+            }
+            if (edgeCount == from.length) {
+                from = Arrays.copyOf(from, 2 * edgeCount);
+                to = Arrays.copyOf(to, 2 * edgeCount);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, 2 * edgeCount);
+                }
+            }
+            if (weighted && weights == null) {
+                weights = new double[from.length];
+                Arrays.fill(weights, 0, edgeCount, 1);
+            }
+            from[edgeCount] = source;
+            to[edgeCount] = target;
+            if (weights != null) {
+                weights[edgeCount] = weight;
+            }
+            ++edgeCount;
+            return this;
+        }
+
+        /**
+         * Adds an edge in each direction between two vertices.
+         *
+         * @param one One end of the edge.
+         * @param other The other end of the edge.
+         * @return This Builder.
+         */
+        public Builder addUndirectedEdge(final int one, final int other) {
+            return addEdge(one, other).addEdge(other, one);
+        }
+
+        /**
+         * Adds a weighted edge in each direction between two vertices, making the graph weighted.
+         *
+         * @param one One end of the edge.
+         * @param other The other end of the edge.
+         * @param weight The weight of the edge.
+         * @return This Builder.
+         */
+        public Builder addUndirectedEdge(final int one, final int other, final double weight) {
+            return addEdge(one, other, weight).addEdge(other, one, weight);
+        }
+
+        /**
+         * Builds the graph of the edges added so far; the Builder may go on to build more graphs.
+         *
+         * @return The graph.
+         */
+        public CsrGraph build() {
+            return group(vertexCount, from, to, weights, edgeCount);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package algs.search;
+
+import algs.datastructures.Stack;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class DepthFirstSearch {
+
+    /** A Depth-First Search traverses a graph by following the first unvisited neighbor of each node as far as it leads,
+     * before returning to consider the next neighbor of any node along the way.
+     * The graph is accessed entirely through the children and isTarget functions, as in BreadthFirstSearch. Nodes are
+     * considered in the order a recursive search would consider them, but the nodes along the way are kept on a Stack
+     * rather than the call stack, so paths of any length can be followed.
+     *
+     * @param source The node to begin searching from.
+     * @param children A Function which given a Node will return a List of Nodes that are its neighbors in the graph.
+     * @param isTarget A Function which will return true if the Node given as an argument is the target in the search.
+     * @param <Node> The data-type of which the search graph consists.
+     * @return Either the first Node in the graph which makes isTarget return true, or null if none are encountered.
+     */
+    public static <Node> Node search(Node source, Function<Node, List<Node>> children, Function<Node, Boolean> isTarget) {
+        Set<Node> visited = new HashSet<>();
+        Stack<Node> toVisit = Stack.newInstance();
+        toVisit.push(source);
+
+        while (toVisit.size() > 0) {
+            final Node node = toVisit.pop();
+            /* A node may be pushed by several others before it is visited; only the first pop of it counts. */
+            if (!visited.add(node)) {
+                continue;
+            }
+            if (isTarget.apply(node)) {
+                return node;
+            }
+            final List<Node> neighbors = children.apply(node);
+            /* Push the children last to first, so that the first child is the first popped. */
+            for (final ListIterator<Node> i = neighbors.listIterator(neighbors.size()); i.hasPrevious(); ) {
+                final Node child = i.previous();
+                if (!visited.contains(child)) {
+                    toVisit.push(child);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Searches the graph, as search does, without allocating anything per vertex or edge: the visited vertices are
+     * marked in a bitmap of one bit per vertex, and the path from the source is kept as an array of vertices, beside
+     * an array of the next edge to follow out of each of them.
+     *
+     * @param graph The graph to search.
+     * @param source The vertex to begin searching from.
+     * @param isTarget A predicate which will return true if the given vertex is the target in the search.
+     * @return Either the first vertex in the graph which makes isTarget return true, or -1 if none are encountered.
+     */
+    public static int search(final CsrGraph graph, final int source, final IntPredicate isTarget) {
+        final int[] offsets = graph.offsets;
+        final int[] targets = graph.targets;
+        final int n = graph.vertexCount();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("The source is not a vertex of the graph: " + source);
+        }
+        if (isTarget.test(source)) {
+            return source;
+        }
+        final long[] visited = new long[(n + 63) >>> 6];
+        final int[] path = new int[n];
+        final int[] nextEdge = new int[n];
+        int depth = 0;
+        visited[source >>> 6] |= 1L << source;
+        path[0] = source;
+        nextEdge[0] = offsets[source];
+
+        while (depth >= 0) {
+            final int vertex = path[depth];
+            if (nextEdge[depth] == offsets[vertex + 1]) {
+                /* Every edge out of this vertex has been followed, so return to the one before it. */
+                --depth;
+                continue;
+            }
+            final int child = targets[nextEdge[depth]++];
+            final long bit = 1L << child;
+            if ((visited[child >>> 6] & bit) == 0) {
+                visited[child >>> 6] |= bit;
+                if (isTarget.test(child)) {
+                    return child;
+                }
+                ++depth;
+                path[depth] = child;
+                nextEdge[depth] = offsets[child];
+            }
+        }
+
+        return -1;
+    }
+}
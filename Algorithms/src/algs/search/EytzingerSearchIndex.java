@@ -0,0 +1,100 @@
+package algs.search;
+
+/**
+ * Implements a static search index which holds the keys of a sorted array of ints in Eytzinger order: the order in
+ * which a breadth-first traversal visits the implicit binary search tree of the array, so that the children of the key
+ * at index k are at 2k and 2k + 1, as in a binary heap.
+ *
+ * A binary search of the sorted array touches a different cache line on almost every probe once the array is larger
+ * than the cache, and probes a handful of the same few elements near the top of the tree on every search, spread over
+ * as many cache lines. In Eytzinger order, the top levels of the tree are packed together at the front of the array,
+ * where they stay cached, and the 16 descendants four levels below a key share one cache line. The descent does not
+ * branch on the comparisons; the index of the lower bound is recovered from the final position of the descent, by
+ * cancelling the trailing right turns, then the last left turn.
+ *
+ * The index has the following performance characteristics:
+ *
+ * - Worst case number of comparisons: O(lg N)
+ * - Construction time: O(N)
+ *
+ * - Guaranteed extra space usage: O(N) for the keys, and the index in the sorted array of each.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class EytzingerSearchIndex implements IntSearchIndex {
+    /* The keys, from index 1, in Eytzinger order, and the index in the sorted array of each. */
+    private final int[] keys;
+    private final int[] ranks;
+    private final int n;
+
+    /**
+     * Builds the index of the given sorted array, which is not retained.
+     *
+     * @param sorted The keys to index, in ascending order.
+     */
+    public EytzingerSearchIndex(final int[] sorted) {
+        for (int i = 1; i < sorted.length; ++i) {
+            if (sorted[i - 1] > sorted[i]) {
+                throw new IllegalArgumentException("The keys must be sorted, but " + sorted[i - 1] + " precedes "
+                        + sorted[i] + " at index " + i);
+            }
+        }
+        this.n = sorted.length;
+        this.keys = new int[n + 1];
+        this.ranks = new int[n + 1];
+        build(sorted, 0, 1);
+    }
+
+    /**
+     * Places the keys of the subtree rooted at index k, by an in-order traversal of it, taking its keys from the sorted
+     * array starting at index i.
+     *
+     * @return The index of the first key of the sorted array after those of the subtree.
+     */
+    private int build(final int[] sorted, int i, final int k) {
+        if (k <= n) {
+            i = build(sorted, i, 2 * k);
+            keys[k] = sorted[i];
+            ranks[k] = i++;
+            i = build(sorted, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    /**
+     * Descends the tree to the leaf where target would be inserted, then climbs back to the last key at which the
+     * descent turned left, which is the first key not less than target.
+     *
+     * @param target The value to search for.
+     * @return The index in keys of the first key not less than target, or 0 if there is none.
+     */
+    private int descend(final int target) {
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (keys[k] < target ? 1 : 0);
+        }
+        /* Every right turn appended a 1 to k, and every left turn a 0: drop the trailing right turns, and the last left
+            turn after them. */
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public int lowerBound(final int target) {
+        final int k = descend(target);
+        return k == 0 ? n : ranks[k];
+    }
+
+    @Override
+    public int find(final int target) {
+        final int k = descend(target);
+        if (k == 0) {
+            return -(n + 1);
+        }
+        return keys[k] == target ? ranks[k] : -(ranks[k] + 1);
+    }
+}
@@ -0,0 +1,34 @@
+package algs.search;
+
+/**
+ * Provides a generic interface for a static, read-only index over a sorted array of ints, which answers the same
+ * searches as BinarySearch does over the array itself, but may hold the keys in a layout faster to search.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public interface IntSearchIndex {
+
+    /**
+     * Determines the number of keys in the index.
+     *
+     * @return The length of the sorted array the index was built from.
+     */
+    int size();
+
+    /**
+     * Finds the first index of the sorted array whose key is not less than target, or size() if there is none.
+     *
+     * @param target The value to search for.
+     * @return The lowest index i such that every key at [0, i) of the sorted array is less than target.
+     */
+    int lowerBound(final int target);
+
+    /**
+     * Finds target in the sorted array, with the same contract as BinarySearch.find of an int array.
+     *
+     * @param target The value to search for.
+     * @return The first index of target in the sorted array, or the negative of 1 + the index in which it would
+     *          appear.
+     */
+    int find(final int target);
+}
@@ -0,0 +1,422 @@
+package algs.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Implements a level-synchronous, parallel Breadth-First Search: all the nodes at one distance from the source (the
+ * frontier) are expanded at once, split among tasks in a ForkJoinPool, and the next frontier is complete before any of
+ * it is expanded. So, as in BreadthFirstSearch, no node is considered before every node nearer the source.
+ *
+ * Graphs given through functions, as BreadthFirstSearch takes them, are searched with a concurrent set of the visited
+ * nodes, into which each node is claimed by whichever task discovers it first.
+ *
+ * Graphs given in compressed sparse row form, as int arrays, are searched with a bitmap of the visited vertices, and
+ * switch direction by the size of the frontier (Beamer, Asanovic and Patterson): while the frontier is small, each of
+ * its vertices claims its unvisited neighbors (top-down); once the edges out of the frontier outnumber a fraction of
+ * the edges left unexplored, each unvisited vertex instead looks for any neighbor in the frontier, and stops at the
+ * first it finds (bottom-up), which checks far fewer edges through the middle levels of a graph of low diameter.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class ParallelBreadthFirstSearch {
+    /* Below about this many nodes of a frontier, or words of a bitmap, per task, forking costs more than it saves. */
+    static final int GRAIN = 1 << 10;
+    /* A search turns bottom-up once the edges out of the frontier exceed 1 / ALPHA of the unexplored edges. */
+    static final int ALPHA = 14;
+    /* A search turns top-down again once a shrinking frontier holds under 1 / BETA of the vertices. */
+    static final int BETA = 24;
+
+    /**
+     * Searches the graph, as BreadthFirstSearch.search does, by expanding each level in parallel in the common
+     * ForkJoinPool. Of the targets nearest the source, the one first in the order of its level is returned; the order
+     * of a level depends on which task discovers each node first, so it may differ between searches.
+     *
+     * @param source The node to begin searching from.
+     * @param children A Function which given a Node will return a List of Nodes that are its neighbors in the graph;
+     *                 it is applied concurrently, so it must be thread-safe.
+     * @param isTarget A Function which will return true if the Node given as an argument is the target in the search;
+     *                 it is applied concurrently, so it must be thread-safe.
+     * @param <Node> The data-type of which the search graph consists; it must implement equals and hashCode.
+     * @return Either a Node nearest the source which makes isTarget return true, or null if none are encountered.
+     */
+    public static <Node> Node search(final Node source, final Function<Node, List<Node>> children,
+            final Function<Node, Boolean> isTarget) {
+        return search(ForkJoinPool.commonPool(), source, children, isTarget);
+    }
+
+    /**
+     * Searches the graph, as search does, in the given pool.
+     *
+     * @param pool The pool in which to expand each level.
+     * @param source The node to begin searching from.
+     * @param children A thread-safe Function which given a Node will return a List of its neighbors.
+     * @param isTarget A thread-safe Function which will return true if the given Node is the target in the search.
+     * @param <Node> The data-type of which the search graph consists; it must implement equals and hashCode.
+     * @return Either a Node nearest the source which makes isTarget return true, or null if none are encountered.
+     */
+    @SuppressWarnings("unchecked")
+    public static <Node> Node search(final ForkJoinPool pool, final Node source,
+            final Function<Node, List<Node>> children, final Function<Node, Boolean> isTarget) {
+        final Set<Node> visited = ConcurrentHashMap.newKeySet();
+        visited.add(source);
+        List<Node> frontier = Collections.singletonList(source);
+
+        while (!frontier.isEmpty()) {
+            final List<Node> level = frontier;
+            final int chunks = chunks(pool, level.size());
+            final List<Node>[] discovered = (List<Node>[]) new List<?>[chunks];
+            final int[] firstTarget = new int[chunks];
+            inParallel(pool, level.size(), chunks, (chunk, from, to) -> {
+                final List<Node> found = new ArrayList<>();
+                int target = -1;
+                for (int i = from; i < to && target < 0; ++i) {
+                    final Node node = level.get(i);
+                    if (isTarget.apply(node)) {
+                        target = i;
+                    } else {
+                        for (final Node child : children.apply(node)) {
+                            /* Only the first task to discover a node adds it to the next level. */
+                            if (visited.add(child)) {
+                                found.add(child);
+                            }
+                        }
+                    }
+                }
+                discovered[chunk] = found;
+                firstTarget[chunk] = target;
+            });
+
+            int length = 0;
+            for (int chunk = 0; chunk < chunks; ++chunk) {
+                if (firstTarget[chunk] >= 0) {
+                    return level.get(firstTarget[chunk]);
+                }
+                length += discovered[chunk].size();
+            }
+            frontier = new ArrayList<>(length);
+            for (final List<Node> found : discovered) {
+                frontier.addAll(found);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Searches an undirected graph in compressed sparse row form, in which every edge is stored in both directions:
+     * the neighbors of vertex v are targets[offsets[v], offsets[v + 1]). Each level is expanded in parallel in the
+     * common ForkJoinPool, top-down or bottom-up by the size of the frontier.
+     *
+     * @param source The vertex to begin searching from.
+     * @param offsets The start of each vertex's neighbors in targets, followed by targets.length.
+     * @param targets The neighbors of every vertex, in order of vertex.
+     * @param isTarget A thread-safe predicate which will return true if the given vertex is the target in the search.
+     * @return The least of the target vertices nearest the source, or -1 if none is reachable.
+     */
+    public static int search(final int source, final int[] offsets, final int[] targets, final IntPredicate isTarget) {
+        return search(ForkJoinPool.commonPool(), source, offsets, targets, offsets, targets, isTarget);
+    }
+
+    /**
+     * Searches a directed graph in compressed sparse row form, as the search of an undirected graph does. A bottom-up
+     * level needs the edges into each vertex, so these are given in the same form, as the graph's transpose: the
+     * vertices with an edge to vertex v are sources[inOffsets[v], inOffsets[v + 1]).
+     *
+     * @param pool The pool in which to expand each level.
+     * @param source The vertex to begin searching from.
+     * @param offsets The start of each vertex's out-neighbors in targets, followed by targets.length.
+     * @param targets The out-neighbors of every vertex, in order of vertex.
+     * @param inOffsets The start of each vertex's in-neighbors in sources, followed by sources.length.
+     * @param sources The in-neighbors of every vertex, in order of vertex.
+     * @param isTarget A thread-safe predicate which will return true if the given vertex is the target in the search.
+     * @return The least of the target vertices nearest the source, or -1 if none is reachable.
+     */
+    public static int search(final ForkJoinPool pool, final int source, final int[] offsets, final int[] targets,
+            final int[] inOffsets, final int[] sources, final IntPredicate isTarget) {
+        if (offsets.length == 0 || inOffsets.length != offsets.length) {
+            throw new IllegalArgumentException("The offsets must hold one more entry than the graph has vertices.");
+        }
+        if (source < 0 || source >= offsets.length - 1) {
+            throw new IllegalArgumentException("The source is not a vertex of the graph: " + source);
+        }
+        return new DirectionOptimizingSearch(pool, offsets, targets, inOffsets, sources, isTarget).search(source);
+    }
+
+    /**
+     * Searches the graph, as the search of arrays in compressed sparse row form does, in the common ForkJoinPool.
+     *
+     * @param graph The graph to search.
+     * @param transpose The transpose of the graph, which may be the graph itself if it is undirected.
+     * @param source The vertex to begin searching from.
+     * @param isTarget A thread-safe predicate which will return true if the given vertex is the target in the search.
+     * @return The least of the target vertices nearest the source, or -1 if none is reachable.
+     */
+    public static int search(final CsrGraph graph, final CsrGraph transpose, final int source,
+            final IntPredicate isTarget) {
+        return search(ForkJoinPool.commonPool(), source, graph.offsets, graph.targets, transpose.offsets,
+                transpose.targets, isTarget);
+    }
+
+    /**
+     * The state of one search of a graph in compressed sparse row form.
+     */
+    private static final class DirectionOptimizingSearch {
+        private final ForkJoinPool pool;
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] inOffsets;
+        private final int[] sources;
+        private final IntPredicate isTarget;
+        private final int n;
+        private final AtomicLongArray visited;
+        /* The least target discovered so far in the current level. */
+        private final AtomicInteger target = new AtomicInteger(Integer.MAX_VALUE);
+        /* The number of vertices, and the number of edges out of them, of the frontier made by the last level. */
+        private int frontierSize;
+        private long frontierEdges;
+
+        DirectionOptimizingSearch(final ForkJoinPool pool, final int[] offsets, final int[] targets,
+                final int[] inOffsets, final int[] sources, final IntPredicate isTarget) {
+            this.pool = pool;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.inOffsets = inOffsets;
+            this.sources = sources;
+            this.isTarget = isTarget;
+            this.n = offsets.length - 1;
+            this.visited = new AtomicLongArray((n + 63) >>> 6);
+        }
+
+        int search(final int source) {
+            if (isTarget.test(source)) {
+                return source;
+            }
+            claim(source);
+            int[] queue = { source };
+            long[] bitmap = null;
+            boolean bottomUp = false;
+            frontierSize = 1;
+            frontierEdges = degree(source);
+            long unexplored = targets.length - frontierEdges;
+
+            while (frontierSize > 0) {
+                final int previousSize = frontierSize;
+                if (!bottomUp && frontierEdges > unexplored / ALPHA) {
+                    bitmap = toBitmap(queue);
+                    bottomUp = true;
+                }
+                if (bottomUp) {
+                    bitmap = bottomUp(bitmap);
+                    if (frontierSize < previousSize && frontierSize < n / BETA) {
+                        queue = toQueue(bitmap);
+                        bottomUp = false;
+                    }
+                } else {
+                    queue = topDown(queue);
+                }
+                unexplored -= frontierEdges;
+                if (target.get() != Integer.MAX_VALUE) {
+                    return target.get();
+                }
+            }
+            return -1;
+        }
+
+        private int degree(final int vertex) {
+            return offsets[vertex + 1] - offsets[vertex];
+        }
+
+        /**
+         * Marks the vertex visited, returning true only for the first of any concurrent claims of it.
+         */
+        private boolean claim(final int vertex) {
+            final int word = vertex >>> 6;
+            final long bit = 1L << vertex;
+            long bits = visited.get(word);
+            while ((bits & bit) == 0) {
+                if (visited.compareAndSet(word, bits, bits | bit)) {
+                    return true;
+                }
+                bits = visited.get(word);
+            }
+            return false;
+        }
+
+        /**
+         * Notes that the vertex has been discovered, so that the least target of the level is returned.
+         */
+        private void discover(final int vertex) {
+            if (isTarget.test(vertex)) {
+                target.accumulateAndGet(vertex, Math::min);
+            }
+        }
+
+        /**
+         * Expands the frontier by having each of its vertices claim its unvisited neighbors.
+         */
+        private int[] topDown(final int[] frontier) {
+            final int chunks = chunks(pool, frontier.length);
+            final int[][] discovered = new int[chunks][];
+            final long[] edges = new long[chunks];
+            inParallel(pool, frontier.length, chunks, (chunk, from, to) -> {
+                int[] found = new int[16];
+                int count = 0;
+                long degrees = 0;
+                for (int i = from; i < to; ++i) {
+                    final int vertex = frontier[i];
+                    for (int e = offsets[vertex]; e < offsets[vertex + 1]; ++e) {
+                        final int child = targets[e];
+                        if (claim(child)) {
+                            if (count == found.length) {
+                                found = Arrays.copyOf(found, 2 * count);
+                            }
+                            found[count++] = child;
+                            degrees += degree(child);
+                            discover(child);
+                        }
+                    }
+                }
+                discovered[chunk] = Arrays.copyOf(found, count);
+                edges[chunk] = degrees;
+            });
+
+            int size = 0;
+            frontierEdges = 0;
+            for (int chunk = 0; chunk < chunks; ++chunk) {
+                size += discovered[chunk].length;
+                frontierEdges += edges[chunk];
+            }
+            final int[] next = new int[size];
+            size = 0;
+            for (final int[] found : discovered) {
+                System.arraycopy(found, 0, next, size, found.length);
+                size += found.length;
+            }
+            frontierSize = size;
+            return next;
+        }
+
+        /**
+         * Expands the frontier by having each unvisited vertex look for a neighbor in it. Each task owns whole words of
+         * the bitmaps, so it marks its vertices visited without contention.
+         */
+        private long[] bottomUp(final long[] frontier) {
+            final long[] next = new long[frontier.length];
+            final int chunks = chunks(pool, frontier.length);
+            final int[] sizes = new int[chunks];
+            final long[] edges = new long[chunks];
+            inParallel(pool, frontier.length, chunks, (chunk, from, to) -> {
+                int size = 0;
+                long degrees = 0;
+                for (int word = from; word < to; ++word) {
+                    final long seen = visited.get(word);
+                    long unseen = ~seen & (word == frontier.length - 1 ? -1L >>> -(n - (word << 6)) : -1L);
+                    long found = 0;
+                    while (unseen != 0) {
+                        final long bit = unseen & -unseen;
+                        unseen ^= bit;
+                        final int vertex = (word << 6) + Long.numberOfTrailingZeros(bit);
+                        for (int e = inOffsets[vertex]; e < inOffsets[vertex + 1]; ++e) {
+                            final int parent = sources[e];
+                            if ((frontier[parent >>> 6] & (1L << parent)) != 0) {
+                                found |= bit;
+                                ++size;
+                                degrees += degree(vertex);
+                                discover(vertex);
+                                break;
+                            }
+                        }
+                    }
+                    if (found != 0) {
+                        visited.set(word, seen | found);
+                        next[word] = found;
+                    }
+                }
+                sizes[chunk] = size;
+                edges[chunk] = degrees;
+            });
+
+            frontierSize = 0;
+            frontierEdges = 0;
+            for (int chunk = 0; chunk < chunks; ++chunk) {
+                frontierSize += sizes[chunk];
+                frontierEdges += edges[chunk];
+            }
+            return next;
+        }
+
+        private long[] toBitmap(final int[] queue) {
+            final long[] bitmap = new long[visited.length()];
+            for (final int vertex : queue) {
+                bitmap[vertex >>> 6] |= 1L << vertex;
+            }
+            return bitmap;
+        }
+
+        private int[] toQueue(final long[] bitmap) {
+            final int[] queue = new int[frontierSize];
+            int size = 0;
+            for (int word = 0; word < bitmap.length; ++word) {
+                for (long bits = bitmap[word]; bits != 0; bits &= bits - 1) {
+                    queue[size++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                }
+            }
+            return queue;
+        }
+    }
+
+    /**
+     * The work of one task on the items at [from, to).
+     */
+    private interface Chunk {
+        void expand(final int chunk, final int from, final int to);
+    }
+
+    /**
+     * Determines how many tasks should share the given number of items: a few per thread of the pool, but none with
+     * fewer than about GRAIN items.
+     */
+    private static int chunks(final ForkJoinPool pool, final int length) {
+        return Math.max(1, Math.min(4 * pool.getParallelism(), length / GRAIN));
+    }
+
+    /**
+     * Splits the items [0, length) into the given number of chunks of about equal length, and runs them all in the
+     * pool, returning once every chunk is complete.
+     */
+    private static void inParallel(final ForkJoinPool pool, final int length, final int chunks, final Chunk work) {
+        if (chunks == 1) {
+            work.expand(0, 0, length);
+            return;
+        }
+        final List<RecursiveAction> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; ++c) {
+            final int chunk = c;
+            final int from = (int) ((long) length * c / chunks);
+            final int to = (int) ((long) length * (c + 1) / chunks);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    work.expand(chunk, from, to);
+                }
+            });
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+}
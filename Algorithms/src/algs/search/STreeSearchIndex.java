@@ -0,0 +1,125 @@
+package algs.search;
+
+/**
+ * Implements a static search index which holds the keys of a sorted array of ints in an S-tree: a static B-tree whose
+ * nodes each hold B = 16 keys, exactly one 64 byte cache line, and have B + 1 implicit children, the i-th child of node
+ * k being node k (B + 1) + i + 1.
+ *
+ * Below its cached top levels, a binary tree, in sorted or in Eytzinger order, loads a new cache line at nearly every
+ * level; an S-tree loads one per level of a tree of fan-out 17, which is six levels deep for 10M keys, rather than 24.
+ * Within a node, the keys less than the target are counted by a loop of 16 comparisons without branches, which the
+ * JIT may vectorize, and which gives the child to descend into. The last node is padded with Integer.MAX_VALUE, which
+ * is ranked after every key of the sorted array, so a real key of that value is still found first.
+ *
+ * The index has the following performance characteristics:
+ *
+ * - Worst case number of comparisons: O(B log_B N)
+ * - Worst case number of cache lines loaded: O(log_B N)
+ * - Construction time: O(N)
+ *
+ * - Guaranteed extra space usage: O(N) for the keys, and the index in the sorted array of each.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class STreeSearchIndex implements IntSearchIndex {
+    /* The number of keys per node. */
+    static final int B = 16;
+    /* The keys of node k at [k B, (k + 1) B), and the index in the sorted array of each; padding is ranked n. */
+    private final int[] keys;
+    private final int[] ranks;
+    private final int nodes;
+    private final int n;
+
+    /**
+     * Builds the index of the given sorted array, which is not retained.
+     *
+     * @param sorted The keys to index, in ascending order.
+     */
+    public STreeSearchIndex(final int[] sorted) {
+        for (int i = 1; i < sorted.length; ++i) {
+            if (sorted[i - 1] > sorted[i]) {
+                throw new IllegalArgumentException("The keys must be sorted, but " + sorted[i - 1] + " precedes "
+                        + sorted[i] + " at index " + i);
+            }
+        }
+        this.n = sorted.length;
+        this.nodes = (n + B - 1) / B;
+        this.keys = new int[nodes * B];
+        this.ranks = new int[nodes * B];
+        build(sorted, 0, 0);
+    }
+
+    /**
+     * Returns the node which is the i-th child, from 0 to B, of node k.
+     */
+    private static int child(final int k, final int i) {
+        return k * (B + 1) + i + 1;
+    }
+
+    /**
+     * Places the keys of the subtree rooted at node k, by an in-order traversal of it, taking its keys from the sorted
+     * array starting at index i, or padding once they run out.
+     *
+     * @return The index of the first key of the sorted array after those of the subtree.
+     */
+    private int build(final int[] sorted, int i, final int k) {
+        if (k < nodes) {
+            for (int j = 0; j < B; ++j) {
+                i = build(sorted, i, child(k, j));
+                if (i < n) {
+                    keys[k * B + j] = sorted[i];
+                    ranks[k * B + j] = i++;
+                } else {
+                    keys[k * B + j] = Integer.MAX_VALUE;
+                    ranks[k * B + j] = n;
+                }
+            }
+            i = build(sorted, i, child(k, B));
+        }
+        return i;
+    }
+
+    /**
+     * Descends the tree, remembering, at every node holding a key not less than target, the first such key.
+     *
+     * @param target The value to search for.
+     * @return The index in keys of the first key not less than target, or -1 if there is none.
+     */
+    private int descend(final int target) {
+        int result = -1;
+        int k = 0;
+        while (k < nodes) {
+            final int base = k * B;
+            int i = 0;
+            for (int j = 0; j < B; ++j) {
+                i += keys[base + j] < target ? 1 : 0;
+            }
+            if (i < B) {
+                result = base + i;
+            }
+            k = child(k, i);
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public int lowerBound(final int target) {
+        final int k = descend(target);
+        /* A padding key ranks n, as if there were none. */
+        return k < 0 ? n : ranks[k];
+    }
+
+    @Override
+    public int find(final int target) {
+        final int k = descend(target);
+        if (k < 0 || ranks[k] == n) {
+            return -(n + 1);
+        }
+        return keys[k] == target ? ranks[k] : -(ranks[k] + 1);
+    }
+}
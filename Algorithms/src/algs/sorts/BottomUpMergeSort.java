@@ -0,0 +1,183 @@
+package algs.sorts;
+
+import java.util.Arrays;
+
+/**
+ * Implements the bottom-up Merge Sort algorithm for an array of type T, where T implements the method .compareTo(T)
+ *
+ * Rather than recursively splitting the segment, this sorts short blocks with an Insertion Sort, then merges pairs of
+ * neighboring blocks of doubling width, until one block spans the whole segment. Each pass merges from the segment into
+ * a scratch array, or back, alternately, so no pass has to copy its input aside first; and two blocks which are already
+ * in order are copied rather than merged.
+ *
+ * The scratch array only needs to be as long as the sorted segment, and may be supplied by the caller, so that sorting
+ * many short segments need not allocate at all. Otherwise, each thread reuses a scratch array of its own, which is only
+ * retained between calls when it is at most MAX_RETAINED_SCRATCH_LENGTH long.
+ *
+ * Theoretically, the Merge Sort algorithm is a stable algorithm.
+ *
+ * The bottom-up Merge Sort algorithm has the following performance characteristics:
+ *
+ * - Worst case number of comparisons: O(N lg N)
+ * - Average case number of comparisons: O(N lg N)
+ * - Best case number of comparisons: O(N), for input which is already sorted.
+ *
+ * - Guaranteed extra space usage: O(N) for the scratch array, where N is the length of the sorted segment.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class BottomUpMergeSort<T extends Comparable<T>> implements Sort<T> {
+    /* The length of the blocks sorted by Insertion Sort, before the first merge pass. */
+    private static final int BLOCK_LENGTH = MergeSort.SORT_THRESHOLD + 1;
+    /* Scratch arrays longer than this are released after every sort, rather than held by the thread indefinitely. */
+    private static final int MAX_RETAINED_SCRATCH_LENGTH = 1 << 16;
+    private static final ThreadLocal<Comparable<?>[]> SCRATCH = new ThreadLocal<Comparable<?>[]>() {
+        @Override
+        protected Comparable<?>[] initialValue() {
+            return new Comparable<?>[BLOCK_LENGTH];
+        }
+    };
+    private final Sort<T> INSERTION_SORT;
+
+    /**
+     * Initializes the INSERTION_SORT used for the initial blocks of length 12, for better performance.
+     */
+    public BottomUpMergeSort() {
+        this.INSERTION_SORT = new InsertionSort<>();
+    }
+
+    /**
+     * Merges the two sorted blocks [low, mid], [mid + 1, high] of the source into the same positions of the
+     * destination, where the blocks begin at sourceOffset in the source, and at destinationOffset in the destination.
+     *
+     * @param source The array containing the sorted blocks to merge.
+     * @param sourceOffset The index in source of position 0.
+     * @param destination The array in which the merge should be placed.
+     * @param destinationOffset The index in destination of position 0.
+     * @param low The first position, inclusive, to be merged.
+     * @param mid The last position of the first block.
+     * @param high The last position, inclusive, to be merged.
+     */
+    private void merge(final T[] source, final int sourceOffset, final T[] destination, final int destinationOffset,
+            final int low, final int mid, final int high) {
+        /* If the blocks are already in order, they need only be copied. */
+        if (source[sourceOffset + mid].compareTo(source[sourceOffset + mid + 1]) <= 0) {
+            System.arraycopy(source, sourceOffset + low, destination, destinationOffset + low, high - low + 1);
+            return;
+        }
+
+        int i = sourceOffset + low;
+        int j = sourceOffset + mid + 1;
+        final int iEnd = sourceOffset + mid;
+        final int jEnd = sourceOffset + high;
+        int k = destinationOffset + low;
+        while (i <= iEnd && j <= jEnd) {
+            if (source[j].compareTo(source[i]) < 0) {
+                destination[k++] = source[j++];
+            } else {
+                destination[k++] = source[i++]; /* Prioritize left block to maintain stability */
+            }
+        }
+        /* At most one block has elements left, which are already in order. */
+        System.arraycopy(source, i, destination, k, iEnd - i + 1);
+        System.arraycopy(source, j, destination, k, jEnd - j + 1);
+    }
+
+    /**
+     * Sorts, using the bottom-up Merge Sort algorithm, the given array, data, on the inclusive interval [low, high],
+     * using the given scratch array, which must be at least as long as the interval, for merging. The contents of the
+     * scratch array are overwritten.
+     *
+     * @param data The array to be sorted
+     * @param scratch The array to merge into, of length at least high - low + 1
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    public void sort(final T[] data, final T[] scratch, final int low, final int high) {
+        final int length = high - low + 1;
+        if (scratch.length < length) {
+            throw new IllegalArgumentException("The scratch array must have length at least " + length + ", but has "
+                    + "length " + scratch.length);
+        }
+
+        /* Sort each block with Insertion Sort, which performs better on arrays of that size. */
+        for (int block = low; block <= high; block += BLOCK_LENGTH) {
+            INSERTION_SORT.sort(data, block, Math.min(block + BLOCK_LENGTH - 1, high));
+        }
+
+        /* Merge pairs of neighboring blocks, from the data into the scratch array and back, until the blocks span the
+            whole segment. Positions are relative to low in the data, and to 0 in the scratch array. */
+        T[] source = data;
+        int sourceOffset = low;
+        T[] destination = scratch;
+        int destinationOffset = 0;
+        for (int width = BLOCK_LENGTH; width < length; width *= 2) {
+            int position = 0;
+            for (; position + width < length; position += 2 * width) {
+                merge(source, sourceOffset, destination, destinationOffset,
+                        position, position + width - 1, Math.min(position + 2 * width - 1, length - 1));
+            }
+            /* A final block without a neighbor is carried over as it is. */
+            if (position < length) {
+                System.arraycopy(source, sourceOffset + position, destination, destinationOffset + position,
+                        length - position);
+            }
+
+            final T[] array = source;
+            source = destination;
+            destination = array;
+            final int offset = sourceOffset;
+            sourceOffset = destinationOffset;
+            destinationOffset = offset;
+        }
+
+        /* After an odd number of passes, the sorted segment is in the scratch array. */
+        if (source != data) {
+            System.arraycopy(source, sourceOffset, data, low, length);
+        }
+    }
+
+    /**
+     * Sorts, using the bottom-up Merge Sort algorithm, the given array, data, on the inclusive interval [low, high],
+     * using this thread's scratch array for merging.
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(final T[] data, final int low, final int high) {
+        final int length = high - low + 1;
+        /* The scratch array only ever holds elements of type T while this method runs, so it can stand in for a T[]. */
+        Comparable<?>[] scratch = SCRATCH.get();
+        if (scratch.length < length) {
+            scratch = new Comparable<?>[Math.max(length, Math.min(2 * scratch.length, MAX_RETAINED_SCRATCH_LENGTH))];
+            if (scratch.length <= MAX_RETAINED_SCRATCH_LENGTH) {
+                SCRATCH.set(scratch);
+            }
+        }
+        try {
+            sort(data, (T[]) scratch, low, high);
+        } finally {
+            /* Do not keep the sorted elements reachable from the thread. */
+            Arrays.fill(scratch, 0, Math.max(length, 0), null);
+        }
+    }
+
+    /**
+     * Sorts the entire array using the bottom-up Merge Sort algorithm.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final T[] data) {
+        sort(data, 0, data.length - 1);
+    }
+
+    public static void main(final String[] args) {
+        System.out.println("Testing Bottom-Up Merge Sort:");
+        Utilities.doublingTest(new BottomUpMergeSort<Integer>(), (int) Math.pow(2, 13), (int) Math.pow(2, 25));
+    }
+}
@@ -0,0 +1,52 @@
+package algs.sorts;
+
+/**
+ * Implements the Insertion Sort algorithm for an array of doubles; this is the primitive counterpart of InsertionSort.
+ *
+ * Theoretically, the Insertion Sort algorithm is an on-line, in-place, stable algorithm.
+ *
+ * The Insertion Sort algorithm has the following performance characteristics:
+ *
+ * - Worst case number of comparisons: O(N^2)
+ * - Average case number of comparisons: O(N^2)
+ * - Best case number of comparisons: O(N)
+ *
+ * - Guaranteed extra space usage: O(1).
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class DoubleInsertionSort implements DoubleSort {
+    /**
+     * Sorts, using the Insertion Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final double[] data, final int low, final int high) {
+        /* Iterate through every element of data, allowing
+            elements to "fall" to their proper position.*/
+        for (int i = low + 1; i < high + 1; ++i) {
+            final double datum = data[i]; // Record the current element
+            int j = i - 1;
+            /* As long as the element is less than its predecessor,
+                shift the predecessors right one index. */
+            for (; j >= low && Double.compare(datum, data[j]) < 0; --j) {
+                data[j + 1] = data[j];
+            } /* Place the current element in it's proper position. */
+            data[j + 1] = datum;
+        }
+    }
+
+    /**
+     * Sorts the entire given array using the Insertion Sort algorithm.
+     *
+     * @param data The array to sort.
+     */
+    @Override
+    public void sort(final double[] data) {
+        sort(data, 0, data.length - 1);
+    }
+}
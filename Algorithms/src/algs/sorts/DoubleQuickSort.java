@@ -0,0 +1,100 @@
+package algs.sorts;
+
+import static algs.sorts.Utilities.shuffle;
+import static algs.sorts.Utilities.swap;
+
+/**
+ * Implements the Quick Sort algorithm for an array of doubles; this is the primitive counterpart of QuickSort, and
+ * shares its cutoff for handing short segments to an Insertion Sort.
+ *
+ * Theoretically, the Quick Sort algorithm is an in-place algorithm.
+ *
+ * The Quick Sort algorithm has the following performance characteristics:
+ *
+ * - Worst case number of comparisons: O(N^2)
+ * - Average case number of comparisons: O(N lg N)
+ * - Best case number of comparisons: O(N lg N)
+ *
+ * - Guaranteed extra space usage: O(lg N) for the call-stack made by the recursive tree.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class DoubleQuickSort implements DoubleSort {
+    private final DoubleSort INSERTION_SORT;
+
+    public DoubleQuickSort() {
+        this.INSERTION_SORT = new DoubleInsertionSort();
+    }
+
+    /**
+     * Partitions the specified segment [low, high] of data such that there exists an index p so that
+     *   for every low <= k <= p < j <= high  data[k] <= data[j]
+     *
+     * @param data the data from which to partition the specified segment.
+     * @param low the first index to consider in partitioning this segment; the element at this index will become the
+     *            pivot element.
+     * @param high the last index to consider in partitioning this segment.
+     * @return the index p, from which every element to the left (inclusive) is less than or equal to every element to
+     *          the right.
+     */
+    @SuppressWarnings("empty-statement")
+    private int partition(final double[] data, final int low, final int high) {
+        final double pivot = data[low];
+        int i = low - 1;
+        int j = high + 1;
+        while (true) {
+            while (Double.compare(data[++i], pivot) < 0);
+            while (Double.compare(data[--j], pivot) > 0);
+            if (i >= j) {
+                return j;
+            }
+            swap(data, i, j);
+        }
+    }
+
+    /**
+     * Sorts, using the Quick Sort algorithm, the given array, data, on the inclusive interval [low, high]. This
+     * implementation uses an Insertion Sort for sub-arrays of length 11 or less.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    private void quickSort(final double[] data, final int low, final int high) {
+        if (high <= low + QuickSort.SORT_CUTOFF) {
+            INSERTION_SORT.sort(data, low, high);
+            return;
+        }
+
+        final int p = partition(data, low, high);
+        quickSort(data, low, p);
+        quickSort(data, p + 1, high);
+    }
+
+    /**
+     * Sorts the entire array using the Quick Sort algorithm, after first shuffling the array in O(N) time to reduce
+     * the probability of worst-case O(N^2) performance. This implementation uses an Insertion Sort for sub-arrays of
+     * length 11 or less.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final double[] data) {
+        shuffle(data); // Reduces probability of worst-case performance.
+        quickSort(data, 0, data.length - 1);
+    }
+
+    /**
+     * Sorts, using the Quick Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high. This implementation uses an Insertion Sort for sub-arrays of length
+     * 11 or less.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final double[] data, final int low, final int high) {
+        quickSort(data, low, high);
+    }
+}
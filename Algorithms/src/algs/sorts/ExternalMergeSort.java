@@ -0,0 +1,427 @@
+package algs.sorts;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Implements the external Merge Sort algorithm for a sequence of records of type T, where T implements the method
+ * .compareTo(T), which may be far too many to hold in memory at once.
+ *
+ * The records are read in chunks of at most chunkLength records, each of which is sorted in memory by the given Sort,
+ * then spilled to a temporary file as a sorted run. The runs are then merged, maxFanIn at a time, by a k-way merge over
+ * a binary heap of the next record of each run, until one run remains, which is the sorted output. Files hold each
+ * record as its length, followed by its encoding by the given RecordCodec. Runs are written sequentially through a
+ * FileChannel from one fixed buffer, and read sequentially through another, so the memory used besides the chunk is
+ * bounded by maxFanIn buffers, however large the input is.
+ *
+ * Equal records of consecutive runs are merged in the order of their runs; so, when the given Sort is stable, as the
+ * default MergeSort is, the external Merge Sort is a stable algorithm.
+ *
+ * The external Merge Sort algorithm has the following performance characteristics, for M records per chunk and a
+ * fan-in of K:
+ *
+ * - Worst case number of comparisons: O(N lg N)
+ * - Number of passes over the data on disk: 1 + ceil(log_K(N / M))
+ *
+ * - Guaranteed extra space usage: O(M) records in memory, plus O(K) buffers of the runs being merged, and O(N) bytes
+ *   on disk for the runs.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class ExternalMergeSort<T extends Comparable<T>> {
+    private static final int DEFAULT_CHUNK_LENGTH = 1 << 20;
+    private static final int DEFAULT_MAX_FAN_IN = 64;
+    /* The chunk starts this long, and doubles as needed, up to the chunk length. */
+    private static final int INITIAL_CHUNK_LENGTH = 1 << 12;
+    /* The length of the buffers through which records are written and read. */
+    private static final int WRITE_BUFFER_LENGTH = 1 << 16;
+    private static final int READ_BUFFER_LENGTH = 1 << 16;
+    /* Every record is preceded by its length, as an int. */
+    private static final int FRAME_LENGTH = Integer.BYTES;
+    private final RecordCodec<T> codec;
+    private final Sort<T> chunkSort;
+    private final int chunkLength;
+    private final int maxFanIn;
+    private final Path tempDirectory;
+
+    /**
+     * Creates an external Merge Sort which sorts chunks of 2^20 records with a MergeSort, merges up to 64 runs at a
+     * time, and spills its runs into the given directory.
+     *
+     * @param codec The codec with which to encode records on disk.
+     * @param tempDirectory The directory in which to create the temporary files of the runs.
+     */
+    public ExternalMergeSort(final RecordCodec<T> codec, final Path tempDirectory) {
+        this(codec, new MergeSort<T>(), DEFAULT_CHUNK_LENGTH, DEFAULT_MAX_FAN_IN, tempDirectory);
+    }
+
+    /**
+     * Creates an external Merge Sort with the given chunks, fan-in, and temporary directory.
+     *
+     * @param codec The codec with which to encode records on disk.
+     * @param chunkSort The Sort with which to sort each chunk in memory.
+     * @param chunkLength The most records to hold, and sort, in memory at once.
+     * @param maxFanIn The most runs to merge at once, which must be at least 2.
+     * @param tempDirectory The directory in which to create the temporary files of the runs.
+     */
+    public ExternalMergeSort(final RecordCodec<T> codec, final Sort<T> chunkSort, final int chunkLength,
+            final int maxFanIn, final Path tempDirectory) {
+        if (chunkLength < 1) {
+            throw new IllegalArgumentException("The chunk length must be positive: " + chunkLength);
+        }
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("The fan-in must be at least 2: " + maxFanIn);
+        }
+        this.codec = Objects.requireNonNull(codec);
+        this.chunkSort = Objects.requireNonNull(chunkSort);
+        this.chunkLength = chunkLength;
+        this.maxFanIn = maxFanIn;
+        this.tempDirectory = Objects.requireNonNull(tempDirectory);
+    }
+
+    /**
+     * Writes records, framed by their lengths, sequentially to a file through one reused buffer.
+     */
+    private static final class RunWriter<T> implements Closeable {
+        private final RecordCodec<T> codec;
+        private final FileChannel channel;
+        private ByteBuffer buffer;
+
+        RunWriter(final RecordCodec<T> codec, final Path file) throws IOException {
+            this.codec = codec;
+            this.channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_LENGTH);
+        }
+
+        void write(final T record) throws IOException {
+            final int size = codec.encodedSize(record);
+            if (size < 0) {
+                throw new IllegalStateException("The codec gave a negative encoded size: " + size);
+            }
+            if (buffer.remaining() < FRAME_LENGTH + size) {
+                flush();
+                /* A record longer than the buffer is written through a buffer of its own length. */
+                if (buffer.capacity() < FRAME_LENGTH + size) {
+                    buffer = ByteBuffer.allocateDirect(FRAME_LENGTH + size);
+                }
+            }
+            buffer.putInt(size);
+            final int start = buffer.position();
+            codec.encode(record, buffer);
+            if (buffer.position() != start + size) {
+                throw new IllegalStateException("The codec wrote " + (buffer.position() - start) + " bytes, but gave "
+                        + "an encoded size of " + size);
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the records of a file written by a RunWriter, in order, from a FileChannel through one reused buffer.
+     * Failures to read the file are thrown as UncheckedIOExceptions.
+     */
+    public static final class RunReader<T> implements Iterator<T>, Closeable {
+        private final RecordCodec<T> codec;
+        private final FileChannel channel;
+        private final long size;
+        /* The number of bytes of the file read into the buffer so far. */
+        private long read;
+        /* Holds the bytes read but not yet decoded, between its position and its limit. */
+        private ByteBuffer buffer;
+
+        RunReader(final RecordCodec<T> codec, final Path file) throws IOException {
+            this.codec = codec;
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.size = channel.size();
+            this.read = 0;
+            this.buffer = ByteBuffer.allocateDirect(READ_BUFFER_LENGTH);
+            this.buffer.limit(0);
+        }
+
+        /**
+         * Moves the bytes not yet decoded to the start of the buffer, then reads the file after them, until the buffer
+         * holds at least the given number of bytes.
+         */
+        private void fill(final int length) throws IOException {
+            if (buffer.capacity() < length) {
+                /* A record longer than the buffer is read through a buffer of its own length. */
+                final ByteBuffer larger = ByteBuffer.allocateDirect(length);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            while (buffer.position() < length) {
+                final int n = channel.read(buffer);
+                if (n < 0) {
+                    throw new IOException("The file ends within a record, at byte " + size);
+                }
+                read += n;
+            }
+            buffer.flip();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return buffer.hasRemaining() || read < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                if (buffer.remaining() < FRAME_LENGTH) {
+                    fill(FRAME_LENGTH);
+                }
+                final int length = buffer.getInt(buffer.position());
+                if (buffer.remaining() < FRAME_LENGTH + length) {
+                    fill(FRAME_LENGTH + length);
+                }
+                buffer.position(buffer.position() + FRAME_LENGTH);
+                final ByteBuffer record = buffer.slice();
+                record.limit(length);
+                buffer.position(buffer.position() + length);
+                return codec.decode(record);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes the given records, in order, to the given file, in the format this sort reads and writes.
+     *
+     * @param records The records to be written.
+     * @param file The file to be written, which is replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(final Iterator<? extends T> records, final Path file) throws IOException {
+        try (final RunWriter<T> writer = new RunWriter<>(codec, file)) {
+            while (records.hasNext()) {
+                writer.write(records.next());
+            }
+        }
+    }
+
+    /**
+     * Opens the given file, in the format this sort reads and writes, for reading its records in order.
+     *
+     * @param file The file to be read.
+     * @return A reader of the records, which must be closed once done with.
+     * @throws IOException If the file cannot be opened.
+     */
+    public RunReader<T> read(final Path file) throws IOException {
+        return new RunReader<>(codec, file);
+    }
+
+    /**
+     * Sorts the chunks of the given records, and spills each to a run in the temporary directory.
+     *
+     * @param records The records to be sorted.
+     * @param runs The list to which to add the file of each run, in order.
+     */
+    @SuppressWarnings("unchecked")
+    private void spillRuns(final Iterator<? extends T> records, final List<Path> runs) throws IOException {
+        /* The chunk only ever holds elements of type T, so it can stand in for a T[]. */
+        T[] chunk = (T[]) new Comparable<?>[Math.min(chunkLength, INITIAL_CHUNK_LENGTH)];
+        while (records.hasNext()) {
+            int length = 0;
+            while (length < chunkLength && records.hasNext()) {
+                if (length == chunk.length) {
+                    chunk = Arrays.copyOf(chunk, (int) Math.min(chunkLength, 2L * chunk.length));
+                }
+                chunk[length++] = records.next();
+            }
+            if (length > 1) {
+                chunkSort.sort(chunk, 0, length - 1);
+            }
+
+            final Path run = Files.createTempFile(tempDirectory, "run", ".tmp");
+            runs.add(run);
+            try (final RunWriter<T> writer = new RunWriter<>(codec, run)) {
+                for (int i = 0; i < length; ++i) {
+                    writer.write(chunk[i]);
+                }
+            }
+            Arrays.fill(chunk, 0, length, null);
+        }
+    }
+
+    /**
+     * Merges the given runs into the given file, by a k-way merge over a heap of the next record of each run; ties are
+     * broken in favour of the earlier run, to maintain stability.
+     *
+     * @param runs The sorted runs to be merged, in order.
+     * @param output The file into which to write the merged run.
+     */
+    @SuppressWarnings("unchecked")
+    private void merge(final List<Path> runs, final Path output) throws IOException {
+        final int k = runs.size();
+        final List<RunReader<T>> readers = new ArrayList<>(k);
+        try (final RunWriter<T> writer = new RunWriter<>(codec, output)) {
+            for (final Path run : runs) {
+                readers.add(new RunReader<>(codec, run));
+            }
+
+            /* The heap holds the indices of the runs which have records left, ordered by their next records. */
+            final T[] heads = (T[]) new Comparable<?>[k];
+            final int[] heap = new int[k];
+            int n = 0;
+            for (int r = 0; r < k; ++r) {
+                if (readers.get(r).hasNext()) {
+                    heads[r] = readers.get(r).next();
+                    heap[n++] = r;
+                }
+            }
+            for (int i = n / 2 - 1; i >= 0; --i) {
+                sink(heap, heads, i, n);
+            }
+
+            while (n > 0) {
+                final int r = heap[0];
+                writer.write(heads[r]);
+                if (readers.get(r).hasNext()) {
+                    heads[r] = readers.get(r).next();
+                } else {
+                    heads[r] = null;
+                    heap[0] = heap[--n];
+                }
+                sink(heap, heads, 0, n);
+            }
+        } finally {
+            for (final RunReader<T> reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Determines whether the run r should precede the run s in the heap; that is, whether its next record is less, or
+     * equal and from an earlier run.
+     */
+    private static <T extends Comparable<T>> boolean precedes(final T[] heads, final int r, final int s) {
+        final int comparison = heads[r].compareTo(heads[s]);
+        return comparison < 0 || (comparison == 0 && r < s);
+    }
+
+    /**
+     * Sinks the run at position i of the heap of n runs, until it precedes both of its children.
+     */
+    private static <T extends Comparable<T>> void sink(final int[] heap, final T[] heads, int i, final int n) {
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && precedes(heads, heap[child + 1], heap[child])) {
+                ++child;
+            }
+            if (!precedes(heads, heap[child], heap[i])) {
+                return;
+            }
+            final int run = heap[i];
+            heap[i] = heap[child];
+            heap[child] = run;
+            i = child;
+        }
+    }
+
+    /**
+     * Sorts, using the external Merge Sort algorithm, the given records into the given file, in the format this sort
+     * reads and writes.
+     *
+     * @param records The records to be sorted.
+     * @param output The file into which to write the sorted records, which is replaced if it exists.
+     * @throws IOException If a run or the output cannot be written or read.
+     */
+    public void sort(final Iterator<? extends T> records, final Path output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            spillRuns(records, runs);
+
+            /* Merge consecutive groups of runs, keeping them in order, until few enough remain to merge at once. */
+            while (runs.size() > maxFanIn) {
+                final List<Path> merged = new ArrayList<>((runs.size() + maxFanIn - 1) / maxFanIn);
+                try {
+                    for (int i = 0; i < runs.size(); i += maxFanIn) {
+                        final List<Path> group = runs.subList(i, Math.min(i + maxFanIn, runs.size()));
+                        final Path run = Files.createTempFile(tempDirectory, "run", ".tmp");
+                        merged.add(run);
+                        merge(group, run);
+                    }
+                } finally {
+                    delete(runs);
+                    runs = merged;
+                }
+            }
+
+            if (runs.size() == 1) {
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+                runs.clear();
+            } else {
+                merge(runs, output);
+            }
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            delete(runs);
+        }
+    }
+
+    /**
+     * Sorts, using the external Merge Sort algorithm, the records of the given file into the given file, both in the
+     * format this sort reads and writes. The files must differ.
+     *
+     * @param input The file of records to be sorted.
+     * @param output The file into which to write the sorted records, which is replaced if it exists.
+     * @throws IOException If the input, a run, or the output cannot be written or read.
+     */
+    public void sort(final Path input, final Path output) throws IOException {
+        try (final RunReader<T> reader = read(input)) {
+            sort(reader, output);
+        }
+    }
+
+    /**
+     * Deletes the files of the given runs, if they exist.
+     */
+    private static void delete(final List<Path> runs) throws IOException {
+        for (final Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+    }
+}
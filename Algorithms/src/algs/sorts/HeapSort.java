@@ -0,0 +1,84 @@
+package algs.sorts;
+
+import static algs.sorts.Utilities.swap;
+
+/**
+ * Implements the Heap Sort algorithm for an array of type T, where T implements the method .compareTo(T)
+ *
+ * Theoretically, the Heap Sort algorithm is an in-place algorithm, which is not stable.
+ *
+ * The Heap Sort algorithm has the following performance characteristics:
+ *
+ * - Worst case number of comparisons: O(N lg N)
+ * - Average case number of comparisons: O(N lg N)
+ * - Best case number of comparisons: O(N lg N)
+ *
+ * - Guaranteed extra space usage: O(1).
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class HeapSort<T extends Comparable<T>> implements Sort<T> {
+
+    /**
+     * Moves the element at index i of the heap rooted at data[low] down, past any greater children, until it is no
+     * less than either of its children. The heap holds the elements data[low, low + length), where the children of
+     * the element at relative index i are at relative indices 2i + 1 and 2i + 2.
+     *
+     * @param data The array containing the heap.
+     * @param low The index of the root of the heap.
+     * @param i The index, relative to low, of the element to move down.
+     * @param length The number of elements in the heap.
+     */
+    private void sink(final T[] data, final int low, int i, final int length) {
+        final T datum = data[low + i];
+        /* Shift greater children up, until the element's proper position is found. */
+        for (int child = 2 * i + 1; child < length; child = 2 * i + 1) {
+            if (child + 1 < length && data[low + child].compareTo(data[low + child + 1]) < 0) {
+                ++child; /* Consider the greater of the two children. */
+            }
+            if (data[low + child].compareTo(datum) <= 0) {
+                break;
+            }
+            data[low + i] = data[low + child];
+            i = child;
+        }
+        data[low + i] = datum;
+    }
+
+    /**
+     * Sorts, using the Heap Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final T[] data, final int low, final int high) {
+        final int length = high - low + 1;
+        /* Arrange the segment into a max-heap, from the last parent up to the root. */
+        for (int i = length / 2 - 1; i >= 0; --i) {
+            sink(data, low, i, length);
+        }
+        /* Repeatedly move the greatest remaining element to the end of the heap, then restore the heap. */
+        for (int n = length - 1; n > 0; --n) {
+            swap(data, low, low + n);
+            sink(data, low, 0, n);
+        }
+    }
+
+    /**
+     * Sorts the entire given array using the Heap Sort algorithm.
+     *
+     * @param data The array to sort.
+     */
+    @Override
+    public void sort(final T[] data) {
+        sort(data, 0, data.length - 1);
+    }
+
+    public static void main(final String[] args) {
+        System.out.println("Testing Heap Sort:");
+        Utilities.doublingTest(new HeapSort<Integer>(), (int) Math.pow(2, 13), (int) Math.pow(2, 25));
+    }
+}
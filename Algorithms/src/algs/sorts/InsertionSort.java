@@ -1,5 +1,10 @@
 package algs.sorts;
 
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * Implements the Insertion Sort algorithm for an array of type T, where T implements the method .compareTo(T)
  *
@@ -14,6 +19,9 @@ package algs.sorts;
  *
  * - Guaranteed extra space usage: O(1).
  *
+ * The static methods sort elements of any type, in the order of a Comparator, or of a key extracted from each element
+ * once, by Keys, rather than on every comparison; keyed sorts use O(N) extra space for the keys.
+ *
  * @author Robert Mitchell <robert.mitchell36@gmail.com>
  */
 public class InsertionSort<T extends Comparable<T>> implements Sort<T> {
@@ -51,6 +59,148 @@ public class InsertionSort<T extends Comparable<T>> implements Sort<T> {
         sort(data, 0, data.length - 1);
     }
 
+    /**
+     * Sorts, using the Insertion Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the given comparator.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param comparator The order in which to sort the elements
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sort(final E[] data, final int low, final int high,
+            final Comparator<? super E> comparator) {
+        for (int i = low + 1; i < high + 1; ++i) {
+            final E datum = data[i];
+            int j = i - 1;
+            for (; j >= low && comparator.compare(datum, data[j]) < 0; --j) {
+                data[j + 1] = data[j];
+            }
+            data[j + 1] = datum;
+        }
+    }
+
+    /**
+     * Sorts the entire given array using the Insertion Sort algorithm, in the order of the given comparator.
+     *
+     * @param data The array to be sorted
+     * @param comparator The order in which to sort the elements
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sort(final E[] data, final Comparator<? super E> comparator) {
+        sort(data, 0, data.length - 1, comparator);
+    }
+
+    /**
+     * Sorts, using the Insertion Sort algorithm, the keys on the inclusive interval [low, high], moving the elements of
+     * data in tandem, such that the element of the key at index i is at index offset + i of data.
+     *
+     * @param keys The keys to be sorted
+     * @param data The elements to be moved with their keys
+     * @param offset The index in data of the element of the key at index 0
+     * @param low The first index of keys, inclusive, to be sorted
+     * @param high The last index of keys, inclusive, to be sorted
+     */
+    static void sort(final long[] keys, final Object[] data, final int offset, final int low, final int high) {
+        for (int i = low + 1; i < high + 1; ++i) {
+            final long key = keys[i];
+            final Object datum = data[offset + i];
+            int j = i - 1;
+            for (; j >= low && key < keys[j]; --j) {
+                keys[j + 1] = keys[j];
+                data[offset + j + 1] = data[offset + j];
+            }
+            keys[j + 1] = key;
+            data[offset + j + 1] = datum;
+        }
+    }
+
+    /**
+     * Sorts, using the Insertion Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the key of each element, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     * @param <K> The type of the keys
+     */
+    public static <E, K extends Comparable<? super K>> void sortByKey(final E[] data, final int low, final int high,
+            final Function<? super E, ? extends K> key) {
+        final Keys.Keyed<E, K>[] keyed = Keys.decorate(data, low, high, key);
+        sort(keyed, 0, keyed.length - 1, Keys.<E, K>byKey());
+        Keys.undecorate(keyed, data, low);
+    }
+
+    /**
+     * Sorts the entire given array using the Insertion Sort algorithm, in the order of the key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     * @param <K> The type of the keys
+     */
+    public static <E, K extends Comparable<? super K>> void sortByKey(final E[] data,
+            final Function<? super E, ? extends K> key) {
+        sortByKey(data, 0, data.length - 1, key);
+    }
+
+    /**
+     * Sorts, using the Insertion Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the long key of each element, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByLongKey(final E[] data, final int low, final int high,
+            final ToLongFunction<? super E> key) {
+        final long[] keys = Keys.longKeys(data, low, high, key);
+        sort(keys, data, low, 0, keys.length - 1);
+    }
+
+    /**
+     * Sorts the entire given array using the Insertion Sort algorithm, in the order of the long key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByLongKey(final E[] data, final ToLongFunction<? super E> key) {
+        sortByLongKey(data, 0, data.length - 1, key);
+    }
+
+    /**
+     * Sorts, using the Insertion Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the double key of each element by Double.compare, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByDoubleKey(final E[] data, final int low, final int high,
+            final ToDoubleFunction<? super E> key) {
+        final long[] keys = Keys.doubleKeys(data, low, high, key);
+        sort(keys, data, low, 0, keys.length - 1);
+    }
+
+    /**
+     * Sorts the entire given array using the Insertion Sort algorithm, in the order of the double key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByDoubleKey(final E[] data, final ToDoubleFunction<? super E> key) {
+        sortByDoubleKey(data, 0, data.length - 1, key);
+    }
+
     public static void main(final String[] args) {
         System.out.println("Testing Insertion Sort:");
         Utilities.doublingTest(new InsertionSort<Integer>(),
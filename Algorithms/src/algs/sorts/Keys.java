@@ -0,0 +1,97 @@
+package algs.sorts;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Extracts the sort keys of elements once, ahead of a sort, so that the sort compares the cached keys rather than
+ * deriving them again on every comparison. Primitive keys are gathered into a long array, which a sort rearranges in
+ * tandem with the elements; other keys are paired with their elements, which a sort rearranges by a comparison of the
+ * keys, and then unpaired, as in the Schwartzian transform.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+final class Keys {
+    private Keys() {
+    }
+
+    /**
+     * An element, paired with its key.
+     */
+    static final class Keyed<E, K extends Comparable<? super K>> {
+        final E element;
+        final K key;
+
+        Keyed(final E element, final K key) {
+            this.element = element;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Orders Keyed elements by their keys.
+     */
+    static <E, K extends Comparable<? super K>> Comparator<Keyed<E, K>> byKey() {
+        return (a, b) -> a.key.compareTo(b.key);
+    }
+
+    /**
+     * Returns the long whose signed order is the order of the given doubles by Double.compare: negative values are
+     * reflected, so that their bits order as their magnitudes decrease.
+     *
+     * @param value The double to convert.
+     * @return A long, ordered as the value is among doubles.
+     */
+    static long sortableBits(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the keys of the elements at [low, high] of data, such that the key of data[low + i] is at index i.
+     */
+    static <E> long[] longKeys(final E[] data, final int low, final int high, final ToLongFunction<? super E> key) {
+        final long[] keys = new long[Math.max(0, high - low + 1)];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = key.applyAsLong(data[low + i]);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the sortable bits of the keys of the elements at [low, high] of data, such that the key of data[low + i]
+     * is at index i.
+     */
+    static <E> long[] doubleKeys(final E[] data, final int low, final int high,
+            final ToDoubleFunction<? super E> key) {
+        final long[] keys = new long[Math.max(0, high - low + 1)];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = sortableBits(key.applyAsDouble(data[low + i]));
+        }
+        return keys;
+    }
+
+    /**
+     * Pairs every element at [low, high] of data with its key, such that data[low + i] is paired at index i.
+     */
+    @SuppressWarnings("unchecked")
+    static <E, K extends Comparable<? super K>> Keyed<E, K>[] decorate(final E[] data, final int low, final int high,
+            final Function<? super E, ? extends K> key) {
+        final Keyed<E, K>[] keyed = (Keyed<E, K>[]) new Keyed<?, ?>[Math.max(0, high - low + 1)];
+        for (int i = 0; i < keyed.length; ++i) {
+            keyed[i] = new Keyed<>(data[low + i], key.apply(data[low + i]));
+        }
+        return keyed;
+    }
+
+    /**
+     * Places the elements of the pairs back into data, from index low, in the order of the pairs.
+     */
+    static <E> void undecorate(final Keyed<E, ?>[] keyed, final E[] data, final int low) {
+        for (int i = 0; i < keyed.length; ++i) {
+            data[low + i] = keyed[i].element;
+        }
+    }
+}
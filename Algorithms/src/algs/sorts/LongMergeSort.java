@@ -0,0 +1,105 @@
+package algs.sorts;
+
+import java.util.Arrays;
+
+/**
+ * Implements the Merge Sort algorithm for an array of longs; this is the primitive counterpart of MergeSort, and shares
+ * its threshold for handing short segments to an Insertion Sort.
+ *
+ * Theoretically, the Merge Sort algorithm is a stable algorithm.
+ *
+ * The Merge Sort algorithm has the following performance characteristics:
+ *
+ * - Worst case number of comparisons: O(N lg N)
+ * - Average case number of comparisons: O(N lg N)
+ * - Best case number of comparisons: O(N lg N)
+ *
+ * - Guaranteed extra space usage: O(N) for the auxiliary array.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class LongMergeSort implements LongSort {
+    private final LongSort INSERTION_SORT;
+
+    /**
+     * Initializes the INSERTION_SORT used for sub-arrays of length 11 or less, for better performance.
+     */
+    public LongMergeSort() {
+        this.INSERTION_SORT = new LongInsertionSort();
+    }
+
+    /**
+     * Merges the two sorted segments [low, mid], [mid + 1, high] from the aux array into the data array.
+     *
+     * @param data The array in which the merge should be placed.
+     * @param aux The auxiliary array containing the sorted segments to merge.
+     * @param low The first index, inclusive, to be merged.
+     * @param mid The last index of the first sorted segment.
+     * @param high The last index, inclusive, to be merged.
+     */
+    private void merge(final long[] data, final long[] aux,
+            final int low, final int mid, final int high) {
+        System.arraycopy(data, low, aux, low, high - low + 1);
+
+        /* Combine the two sub-arrays in sorted order */
+        for (int i = low, j = mid + 1, k = low; k <= high; ++k) {
+            if (i > mid) {
+                data[k] = aux[j++];
+            } else if (j > high) {
+                data[k] = aux[i++];
+            } else if (aux[j] < aux[i]) {
+                data[k] = aux[j++]; /* Prioritize left block to maintain stability */
+            } else {
+                data[k] = aux[i++];
+            }
+        }
+    }
+
+    /**
+     * Sorts, using the Merge Sort algorithm, the given array, data, on the inclusive interval [low, high]. This
+     * implementation uses an Insertion Sort for sub-arrays of length 11 or less.
+     *
+     * @param data The array to be sorted.
+     * @param aux The auxiliary array to use for storing sorted segments prior to merges.
+     * @param low The first index, inclusive, to be sorted.
+     * @param high The last index, inclusive, to be sorted.
+     */
+    private void sort(final long[] data, final long[] aux,
+            final int low, final int high) {
+        if (high <= low + MergeSort.SORT_THRESHOLD) {
+            INSERTION_SORT.sort(data, low, high);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        sort(data, aux, low, mid);
+        sort(data, aux, mid + 1, high);
+        merge(data, aux, low, mid, high);
+    }
+
+    /**
+     * Sorts, using the Merge Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high. This implementation uses an Insertion Sort for sub-arrays of length
+     * 11 or less.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final long[] data, final int low, final int high) {
+        final long[] aux = Arrays.copyOf(data, high + 1);
+        sort(data, aux, low, high);
+    }
+
+    /**
+     * Sorts the entire array using the Merge Sort algorithm. This implementation uses an Insertion Sort for sub-arrays
+     * of length 11 or less.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final long[] data) {
+        sort(data, 0, data.length - 1);
+    }
+}
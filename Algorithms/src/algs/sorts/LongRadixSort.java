@@ -0,0 +1,236 @@
+package algs.sorts;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Implements the least-significant-digit (LSD) Radix Sort algorithm for an array of longs, or of objects keyed by a
+ * long.
+ *
+ * The keys are distributed by each of their 8 bytes in turn, from the least significant to the most significant, with a
+ * stable counting pass per byte; the sign bit is flipped in the most significant byte, so negative keys precede the
+ * rest. The counts for every byte are gathered in a single pass over the keys beforehand, which also reveals the bytes
+ * shared by every key, whose passes are skipped. Passes alternate between the data and an auxiliary array, so each
+ * moves every key exactly once. Short segments are handed to an Insertion Sort, for which the fixed cost of counting
+ * outweighs the gain.
+ *
+ * Theoretically, the LSD Radix Sort algorithm is a stable algorithm, and makes no comparisons at all.
+ *
+ * The LSD Radix Sort algorithm has the following performance characteristics:
+ *
+ * - Worst case running time: O(W (N + R)), for W = 8 bytes per key, and R = 256 values per byte.
+ * - Best case running time: O(N + W R), when every key shares its bytes above the least significant.
+ *
+ * - Guaranteed extra space usage: O(N + W R) for the auxiliary array, and the counts.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class LongRadixSort implements LongSort {
+    /* The digits, and the cutoff for Insertion Sort, are the same as IntRadixSort uses. */
+    private static final int DIGIT_BITS = IntRadixSort.DIGIT_BITS;
+    private static final int RADIX = IntRadixSort.RADIX;
+    private static final int SORT_CUTOFF = IntRadixSort.SORT_CUTOFF;
+    private static final int DIGITS = Long.SIZE / DIGIT_BITS;
+    private final LongSort INSERTION_SORT;
+
+    /**
+     * Initializes the INSERTION_SORT used for sub-arrays of length 63 or less, for better performance.
+     */
+    public LongRadixSort() {
+        this.INSERTION_SORT = new LongInsertionSort();
+    }
+
+    /**
+     * Returns the given digit of the key, such that the digits of signed keys compare as unsigned values in the same
+     * order as the keys.
+     *
+     * @param key The key from which to take a digit.
+     * @param digit The digit to take, from 0 for the least significant, to DIGITS - 1 for the most significant.
+     * @return The value of the digit, in [0, RADIX).
+     */
+    private static int digit(final long key, final int digit) {
+        final int value = (int) (key >>> (digit * DIGIT_BITS)) & (RADIX - 1);
+        return digit == DIGITS - 1 ? value ^ (RADIX >>> 1) : value;
+    }
+
+    /**
+     * Counts the occurrences of every value of every digit, among the keys at [low, high].
+     *
+     * @param keys The keys to count.
+     * @param low The first index, inclusive, to count.
+     * @param high The last index, inclusive, to count.
+     * @return For each digit, the number of keys with each value of that digit.
+     */
+    private static int[][] count(final long[] keys, final int low, final int high) {
+        final int[][] counts = new int[DIGITS][RADIX];
+        for (int i = low; i <= high; ++i) {
+            for (int d = 0; d < DIGITS; ++d) {
+                ++counts[d][digit(keys[i], d)];
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Converts the counts of a digit into the index at which the first key with each value of the digit belongs, or
+     * returns false, without converting them, if every key has the same value of the digit, so the pass may be skipped.
+     *
+     * @param counts The number of keys with each value of the digit.
+     * @param start The index at which the first key belongs.
+     * @param length The number of keys counted.
+     * @return Whether the keys need to be distributed by this digit.
+     */
+    private static boolean toStarts(final int[] counts, final int start, final int length) {
+        for (int r = 0; r < RADIX; ++r) {
+            if (counts[r] == length) {
+                return false;
+            }
+        }
+        for (int r = 0, next = start; r < RADIX; ++r) {
+            final int count = counts[r];
+            counts[r] = next;
+            next += count;
+        }
+        return true;
+    }
+
+    /**
+     * Sorts, using the LSD Radix Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high. This implementation uses an Insertion Sort for sub-arrays of length 63
+     * or less.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final long[] data, final int low, final int high) {
+        if (high <= low + SORT_CUTOFF) {
+            INSERTION_SORT.sort(data, low, high);
+            return;
+        }
+
+        final int length = high - low + 1;
+        final int[][] counts = count(data, low, high);
+        /* The auxiliary array covers only [low, high], at [0, length). */
+        long[] source = data;
+        int sourceOffset = low;
+        long[] destination = new long[length];
+        int destinationOffset = 0;
+        for (int d = 0; d < DIGITS; ++d) {
+            final int[] starts = counts[d];
+            if (!toStarts(starts, destinationOffset, length)) {
+                continue;
+            }
+            for (int i = sourceOffset; i < sourceOffset + length; ++i) {
+                destination[starts[digit(source[i], d)]++] = source[i];
+            }
+
+            final long[] array = source;
+            source = destination;
+            destination = array;
+            final int offset = sourceOffset;
+            sourceOffset = destinationOffset;
+            destinationOffset = offset;
+        }
+
+        /* After an odd number of passes, the sorted keys are in the auxiliary array. */
+        if (source != data) {
+            System.arraycopy(source, sourceOffset, data, low, length);
+        }
+    }
+
+    /**
+     * Sorts the entire array using the LSD Radix Sort algorithm. This implementation uses an Insertion Sort for
+     * sub-arrays of length 63 or less.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final long[] data) {
+        sort(data, 0, data.length - 1);
+    }
+
+    /**
+     * Sorts, using the LSD Radix Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the long key of each element. The key of each element is extracted exactly once, and elements with equal
+     * keys keep their relative order.
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key.
+     * @param <E> The type of the elements to be sorted.
+     */
+    public <E> void sort(final E[] data, final int low, final int high, final ToLongFunction<? super E> key) {
+        final int length = high - low + 1;
+        if (length < 2) {
+            return;
+        }
+        final long[] keys = new long[length];
+        for (int i = 0; i < length; ++i) {
+            keys[i] = key.applyAsLong(data[low + i]);
+        }
+
+        if (length <= SORT_CUTOFF + 1) {
+            /* Insertion Sort the keys, moving the elements in tandem. */
+            for (int i = 1; i < length; ++i) {
+                final long k = keys[i];
+                final E element = data[low + i];
+                int j = i;
+                for (; j > 0 && k < keys[j - 1]; --j) {
+                    keys[j] = keys[j - 1];
+                    data[low + j] = data[low + j - 1];
+                }
+                keys[j] = k;
+                data[low + j] = element;
+            }
+            return;
+        }
+
+        final int[][] counts = count(keys, 0, length - 1);
+        /* Distribute the keys and the elements in tandem, each between its own pair of arrays. */
+        long[] sourceKeys = keys;
+        long[] destinationKeys = new long[length];
+        Object[] source = data;
+        int sourceOffset = low;
+        Object[] destination = new Object[length];
+        int destinationOffset = 0;
+        for (int d = 0; d < DIGITS; ++d) {
+            final int[] starts = counts[d];
+            if (!toStarts(starts, 0, length)) {
+                continue;
+            }
+            for (int i = 0; i < length; ++i) {
+                final int position = starts[digit(sourceKeys[i], d)]++;
+                destinationKeys[position] = sourceKeys[i];
+                destination[destinationOffset + position] = source[sourceOffset + i];
+            }
+
+            final long[] keyArray = sourceKeys;
+            sourceKeys = destinationKeys;
+            destinationKeys = keyArray;
+            final Object[] array = source;
+            source = destination;
+            destination = array;
+            final int offset = sourceOffset;
+            sourceOffset = destinationOffset;
+            destinationOffset = offset;
+        }
+
+        if (source != data) {
+            System.arraycopy(source, sourceOffset, data, low, length);
+        }
+    }
+
+    /**
+     * Sorts the entire array using the LSD Radix Sort algorithm, in the order of the long key of each element.
+     *
+     * @param data The array to be sorted.
+     * @param key The function from an element to its key.
+     * @param <E> The type of the elements to be sorted.
+     */
+    public <E> void sort(final E[] data, final ToLongFunction<? super E> key) {
+        sort(data, 0, data.length - 1, key);
+    }
+}
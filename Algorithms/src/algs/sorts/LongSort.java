@@ -0,0 +1,27 @@
+package algs.sorts;
+
+/**
+ * Provides a generic interface for a Sort of long arrays, which can sort an array as a whole, or some segment of an
+ * array. This is the primitive counterpart of Sort, which sorts the values in place without boxing them.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public interface LongSort {
+
+    /**
+     * Sorts the entire given array.
+     *
+     * @param data The array to be sorted
+     */
+    void sort(final long[] data);
+
+    /**
+     * Sorts the given array, data, on the interval [low, high], inclusive.
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    void sort(final long[] data, final int low, final int high);
+}
@@ -1,6 +1,10 @@
 package algs.sorts;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 
 /**
@@ -17,10 +21,14 @@ import java.util.Arrays;
  *
  * - Guaranteed extra space usage: O(N) for the auxiliary array.
  *
+ * The static methods sort elements of any type, in the order of a Comparator, or of a key extracted from each element
+ * once, by Keys, rather than on every comparison; sorts by a long or double key compare only the cached primitive keys,
+ * which are moved in tandem with the elements.
+ *
  * @author Robert Mitchell <robert.mitchell36@gmail.com>
  */
 public class MergeSort<T extends Comparable<T>> implements Sort<T> {
-    private static final int SORT_THRESHOLD = 11; /* A few brief trials found this to be a good threshold choice. */
+    static final int SORT_THRESHOLD = 11; /* A few brief trials found this to be a good threshold choice. */
     private final Sort<T> INSERTION_SORT;
 
     /**
@@ -68,7 +76,7 @@ public class MergeSort<T extends Comparable<T>> implements Sort<T> {
      * @param low The first index, inclusive, to be sorted.
      * @param high The last index, inclusive, to be sorted.
      */
-    private void sort(final T[] data, final T[] aux,
+    void sort(final T[] data, final T[] aux,
             final int low, final int high) {
         /* SORT_THRESHOLD = 11.
           If the segment is below the threshold in length, sort using insertion sort. */
@@ -110,6 +118,208 @@ public class MergeSort<T extends Comparable<T>> implements Sort<T> {
         sort(data, 0, data.length - 1);
     }
 
+    /**
+     * Sorts, using the Merge Sort algorithm, the given array, data, on the inclusive interval [low, high], in the order
+     * of the given comparator. This implementation uses an Insertion Sort for sub-arrays of length 11 or less.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param comparator The order in which to sort the elements
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sort(final E[] data, final int low, final int high,
+            final Comparator<? super E> comparator) {
+        if (high <= low) {
+            return;
+        }
+        /* The auxiliary array covers only [low, high], at [0, high - low]. */
+        final E[] aux = Arrays.copyOfRange(data, low, high + 1);
+        sort(data, aux, low, low, high, comparator);
+    }
+
+    /**
+     * Sorts the entire given array using the Merge Sort algorithm, in the order of the given comparator.
+     *
+     * @param data The array to be sorted
+     * @param comparator The order in which to sort the elements
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sort(final E[] data, final Comparator<? super E> comparator) {
+        sort(data, 0, data.length - 1, comparator);
+    }
+
+    /**
+     * Sorts, using the Merge Sort algorithm, the given array, data, on the inclusive interval [low, high], in the order
+     * of the given comparator, merging through the aux array, which holds data[i] at aux[i - offset].
+     */
+    private static <E> void sort(final E[] data, final E[] aux, final int offset, final int low, final int high,
+            final Comparator<? super E> comparator) {
+        if (high <= low + SORT_THRESHOLD) {
+            InsertionSort.sort(data, low, high, comparator);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        sort(data, aux, offset, low, mid, comparator);
+        sort(data, aux, offset, mid + 1, high, comparator);
+        /* If the halves are already in order, there is nothing to merge. */
+        if (comparator.compare(data[mid + 1], data[mid]) >= 0) {
+            return;
+        }
+
+        System.arraycopy(data, low, aux, low - offset, high - low + 1);
+        for (int i = low - offset, j = mid + 1 - offset, k = low; k <= high; ++k) {
+            if (i > mid - offset) {
+                data[k] = aux[j++];
+            } else if (j > high - offset) {
+                data[k] = aux[i++];
+            } else if (comparator.compare(aux[j], aux[i]) < 0) {
+                data[k] = aux[j++]; /* Prioritize left block to maintain stability */
+            } else {
+                data[k] = aux[i++];
+            }
+        }
+    }
+
+    /**
+     * Sorts, using the Merge Sort algorithm, the keys on the inclusive interval [low, high], moving the elements of
+     * data in tandem, such that the element of the key at index i is at index offset + i of data. The auxiliary
+     * arrays hold the keys, and their elements, at the same indices as keys.
+     *
+     * @param keys The keys to be sorted
+     * @param data The elements to be moved with their keys
+     * @param offset The index in data of the element of the key at index 0
+     * @param auxKeys The auxiliary array of keys, to use for merging
+     * @param auxData The auxiliary array of elements, to use for merging
+     * @param low The first index of keys, inclusive, to be sorted
+     * @param high The last index of keys, inclusive, to be sorted
+     */
+    private static void sort(final long[] keys, final Object[] data, final int offset,
+            final long[] auxKeys, final Object[] auxData, final int low, final int high) {
+        if (high <= low + SORT_THRESHOLD) {
+            InsertionSort.sort(keys, data, offset, low, high);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        sort(keys, data, offset, auxKeys, auxData, low, mid);
+        sort(keys, data, offset, auxKeys, auxData, mid + 1, high);
+        if (keys[mid] <= keys[mid + 1]) {
+            return;
+        }
+
+        System.arraycopy(keys, low, auxKeys, low, high - low + 1);
+        System.arraycopy(data, offset + low, auxData, low, high - low + 1);
+        for (int i = low, j = mid + 1, k = low; k <= high; ++k) {
+            if (i > mid) {
+                keys[k] = auxKeys[j];
+                data[offset + k] = auxData[j++];
+            } else if (j > high) {
+                keys[k] = auxKeys[i];
+                data[offset + k] = auxData[i++];
+            } else if (auxKeys[j] < auxKeys[i]) {
+                keys[k] = auxKeys[j]; /* Prioritize left block to maintain stability */
+                data[offset + k] = auxData[j++];
+            } else {
+                keys[k] = auxKeys[i];
+                data[offset + k] = auxData[i++];
+            }
+        }
+    }
+
+    /**
+     * Sorts, using the Merge Sort algorithm, the keys, moving the elements of data in tandem from index offset.
+     */
+    private static void sort(final long[] keys, final Object[] data, final int offset) {
+        sort(keys, data, offset, new long[keys.length], new Object[keys.length], 0, keys.length - 1);
+    }
+
+    /**
+     * Sorts, using the Merge Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the key of each element, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     * @param <K> The type of the keys
+     */
+    public static <E, K extends Comparable<? super K>> void sortByKey(final E[] data, final int low, final int high,
+            final Function<? super E, ? extends K> key) {
+        final Keys.Keyed<E, K>[] keyed = Keys.decorate(data, low, high, key);
+        sort(keyed, 0, keyed.length - 1, Keys.<E, K>byKey());
+        Keys.undecorate(keyed, data, low);
+    }
+
+    /**
+     * Sorts the entire given array using the Merge Sort algorithm, in the order of the key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     * @param <K> The type of the keys
+     */
+    public static <E, K extends Comparable<? super K>> void sortByKey(final E[] data,
+            final Function<? super E, ? extends K> key) {
+        sortByKey(data, 0, data.length - 1, key);
+    }
+
+    /**
+     * Sorts, using the Merge Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the long key of each element, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByLongKey(final E[] data, final int low, final int high,
+            final ToLongFunction<? super E> key) {
+        final long[] keys = Keys.longKeys(data, low, high, key);
+        sort(keys, data, low);
+    }
+
+    /**
+     * Sorts the entire given array using the Merge Sort algorithm, in the order of the long key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByLongKey(final E[] data, final ToLongFunction<? super E> key) {
+        sortByLongKey(data, 0, data.length - 1, key);
+    }
+
+    /**
+     * Sorts, using the Merge Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the double key of each element by Double.compare, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByDoubleKey(final E[] data, final int low, final int high,
+            final ToDoubleFunction<? super E> key) {
+        final long[] keys = Keys.doubleKeys(data, low, high, key);
+        sort(keys, data, low);
+    }
+
+    /**
+     * Sorts the entire given array using the Merge Sort algorithm, in the order of the double key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByDoubleKey(final E[] data, final ToDoubleFunction<? super E> key) {
+        sortByDoubleKey(data, 0, data.length - 1, key);
+    }
+
     public static void main(final String[] args) {
         System.out.println("Testing Merge Sort:");
         Utilities.doublingTest(new MergeSort<Integer>(), (int) Math.pow(2, 13), (int) Math.pow(2, 25));
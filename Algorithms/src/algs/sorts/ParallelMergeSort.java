@@ -0,0 +1,258 @@
+package algs.sorts;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implements a parallel Merge Sort algorithm for an array of type T, where T implements the method .compareTo(T)
+ *
+ * The two halves of every segment longer than the granularity threshold are sorted as independent tasks in a
+ * ForkJoinPool, and segments at or below the threshold are sorted by the sequential MergeSort. Since the final merges
+ * would otherwise leave all but one thread idle, merges of segments longer than the threshold are themselves split:
+ * the middle element of the longer run is placed directly, by a binary search for its position in the other run, and
+ * the elements on either side of it are merged as two independent tasks.
+ *
+ * Like the sequential Merge Sort, this is a stable algorithm.
+ *
+ * The parallel Merge Sort algorithm has the following performance characteristics, on P threads:
+ *
+ * - Worst case number of comparisons: O(N lg N)
+ * - Span (critical path length): O(lg^3 N)
+ * - Expected running time: O(N lg N / P + lg^3 N)
+ *
+ * - Guaranteed extra space usage: O(N) for the auxiliary array, which is allocated once and shared by every task.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class ParallelMergeSort<T extends Comparable<T>> implements Sort<T> {
+    /* Below about this many elements, forking a task costs more than sorting or merging the segment directly. */
+    private static final int DEFAULT_THRESHOLD = 1 << 13;
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final MergeSort<T> MERGE_SORT;
+
+    /**
+     * Creates a parallel Merge Sort which runs in the common ForkJoinPool, with the default granularity threshold.
+     */
+    public ParallelMergeSort() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel Merge Sort which runs in the common ForkJoinPool, with the given granularity threshold.
+     *
+     * @param threshold The length of segment at or below which segments are sorted and merged sequentially.
+     */
+    public ParallelMergeSort(final int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    /**
+     * Creates a parallel Merge Sort which runs in the given ForkJoinPool, with the given granularity threshold.
+     *
+     * @param pool The pool in which to run the sorting and merging tasks.
+     * @param threshold The length of segment at or below which segments are sorted and merged sequentially.
+     */
+    public ParallelMergeSort(final ForkJoinPool pool, final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+        }
+        this.pool = Objects.requireNonNull(pool);
+        this.threshold = threshold;
+        this.MERGE_SORT = new MergeSort<>();
+    }
+
+    /**
+     * Sorts the segment [low, high] of data; the two halves of the segment are sorted in parallel, then merged in
+     * parallel.
+     */
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] data;
+        private final T[] aux;
+        private final int low;
+        private final int high;
+
+        SortTask(final T[] data, final T[] aux, final int low, final int high) {
+            this.data = data;
+            this.aux = aux;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                MERGE_SORT.sort(data, aux, low, high);
+                return;
+            }
+
+            final int mid = low + (high - low) / 2;
+            invokeAll(new SortTask(data, aux, low, mid), new SortTask(data, aux, mid + 1, high));
+
+            /* If the halves are already in order, there is nothing to merge. */
+            if (data[mid].compareTo(data[mid + 1]) <= 0) {
+                return;
+            }
+            System.arraycopy(data, low, aux, low, high - low + 1);
+            new MergeTask(aux, data, low, mid, mid + 1, high, low).compute();
+        }
+    }
+
+    /**
+     * Merges the sorted runs [aLow, aHigh] and [bLow, bHigh] of source, where the first run precedes the second, into
+     * the destination beginning at index to.
+     */
+    private final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] source;
+        private final T[] destination;
+        private final int aLow;
+        private final int aHigh;
+        private final int bLow;
+        private final int bHigh;
+        private final int to;
+
+        MergeTask(final T[] source, final T[] destination,
+                final int aLow, final int aHigh, final int bLow, final int bHigh, final int to) {
+            this.source = source;
+            this.destination = destination;
+            this.aLow = aLow;
+            this.aHigh = aHigh;
+            this.bLow = bLow;
+            this.bHigh = bHigh;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            final int aLength = aHigh - aLow + 1;
+            final int bLength = bHigh - bLow + 1;
+            if (aLength + bLength <= threshold) {
+                merge(source, destination, aLow, aHigh, bLow, bHigh, to);
+                return;
+            }
+
+            /* Place the middle element of the longer run, then merge what lies on either side of it in parallel.
+                Elements of the second run which equal an element of the first must stay after it, for stability. */
+            if (aLength >= bLength) {
+                final int i = aLow + (aHigh - aLow) / 2;
+                final int j = lowerBound(source, bLow, bHigh, source[i]);
+                final int k = to + (i - aLow) + (j - bLow);
+                destination[k] = source[i];
+                invokeAll(new MergeTask(source, destination, aLow, i - 1, bLow, j - 1, to),
+                        new MergeTask(source, destination, i + 1, aHigh, j, bHigh, k + 1));
+            } else {
+                final int j = bLow + (bHigh - bLow) / 2;
+                final int i = upperBound(source, aLow, aHigh, source[j]);
+                final int k = to + (i - aLow) + (j - bLow);
+                destination[k] = source[j];
+                invokeAll(new MergeTask(source, destination, aLow, i - 1, bLow, j - 1, to),
+                        new MergeTask(source, destination, i, aHigh, j + 1, bHigh, k + 1));
+            }
+        }
+    }
+
+    /**
+     * Merges the sorted runs [aLow, aHigh] and [bLow, bHigh] of source into destination, beginning at index to. Either
+     * run may be empty.
+     *
+     * @param source The array containing the sorted runs to merge.
+     * @param destination The array in which the merge should be placed.
+     * @param aLow The first index, inclusive, of the first run.
+     * @param aHigh The last index, inclusive, of the first run.
+     * @param bLow The first index, inclusive, of the second run.
+     * @param bHigh The last index, inclusive, of the second run.
+     * @param to The index in destination at which to place the first merged element.
+     */
+    private static <T extends Comparable<T>> void merge(final T[] source, final T[] destination,
+            int aLow, final int aHigh, int bLow, final int bHigh, int to) {
+        while (aLow <= aHigh && bLow <= bHigh) {
+            if (source[bLow].compareTo(source[aLow]) < 0) {
+                destination[to++] = source[bLow++];
+            } else {
+                destination[to++] = source[aLow++]; /* Prioritize the first run to maintain stability */
+            }
+        }
+        /* At most one run has elements left, which are already in order. */
+        System.arraycopy(source, aLow, destination, to, aHigh - aLow + 1);
+        System.arraycopy(source, bLow, destination, to, bHigh - bLow + 1);
+    }
+
+    /**
+     * Finds the first index in the sorted segment [low, high] of data whose element is not less than the key.
+     *
+     * @param data The array in which to search.
+     * @param low The first index, inclusive, to search.
+     * @param high The last index, inclusive, to search.
+     * @param key The element to search for.
+     * @return the first index whose element is not less than the key, or high + 1 if there is none.
+     */
+    private static <T extends Comparable<T>> int lowerBound(final T[] data, int low, int high, final T key) {
+        ++high;
+        while (low < high) {
+            final int mid = low + (high - low) / 2;
+            if (data[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first index in the sorted segment [low, high] of data whose element is greater than the key.
+     *
+     * @param data The array in which to search.
+     * @param low The first index, inclusive, to search.
+     * @param high The last index, inclusive, to search.
+     * @param key The element to search for.
+     * @return the first index whose element is greater than the key, or high + 1 if there is none.
+     */
+    private static <T extends Comparable<T>> int upperBound(final T[] data, int low, int high, final T key) {
+        ++high;
+        while (low < high) {
+            final int mid = low + (high - low) / 2;
+            if (data[mid].compareTo(key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts, using the parallel Merge Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final T[] data, final int low, final int high) {
+        final T[] aux = Arrays.copyOf(data, high + 1);
+        pool.invoke(new SortTask(data, aux, low, high));
+    }
+
+    /**
+     * Sorts the entire array using the parallel Merge Sort algorithm.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final T[] data) {
+        sort(data, 0, data.length - 1);
+    }
+
+    public static void main(final String[] args) {
+        System.out.println("Testing Parallel Merge Sort:");
+        Utilities.doublingTest(new ParallelMergeSort<Integer>(), (int) Math.pow(2, 13), (int) Math.pow(2, 25));
+    }
+}
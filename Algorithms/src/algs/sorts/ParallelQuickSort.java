@@ -0,0 +1,321 @@
+package algs.sorts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static algs.sorts.QuickSort.medianOfThree;
+import static algs.sorts.QuickSort.partition;
+import static algs.sorts.Utilities.swap;
+
+/**
+ * Implements a parallel Quick Sort algorithm for an array of type T, where T implements the method .compareTo(T)
+ *
+ * Every segment longer than the granularity threshold is partitioned, and the two resulting segments are sorted as
+ * independent tasks in a ForkJoinPool; shorter segments are sorted sequentially, with an Insertion Sort once they are
+ * within the same cutoff QuickSort uses. Pivots are chosen by the median of three elements, rather than by shuffling
+ * the array first, since a shuffle is a sequential O(N) pass.
+ *
+ * Partitioning the whole array is itself a sequential O(N) pass, which would bound the speedup of the sort. So, when
+ * parallel partitioning is enabled, the top level is partitioned by splitting it into blocks, partitioning every block
+ * in parallel, then exchanging the elements left on the wrong side of the final pivot position in parallel.
+ *
+ * Theoretically, the Quick Sort algorithm is an in-place algorithm.
+ *
+ * The parallel Quick Sort algorithm has the following performance characteristics, on P threads:
+ *
+ * - Worst case number of comparisons: O(N^2)
+ * - Average case number of comparisons: O(N lg N)
+ * - Average running time: O(N lg N / P + N / P + lg^2 N) with parallel partitioning, O(N lg N / P + N) without it.
+ *
+ * - Guaranteed extra space usage: O(lg N) for the call-stack made by the recursive tree, on average.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class ParallelQuickSort<T extends Comparable<T>> implements Sort<T> {
+    /* Below about this many elements, forking a task costs more than sorting the segment directly. */
+    private static final int DEFAULT_THRESHOLD = 1 << 13;
+    /* How many blocks, per thread in the pool, the top level is split into when partitioning it in parallel. */
+    private static final int BLOCKS_PER_THREAD = 4;
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final boolean parallelPartitioning;
+    private final Sort<T> INSERTION_SORT;
+
+    /**
+     * Creates a parallel Quick Sort which runs in the common ForkJoinPool, with the default granularity threshold, and
+     * which partitions the top level in parallel.
+     */
+    public ParallelQuickSort() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel Quick Sort which runs in the common ForkJoinPool, with the given granularity threshold, and
+     * which partitions the top level in parallel.
+     *
+     * @param threshold The length of segment at or below which segments are sorted sequentially.
+     */
+    public ParallelQuickSort(final int threshold) {
+        this(ForkJoinPool.commonPool(), threshold, true);
+    }
+
+    /**
+     * Creates a parallel Quick Sort which runs in the given ForkJoinPool, with the given granularity threshold.
+     *
+     * @param pool The pool in which to run the sorting tasks.
+     * @param threshold The length of segment at or below which segments are sorted sequentially.
+     * @param parallelPartitioning Whether the top level should be partitioned in parallel.
+     */
+    public ParallelQuickSort(final ForkJoinPool pool, final int threshold, final boolean parallelPartitioning) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+        }
+        this.pool = Objects.requireNonNull(pool);
+        this.threshold = threshold;
+        this.parallelPartitioning = parallelPartitioning;
+        this.INSERTION_SORT = new InsertionSort<>();
+    }
+
+    /**
+     * Sorts, using the Quick Sort algorithm, the given array, data, on the inclusive interval [low, high], on the
+     * current thread. This implementation uses an Insertion Sort for sub-arrays of length 11 or less.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    private void quickSort(final T[] data, final int low, final int high) {
+        if (high <= low + QuickSort.SORT_CUTOFF) {
+            INSERTION_SORT.sort(data, low, high);
+            return;
+        }
+
+        medianOfThree(data, low, high);
+        final int p = partition(data, low, high);
+        quickSort(data, low, p);
+        quickSort(data, p + 1, high);
+    }
+
+    /**
+     * Sorts the segment [low, high] of data, by partitioning it, then sorting both partitions in parallel.
+     */
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] data;
+        private final int low;
+        private final int high;
+        private final boolean topLevel;
+
+        SortTask(final T[] data, final int low, final int high, final boolean topLevel) {
+            this.data = data;
+            this.low = low;
+            this.high = high;
+            this.topLevel = topLevel;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                quickSort(data, low, high);
+                return;
+            }
+
+            final int blocks = Math.min(pool.getParallelism() * BLOCKS_PER_THREAD, (high - low) / threshold);
+            if (topLevel && parallelPartitioning && blocks > 1) {
+                /* The pivot is placed at its final position p, so it need not be sorted again. */
+                final int p = parallelPartition(data, low, high, blocks);
+                invokeAll(new SortTask(data, low, p - 1, false), new SortTask(data, p + 1, high, false));
+            } else {
+                medianOfThree(data, low, high);
+                final int p = partition(data, low, high);
+                invokeAll(new SortTask(data, low, p, false), new SortTask(data, p + 1, high, false));
+            }
+        }
+    }
+
+    /**
+     * Partitions the segment [low, high] of data around the median of three of its elements, using the given number of
+     * blocks partitioned in parallel. Unlike partition, this places the pivot at its final position p, so that
+     *   for every low <= k < p < j <= high  data[k] < data[p] <= data[j]
+     * This must be called from within the pool.
+     *
+     * @param data the data from which to partition the specified segment.
+     * @param low the first index to consider in partitioning this segment.
+     * @param high the last index to consider in partitioning this segment.
+     * @param blocks the number of blocks to partition in parallel.
+     * @return the final index of the pivot.
+     */
+    private int parallelPartition(final T[] data, final int low, final int high, final int blocks) {
+        medianOfThree(data, low, high);
+        final T pivot = data[low];
+
+        /* Partition every block of [low + 1, high] independently, so that each holds its elements less than the pivot,
+            followed by the rest. */
+        final int length = high - low;
+        final int[] starts = new int[blocks + 1];
+        final int[] lessCounts = new int[blocks];
+        final List<RecursiveAction> tasks = new ArrayList<>(blocks);
+        for (int b = 0; b <= blocks; ++b) {
+            starts[b] = low + 1 + (int) ((long) length * b / blocks);
+        }
+        for (int b = 0; b < blocks; ++b) {
+            final int block = b;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    lessCounts[block] = partitionBlock(data, starts[block], starts[block + 1] - 1, pivot);
+                }
+            });
+        }
+        RecursiveAction.invokeAll(tasks);
+
+        /* The lesser elements belong in [low + 1, boundary), and the rest in [boundary, high]. Every block holding a
+            greater element left of the boundary must be matched by a lesser element right of it; collect where those
+            misplaced elements are. */
+        int boundary = low + 1;
+        for (final int count : lessCounts) {
+            boundary += count;
+        }
+        final List<int[]> misplacedGreater = new ArrayList<>();
+        final List<int[]> misplacedLesser = new ArrayList<>();
+        int misplaced = 0;
+        for (int b = 0; b < blocks; ++b) {
+            final int split = starts[b] + lessCounts[b];
+            /* Greater elements at [split, starts[b + 1]) which lie before the boundary. */
+            final int greaterEnd = Math.min(starts[b + 1], boundary);
+            if (split < greaterEnd) {
+                misplacedGreater.add(new int[] { split, greaterEnd });
+                misplaced += greaterEnd - split;
+            }
+            /* Lesser elements at [starts[b], split) which lie at or after the boundary. */
+            final int lesserStart = Math.max(starts[b], boundary);
+            if (lesserStart < split) {
+                misplacedLesser.add(new int[] { lesserStart, split });
+            }
+        }
+
+        /* Exchange the misplaced elements pairwise, in parallel, in chunks of equal length. */
+        final int chunks = misplaced == 0 ? 0 : Math.max(1, Math.min(blocks, misplaced / threshold));
+        final int total = misplaced;
+        tasks.clear();
+        for (int c = 0; c < chunks; ++c) {
+            final int from = (int) ((long) total * c / chunks);
+            final int to = (int) ((long) total * (c + 1) / chunks);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    exchange(data, misplacedGreater, misplacedLesser, from, to);
+                }
+            });
+        }
+        RecursiveAction.invokeAll(tasks);
+
+        /* The last lesser element now sits just before the boundary; the pivot belongs there. */
+        final int p = boundary - 1;
+        swap(data, low, p);
+        return p;
+    }
+
+    /**
+     * Partitions the segment [low, high] of data so that its elements less than the pivot precede the rest.
+     *
+     * @param data the data from which to partition the specified segment.
+     * @param low the first index to consider in partitioning this segment.
+     * @param high the last index to consider in partitioning this segment.
+     * @param pivot the element to partition around.
+     * @return the number of elements in the segment which are less than the pivot.
+     */
+    private static <T extends Comparable<T>> int partitionBlock(final T[] data, final int low, final int high,
+            final T pivot) {
+        int i = low;
+        int j = high;
+        while (true) {
+            while (i <= j && data[i].compareTo(pivot) < 0) {
+                ++i;
+            }
+            while (i <= j && data[j].compareTo(pivot) >= 0) {
+                --j;
+            }
+            if (i >= j) {
+                return i - low;
+            }
+            swap(data, i++, j--);
+        }
+    }
+
+    /**
+     * Exchanges the misplaced greater elements with the misplaced lesser elements, from the from-th to the (to - 1)-th
+     * of each.
+     *
+     * @param data the data in which to exchange elements.
+     * @param greater the intervals [start, end) of the misplaced greater elements, in order.
+     * @param lesser the intervals [start, end) of the misplaced lesser elements, in order.
+     * @param from the first misplaced element, counting from 0, to exchange.
+     * @param to the misplaced element, counting from 0, at which to stop.
+     */
+    private static void exchange(final Object[] data, final List<int[]> greater, final List<int[]> lesser,
+            final int from, final int to) {
+        int g = 0;
+        int gIndex = greater.get(0)[0];
+        int l = 0;
+        int lIndex = lesser.get(0)[0];
+        /* Skip ahead to the from-th element of each list of intervals. */
+        for (int skip = from; skip > 0; ) {
+            final int step = Math.min(skip, greater.get(g)[1] - gIndex);
+            gIndex += step;
+            skip -= step;
+            if (gIndex == greater.get(g)[1]) {
+                gIndex = ++g < greater.size() ? greater.get(g)[0] : gIndex;
+            }
+        }
+        for (int skip = from; skip > 0; ) {
+            final int step = Math.min(skip, lesser.get(l)[1] - lIndex);
+            lIndex += step;
+            skip -= step;
+            if (lIndex == lesser.get(l)[1]) {
+                lIndex = ++l < lesser.size() ? lesser.get(l)[0] : lIndex;
+            }
+        }
+        for (int k = from; k < to; ++k) {
+            swap(data, gIndex++, lIndex++);
+            if (gIndex == greater.get(g)[1] && ++g < greater.size()) {
+                gIndex = greater.get(g)[0];
+            }
+            if (lIndex == lesser.get(l)[1] && ++l < lesser.size()) {
+                lIndex = lesser.get(l)[0];
+            }
+        }
+    }
+
+    /**
+     * Sorts the entire array using the parallel Quick Sort algorithm.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final T[] data) {
+        sort(data, 0, data.length - 1);
+    }
+
+    /**
+     * Sorts, using the parallel Quick Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final T[] data, final int low, final int high) {
+        pool.invoke(new SortTask(data, low, high, true));
+    }
+
+    public static void main(final String[] args) {
+        System.out.println("Testing Parallel Quick Sort:");
+        Utilities.doublingTest(new ParallelQuickSort<Integer>(), (int) Math.pow(2, 13), (int) Math.pow(2, 25));
+    }
+}
@@ -1,5 +1,10 @@
 package algs.sorts;
 
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 import static algs.sorts.Utilities.shuffle;
 import static algs.sorts.Utilities.swap;
@@ -10,23 +15,92 @@ import static java.lang.Math.pow;
  *
  * Theoretically, the Quick Sort algorithm is an in-place algorithm.
  *
+ * Segments are partitioned according to the Partitioning given to the constructor: by default, Hoare's scheme around
+ * the first element of a segment, after shuffling the whole array once. Inputs with many duplicate keys are better
+ * served by three-way partitioning, and dual-pivot partitioning makes fewer passes over the data on most inputs;
+ * neither needs the upfront shuffle, since they take their pivots from samples of each segment.
+ *
  * The Quick Sort algorithm has the following performance characteristics, as have been validated for this
  * implementation by empirical tests:
  *
- * - Worst case number of comparisons: O(N^2)
+ * - Worst case number of comparisons: O(N^2), or O(N lg N) when introspective.
  * - Average case number of comparisons: O(N lg N)
  * - Best case number of comparisons: O(N lg N)
  *
- * - Guaranteed extra space usage: O(lg N) for the call-stack made by the recursive tree.
+ * - Guaranteed extra space usage: O(lg N) for the call-stack made by the recursive tree, since only the shorter
+ *   segments produced by each partition are sorted recursively.
+ *
+ * The static methods sort elements of any type, in the order of a Comparator, or of a key extracted from each element
+ * once, by Keys, rather than on every comparison; sorts by a long or double key compare only the cached primitive keys,
+ * which are swapped in tandem with the elements. These partition by Hoare's scheme around the median of three.
  *
  * @author Robert Mitchell <robert.mitchell36@gmail.com>
  */
 public class QuickSort<T extends Comparable<T>> implements Sort<T> {
-    private static final int SORT_CUTOFF = 11;
+    static final int SORT_CUTOFF = 11;
+    /* Segments longer than this take a ninther, rather than a median of three, as the pivot. */
+    private static final int NINTHER_CUTOFF = 40;
     private final Sort<T> INSERTION_SORT;
+    private final Sort<T> HEAP_SORT;
+    private final Partitioning partitioning;
+    private final boolean introspective;
+
+    /**
+     * The schemes by which a Quick Sort can partition each segment.
+     */
+    public enum Partitioning {
+        /**
+         * Hoare's partitioning around the first element of each segment, relying on a shuffle of the whole array to
+         * make the worst case unlikely. Each segment is split into elements less than or equal to the pivot, and
+         * elements greater than or equal to it.
+         */
+        HOARE,
+        /**
+         * Bentley and McIlroy's three-way partitioning around a median of three, or a ninther for longer segments.
+         * Each segment is split into elements less than, equal to, and greater than the pivot, and the elements equal
+         * to the pivot are never considered again, so a segment of N elements drawn from k distinct keys takes
+         * O(N lg k) comparisons.
+         */
+        THREE_WAY,
+        /**
+         * Yaroslavskiy's dual-pivot partitioning around the second and fourth of five evenly spaced elements. Each
+         * segment is split into elements less than the lesser pivot, between the pivots, and greater than the greater
+         * pivot.
+         */
+        DUAL_PIVOT
+    }
 
+    /**
+     * Creates a Quick Sort which uses Hoare partitioning.
+     */
     public QuickSort() {
+        this(Partitioning.HOARE);
+    }
+
+    /**
+     * Creates a Quick Sort which uses the given partitioning scheme.
+     *
+     * @param partitioning The scheme by which to partition each segment.
+     */
+    public QuickSort(final Partitioning partitioning) {
+        this(partitioning, false);
+    }
+
+    /**
+     * Creates a Quick Sort which uses the given partitioning scheme, and which, if introspective, hands any segment
+     * to a Heap Sort once it has been partitioned more than 2 lg N times, where N is the length of the whole sorted
+     * interval. An introspective Quick Sort takes O(N lg N) comparisons in the worst case, even on adversarial inputs
+     * and on range sorts, which are never shuffled; with Hoare partitioning, it also takes the pivot of each segment
+     * from a median of three.
+     *
+     * @param partitioning The scheme by which to partition each segment.
+     * @param introspective Whether to bound the depth of partitioning by falling back to Heap Sort.
+     */
+    public QuickSort(final Partitioning partitioning, final boolean introspective) {
         this.INSERTION_SORT = new InsertionSort<>();
+        this.HEAP_SORT = new HeapSort<>();
+        this.partitioning = Objects.requireNonNull(partitioning);
+        this.introspective = introspective;
     }
 
     /**
@@ -41,7 +115,7 @@ public class QuickSort<T extends Comparable<T>> implements Sort<T> {
      *          element to the right is greater than or equal to it.
      */
     @SuppressWarnings("empty-statement")
-    private int partition(final T[] data, final int low, final int high) {
+    static <T extends Comparable<T>> int partition(final T[] data, final int low, final int high) {
         final T pivot = data[low]; /* Make the first index the pivot value */
         int i = low - 1;  /* Set the left scan-index */
         int j = high + 1; /* Set the right scan-index */
@@ -62,6 +136,237 @@ public class QuickSort<T extends Comparable<T>> implements Sort<T> {
         }
     }
 
+    /**
+     * Moves the median of the first, middle, and last elements of the segment [low, high] to data[low], where it will
+     * be taken as the pivot by partition; this avoids the worst case on sorted and reverse sorted segments without
+     * first shuffling them. Note, that this method assumes low < high.
+     *
+     * @param data the data containing the segment.
+     * @param low the first index of the segment.
+     * @param high the last index of the segment.
+     */
+    static <T extends Comparable<T>> void medianOfThree(final T[] data, final int low, final int high) {
+        final int mid = low + (high - low) / 2;
+        /* Order the three elements, then move the middle one to the front. */
+        if (data[mid].compareTo(data[low]) < 0) {
+            swap(data, low, mid);
+        }
+        if (data[high].compareTo(data[mid]) < 0) {
+            swap(data, mid, high);
+            if (data[mid].compareTo(data[low]) < 0) {
+                swap(data, low, mid);
+            }
+        }
+        swap(data, low, mid);
+    }
+
+    /**
+     * Returns the index of the median of the elements at the three given indices of data.
+     *
+     * @param data the data containing the elements.
+     * @param i the index of the first element.
+     * @param j the index of the second element.
+     * @param k the index of the third element.
+     * @return whichever of i, j, and k holds the median of the three elements.
+     */
+    private static <T extends Comparable<T>> int median(final T[] data, final int i, final int j, final int k) {
+        if (data[i].compareTo(data[j]) < 0) {
+            if (data[j].compareTo(data[k]) < 0) {
+                return j;
+            }
+            return data[i].compareTo(data[k]) < 0 ? k : i;
+        }
+        if (data[k].compareTo(data[j]) < 0) {
+            return j;
+        }
+        return data[k].compareTo(data[i]) < 0 ? k : i;
+    }
+
+    /**
+     * Sorts the segment [low, high] of data, using Bentley-McIlroy three-way partitioning: elements equal to the
+     * pivot are swapped to the ends of the segment as they are found, then into the middle once the scan is complete,
+     * so that only the elements strictly less than and strictly greater than the pivot are sorted recursively.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param depthLimit The number of further partitions allowed before the segment is given to a Heap Sort.
+     */
+    private void threeWayQuickSort(final T[] data, int low, int high, int depthLimit) {
+        while (high > low + SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                HEAP_SORT.sort(data, low, high);
+                return;
+            }
+            final long bounds = threeWayPartition(data, low, high);
+            final int j = (int) (bounds >> 32);
+            final int i = (int) bounds;
+            /* Recurse into the shorter segment, and loop on the longer, so that the stack is at most lg N deep. */
+            if (j - low < high - i) {
+                threeWayQuickSort(data, low, j, depthLimit);
+                low = i;
+            } else {
+                threeWayQuickSort(data, i, high, depthLimit);
+                high = j;
+            }
+        }
+        INSERTION_SORT.sort(data, low, high);
+    }
+
+    /**
+     * Partitions the segment [low, high] of data three ways, around a median of three or a ninther, so that
+     *   for every low <= k <= j < m < i <= n <= high  data[k] < data[m] = pivot < data[n]
+     * Note, that this method assumes the segment is longer than the insertion sort cutoff.
+     *
+     * @param data the data from which to partition the specified segment.
+     * @param low the first index to consider in partitioning this segment.
+     * @param high the last index to consider in partitioning this segment.
+     * @return j in the upper 32 bits, and i in the lower 32 bits.
+     */
+    private static <T extends Comparable<T>> long threeWayPartition(final T[] data, final int low, final int high) {
+        /* Move the pivot to data[low]; Tukey's ninther, the median of three medians of three, samples longer
+            segments more thoroughly at the cost of a few extra comparisons. */
+        final int n = high - low + 1;
+        final int mid = low + n / 2;
+        final int pivotIndex;
+        if (n <= NINTHER_CUTOFF) {
+            pivotIndex = median(data, low, mid, high);
+        } else {
+            final int eps = n / 8;
+            pivotIndex = median(data,
+                    median(data, low, low + eps, low + eps + eps),
+                    median(data, mid - eps, mid, mid + eps),
+                    median(data, high - eps - eps, high - eps, high));
+        }
+        swap(data, low, pivotIndex);
+        final T pivot = data[low];
+
+        /* Invariant: data[low..p] == pivot < data[p+1..i-1], data[j+1..q-1] < pivot == data[q..high] */
+        int i = low;
+        int j = high + 1;
+        int p = low;
+        int q = high + 1;
+        while (true) {
+            while (data[++i].compareTo(pivot) < 0) {
+                if (i == high) {
+                    break;
+                }
+            }
+            while (pivot.compareTo(data[--j]) < 0) {
+                if (j == low) {
+                    break;
+                }
+            }
+            /* If the pointers met on an element equal to the pivot, it belongs with the others on the left. */
+            if (i == j && data[i].compareTo(pivot) == 0) {
+                swap(data, ++p, i);
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(data, i, j);
+            if (data[i].compareTo(pivot) == 0) {
+                swap(data, ++p, i);
+            }
+            if (data[j].compareTo(pivot) == 0) {
+                swap(data, --q, j);
+            }
+        }
+
+        /* Swap the elements equal to the pivot from the ends into the middle. */
+        i = j + 1;
+        for (int k = low; k <= p; ++k) {
+            swap(data, k, j--);
+        }
+        for (int k = high; k >= q; --k) {
+            swap(data, k, i++);
+        }
+        return ((long) j << 32) | (i & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Sorts the segment [low, high] of data, using Yaroslavskiy's dual-pivot partitioning. The pivots are the second
+     * and fourth of five evenly spaced elements, once those five are sorted, which splits the segment into roughly
+     * equal thirds.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param depthLimit The number of further partitions allowed before the segment is given to a Heap Sort.
+     */
+    private void dualPivotQuickSort(final T[] data, int low, int high, int depthLimit) {
+        while (high > low + SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                HEAP_SORT.sort(data, low, high);
+                return;
+            }
+
+            /* Sort five evenly spaced elements, then move the second and fourth to the ends as the pivots. */
+            final int seventh = (high - low + 1) / 7;
+            final int e3 = low + (high - low) / 2;
+            final int e2 = e3 - seventh;
+            final int e1 = e2 - seventh;
+            final int e4 = e3 + seventh;
+            final int e5 = e4 + seventh;
+            final int[] samples = { e1, e2, e3, e4, e5 };
+            for (int s = 1; s < samples.length; ++s) {
+                final T sample = data[samples[s]];
+                int t = s - 1;
+                for (; t >= 0 && sample.compareTo(data[samples[t]]) < 0; --t) {
+                    data[samples[t + 1]] = data[samples[t]];
+                }
+                data[samples[t + 1]] = sample;
+            }
+            swap(data, low, e2);
+            swap(data, high, e4);
+            final T lesserPivot = data[low];
+            final T greaterPivot = data[high];
+
+            /* Invariant: data[low+1..lt-1] < lesserPivot <= data[lt..i-1] <= greaterPivot < data[gt+1..high-1] */
+            int lt = low + 1;
+            int gt = high - 1;
+            int i = low + 1;
+            while (i <= gt) {
+                if (data[i].compareTo(lesserPivot) < 0) {
+                    swap(data, lt++, i++);
+                } else if (greaterPivot.compareTo(data[i]) < 0) {
+                    swap(data, i, gt--);
+                } else {
+                    ++i;
+                }
+            }
+            swap(data, low, --lt);
+            swap(data, high, ++gt);
+
+            /* If the pivots are equal, every element between them equals both, and is already in place. */
+            final boolean sortMiddle = lesserPivot.compareTo(greaterPivot) < 0;
+            final int left = lt - low;
+            final int middle = sortMiddle ? gt - lt - 1 : 0;
+            final int right = high - gt;
+            /* Recurse into the two shorter segments, and loop on the longest, so that the stack is at most lg N
+                deep. */
+            if (left >= middle && left >= right) {
+                if (sortMiddle) {
+                    dualPivotQuickSort(data, lt + 1, gt - 1, depthLimit);
+                }
+                dualPivotQuickSort(data, gt + 1, high, depthLimit);
+                high = lt - 1;
+            } else if (right >= middle) {
+                dualPivotQuickSort(data, low, lt - 1, depthLimit);
+                if (sortMiddle) {
+                    dualPivotQuickSort(data, lt + 1, gt - 1, depthLimit);
+                }
+                low = gt + 1;
+            } else {
+                dualPivotQuickSort(data, low, lt - 1, depthLimit);
+                dualPivotQuickSort(data, gt + 1, high, depthLimit);
+                low = lt + 1;
+                high = gt - 1;
+            }
+        }
+        INSERTION_SORT.sort(data, low, high);
+    }
+
     /**
      * Sorts, using the Quick Sort algorithm, the given array, data, on the inclusive interval [low, high]. This
      * implementation uses an Insertion Sort for sub-arrays of length 11 or less.
@@ -70,34 +375,76 @@ public class QuickSort<T extends Comparable<T>> implements Sort<T> {
      * @param data The array to be sorted
      * @param low The first index, inclusive, to be sorted
      * @param high The last index, inclusive, to be sorted
+     * @param depthLimit The number of further partitions allowed before the segment is given to a Heap Sort.
      */
-    private void quickSort(final T[] data, final int low, final int high) {
-        /* If the segment size is less than the cutoff (here 11), sort the
-            sub-array with Insertion Sort, which performs better on arrays of
-            that size. */
-        if (high <= low + SORT_CUTOFF) {
-            INSERTION_SORT.sort(data, low, high);
-            return;
-        }
-        
-        /* Partition the segment into a segment <= to data[p],
-            and a segment >= data[p], then sort each segment recursively. */
-        final int p = partition(data, low, high);
-        quickSort(data, low, p);
-        quickSort(data, p + 1, high);
+    private void quickSort(final T[] data, int low, int high, int depthLimit) {
+        /* As long as the segment size is more than the cutoff (here 11),
+            partition it; then sort what remains with Insertion Sort, which
+            performs better on arrays of that size. */
+        while (high > low + SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                HEAP_SORT.sort(data, low, high);
+                return;
+            }
+            /* Without the shuffle of the whole array, the first element is a poor pivot for sorted segments. */
+            if (introspective) {
+                medianOfThree(data, low, high);
+            }
+
+            /* Partition the segment into a segment <= to data[p],
+                and a segment >= data[p], then sort each segment: the
+                shorter recursively, and the longer by looping, so that the
+                stack is at most lg N deep. */
+            final int p = partition(data, low, high);
+            if (p - low < high - p) {
+                quickSort(data, low, p, depthLimit);
+                low = p + 1;
+            } else {
+                quickSort(data, p + 1, high, depthLimit);
+                high = p;
+            }
+        }
+        INSERTION_SORT.sort(data, low, high);
     }
     
     /**
-     * Sorts the entire array using the Quick Sort algorithm, after first shuffling the array in O(N) time to reduce
-     * the probability of worst-case O(N^2) performance. This implementation uses an Insertion Sort for sub-arrays of
-     * length 11 or less.
+     * Sorts, using the Quick Sort algorithm with this sort's partitioning scheme, the given array, data, on the
+     * inclusive interval [low, high].
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    private void sortSegment(final T[] data, final int low, final int high) {
+        /* Introsort allows 2 lg N levels of partitioning; otherwise the limit is never reached. */
+        final int depthLimit = introspective
+                ? 2 * (31 - Integer.numberOfLeadingZeros(Math.max(1, high - low + 1)))
+                : Integer.MAX_VALUE;
+        switch (partitioning) {
+            case THREE_WAY:
+                threeWayQuickSort(data, low, high, depthLimit);
+                break;
+            case DUAL_PIVOT:
+                dualPivotQuickSort(data, low, high, depthLimit);
+                break;
+            default:
+                quickSort(data, low, high, depthLimit);
+        }
+    }
+
+    /**
+     * Sorts the entire array using the Quick Sort algorithm. With Hoare partitioning, the array is first shuffled in
+     * O(N) time to reduce the probability of worst-case O(N^2) performance. This implementation uses an Insertion Sort
+     * for sub-arrays of length 11 or less.
      *
      * @param data The array to be sorted.
      */
     @Override
     public void sort(final T[] data) {
-        shuffle(data); // Reduces probability of worst-case performance.
-        quickSort(data, 0, data.length - 1);
+        if (partitioning == Partitioning.HOARE) {
+            shuffle(data); // Reduces probability of worst-case performance.
+        }
+        sortSegment(data, 0, data.length - 1);
     }
 
     /**
@@ -111,11 +458,231 @@ public class QuickSort<T extends Comparable<T>> implements Sort<T> {
      */
     @Override
     public void sort(final T[] data, final int low, final int high) {
-        quickSort(data, low, high);
+        sortSegment(data, low, high);
+    }
+
+    /**
+     * Sorts, using the Quick Sort algorithm, the given array, data, on the inclusive interval [low, high], in the order
+     * of the given comparator. Pivots are taken as the median of three elements of each segment. This implementation
+     * uses an Insertion Sort for sub-arrays of length 11 or less.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param comparator The order in which to sort the elements
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sort(final E[] data, final int low, final int high,
+            final Comparator<? super E> comparator) {
+        quickSort(data, low, high, comparator);
+    }
+
+    /**
+     * Sorts the entire given array using the Quick Sort algorithm, in the order of the given comparator.
+     *
+     * @param data The array to be sorted
+     * @param comparator The order in which to sort the elements
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sort(final E[] data, final Comparator<? super E> comparator) {
+        quickSort(data, 0, data.length - 1, comparator);
+    }
+
+    /**
+     * Sorts the segment [low, high] of data in the order of the given comparator, as quickSort does in natural order.
+     */
+    @SuppressWarnings("empty-statement")
+    private static <E> void quickSort(final E[] data, int low, int high, final Comparator<? super E> comparator) {
+        while (high > low + SORT_CUTOFF) {
+            /* Order the first, middle, and last elements, then move their median to the front, as the pivot. */
+            final int mid = low + (high - low) / 2;
+            if (comparator.compare(data[mid], data[low]) < 0) {
+                swap(data, low, mid);
+            }
+            if (comparator.compare(data[high], data[mid]) < 0) {
+                swap(data, mid, high);
+                if (comparator.compare(data[mid], data[low]) < 0) {
+                    swap(data, low, mid);
+                }
+            }
+            swap(data, low, mid);
+
+            /* Partition around the pivot, as partition does. */
+            final E pivot = data[low];
+            int i = low - 1;
+            int j = high + 1;
+            while (true) {
+                while (comparator.compare(data[++i], pivot) < 0);
+                while (comparator.compare(data[--j], pivot) > 0);
+                if (i >= j) {
+                    break;
+                }
+                swap(data, i, j);
+            }
+
+            /* Sort the shorter segment recursively, and the longer by looping. */
+            if (j - low < high - j) {
+                quickSort(data, low, j, comparator);
+                low = j + 1;
+            } else {
+                quickSort(data, j + 1, high, comparator);
+                high = j;
+            }
+        }
+        InsertionSort.sort(data, low, high, comparator);
+    }
+
+    /**
+     * Swaps the keys at indices i and j, and the elements at offset + i and offset + j of data.
+     */
+    private static void swapInTandem(final long[] keys, final Object[] data, final int offset, final int i, final int j) {
+        final long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        swap(data, offset + i, offset + j);
+    }
+
+    /**
+     * Sorts, using the Quick Sort algorithm, the keys on the inclusive interval [low, high], swapping the elements of
+     * data in tandem, such that the element of the key at index i is at index offset + i of data.
+     *
+     * @param keys The keys to be sorted
+     * @param data The elements to be moved with their keys
+     * @param offset The index in data of the element of the key at index 0
+     * @param low The first index of keys, inclusive, to be sorted
+     * @param high The last index of keys, inclusive, to be sorted
+     */
+    @SuppressWarnings("empty-statement")
+    private static void quickSort(final long[] keys, final Object[] data, final int offset, int low, int high) {
+        while (high > low + SORT_CUTOFF) {
+            final int mid = low + (high - low) / 2;
+            if (keys[mid] < keys[low]) {
+                swapInTandem(keys, data, offset, low, mid);
+            }
+            if (keys[high] < keys[mid]) {
+                swapInTandem(keys, data, offset, mid, high);
+                if (keys[mid] < keys[low]) {
+                    swapInTandem(keys, data, offset, low, mid);
+                }
+            }
+            swapInTandem(keys, data, offset, low, mid);
+
+            final long pivot = keys[low];
+            int i = low - 1;
+            int j = high + 1;
+            while (true) {
+                while (keys[++i] < pivot);
+                while (keys[--j] > pivot);
+                if (i >= j) {
+                    break;
+                }
+                swapInTandem(keys, data, offset, i, j);
+            }
+
+            if (j - low < high - j) {
+                quickSort(keys, data, offset, low, j);
+                low = j + 1;
+            } else {
+                quickSort(keys, data, offset, j + 1, high);
+                high = j;
+            }
+        }
+        InsertionSort.sort(keys, data, offset, low, high);
+    }
+
+    /**
+     * Sorts, using the Quick Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the key of each element, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     * @param <K> The type of the keys
+     */
+    public static <E, K extends Comparable<? super K>> void sortByKey(final E[] data, final int low, final int high,
+            final Function<? super E, ? extends K> key) {
+        final Keys.Keyed<E, K>[] keyed = Keys.decorate(data, low, high, key);
+        quickSort(keyed, 0, keyed.length - 1, Keys.<E, K>byKey());
+        Keys.undecorate(keyed, data, low);
+    }
+
+    /**
+     * Sorts the entire given array using the Quick Sort algorithm, in the order of the key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     * @param <K> The type of the keys
+     */
+    public static <E, K extends Comparable<? super K>> void sortByKey(final E[] data,
+            final Function<? super E, ? extends K> key) {
+        sortByKey(data, 0, data.length - 1, key);
+    }
+
+    /**
+     * Sorts, using the Quick Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the long key of each element, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByLongKey(final E[] data, final int low, final int high,
+            final ToLongFunction<? super E> key) {
+        final long[] keys = Keys.longKeys(data, low, high, key);
+        quickSort(keys, data, low, 0, keys.length - 1);
+    }
+
+    /**
+     * Sorts the entire given array using the Quick Sort algorithm, in the order of the long key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByLongKey(final E[] data, final ToLongFunction<? super E> key) {
+        sortByLongKey(data, 0, data.length - 1, key);
+    }
+
+    /**
+     * Sorts, using the Quick Sort algorithm, the given array, data, on the inclusive interval [low, high], in the
+     * order of the double key of each element by Double.compare, which is extracted exactly once.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByDoubleKey(final E[] data, final int low, final int high,
+            final ToDoubleFunction<? super E> key) {
+        final long[] keys = Keys.doubleKeys(data, low, high, key);
+        quickSort(keys, data, low, 0, keys.length - 1);
+    }
+
+    /**
+     * Sorts the entire given array using the Quick Sort algorithm, in the order of the double key of each element.
+     *
+     * @param data The array to be sorted
+     * @param key The function from an element to its key
+     * @param <E> The type of the elements to be sorted
+     */
+    public static <E> void sortByDoubleKey(final E[] data, final ToDoubleFunction<? super E> key) {
+        sortByDoubleKey(data, 0, data.length - 1, key);
     }
 
     public static void main (final String[] args) {
         System.out.println("Testing Quick Sort:");
         Utilities.doublingTest(new QuickSort<Integer>(), (int) pow(2, 13), (int) pow(2, 25));
+        System.out.println("Testing Three-Way Quick Sort:");
+        Utilities.doublingTest(new QuickSort<Integer>(Partitioning.THREE_WAY), (int) pow(2, 13), (int) pow(2, 25));
+        System.out.println("Testing Introspective Quick Sort:");
+        Utilities.doublingTest(new QuickSort<Integer>(Partitioning.HOARE, true), (int) pow(2, 13), (int) pow(2, 25));
+        System.out.println("Testing Dual-Pivot Quick Sort:");
+        Utilities.doublingTest(new QuickSort<Integer>(Partitioning.DUAL_PIVOT), (int) pow(2, 13), (int) pow(2, 25));
     }
 }
@@ -0,0 +1,38 @@
+package algs.sorts;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Provides a generic interface for converting records of type T to and from bytes, so that an ExternalMergeSort can
+ * spill them to disk. Records are framed by their length, so a codec need not mark where a record ends, and may encode
+ * records of different lengths.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Determines the number of bytes encode will write for the given record.
+     *
+     * @param record The record to be encoded
+     * @return The exact number of bytes in the encoding of the record
+     */
+    int encodedSize(final T record);
+
+    /**
+     * Writes the encoding of the given record at the position of the buffer, advancing the position by exactly
+     * encodedSize(record) bytes. The buffer is guaranteed to have at least that many bytes remaining.
+     *
+     * @param record The record to be encoded
+     * @param buffer The buffer into which to write the encoding
+     */
+    void encode(final T record, final ByteBuffer buffer);
+
+    /**
+     * Reads a record from the buffer, whose remaining bytes are exactly the encoding of one record.
+     *
+     * @param buffer The buffer holding the encoding of the record
+     * @return The decoded record
+     */
+    T decode(final ByteBuffer buffer);
+}
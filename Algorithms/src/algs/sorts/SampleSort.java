@@ -0,0 +1,296 @@
+package algs.sorts;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implements the parallel Sample Sort algorithm for an array of type T, where T implements the method .compareTo(T)
+ *
+ * A random sample of the segment, oversampled by lg N elements per bucket, is sorted, and evenly spaced elements of it
+ * are chosen as splitters, which divide the values into buckets of about equal size. Every element equal to a splitter
+ * is placed into a bucket of its own, which needs no sorting, so heavily repeated values cannot unbalance the buckets.
+ * Then the elements are distributed in three parallel phases, over blocks of the segment: each block classifies its
+ * elements and counts its share of every bucket; the counts determine, by prefix sums, the exclusive region of the
+ * auxiliary array into which each block places each of its buckets; and each block moves its elements into those
+ * regions. Finally, the buckets are copied back and sorted concurrently, each by the given Sort, or, should one be more
+ * than twice as long as expected, by a Sample Sort of its own.
+ *
+ * Since its buckets are sorted concurrently, the given Sort must be safe to use from many threads at once, as every
+ * Sort in this package is. The default is an introspective QuickSort.
+ *
+ * Theoretically, the Sample Sort algorithm is not a stable algorithm, since the buckets need not be sorted stably.
+ *
+ * The Sample Sort algorithm has the following performance characteristics, on P threads, into K buckets:
+ *
+ * - Expected number of comparisons: O(N lg N), of which O(N lg K) classify elements, and the rest sort the buckets.
+ * - Expected running time: O(N lg N / P + K lg N), with high probability when every bucket is at least lg N long.
+ *
+ * - Guaranteed extra space usage: O(N) for the auxiliary array and the bucket of each element, and O(B K) for the
+ *   counts of each of the B blocks.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class SampleSort<T extends Comparable<T>> implements Sort<T> {
+    /* Below about this many elements, distributing a segment costs more than sorting it directly. */
+    private static final int DEFAULT_THRESHOLD = 1 << 13;
+    /* How many buckets, and blocks, per thread in the pool a segment is split into, so that threads which finish early
+        can take up the work of the others. */
+    private static final int BUCKETS_PER_THREAD = 4;
+    private static final int BLOCKS_PER_THREAD = 4;
+    /* The most splitters chosen for any segment; 2 * MAX_SPLITTERS + 1 buckets must be numbered by a short. */
+    private static final int MAX_SPLITTERS = 1 << 10;
+    private final ForkJoinPool pool;
+    private final Sort<T> bucketSort;
+    private final int threshold;
+
+    /**
+     * Creates a Sample Sort which runs in the common ForkJoinPool, with the default granularity threshold, and which
+     * sorts the buckets with an introspective QuickSort.
+     */
+    public SampleSort() {
+        this(new QuickSort<T>(QuickSort.Partitioning.HOARE, true));
+    }
+
+    /**
+     * Creates a Sample Sort which runs in the common ForkJoinPool, with the default granularity threshold, and which
+     * sorts the buckets with the given Sort.
+     *
+     * @param bucketSort The Sort with which to sort each bucket, and segments at or below the threshold.
+     */
+    public SampleSort(final Sort<T> bucketSort) {
+        this(ForkJoinPool.commonPool(), bucketSort, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a Sample Sort which runs in the given ForkJoinPool, with the given granularity threshold, and which sorts
+     * the buckets with the given Sort.
+     *
+     * @param pool The pool in which to run the distributing and sorting tasks.
+     * @param bucketSort The Sort with which to sort each bucket, and segments at or below the threshold.
+     * @param threshold The length of segment at or below which segments are sorted directly by the bucketSort.
+     */
+    public SampleSort(final ForkJoinPool pool, final Sort<T> bucketSort, final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+        }
+        this.pool = Objects.requireNonNull(pool);
+        this.bucketSort = Objects.requireNonNull(bucketSort);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the bucket of the given element: 2j + 1 if it is equal to the j-th splitter, or otherwise 2j, where the
+     * j-th splitter is the first greater than the element, or j is the number of splitters if none is.
+     *
+     * @param element The element to classify.
+     * @param splitters The distinct splitters, in ascending order.
+     * @return The bucket of the element, in [0, 2 * splitters.length].
+     */
+    private static <T extends Comparable<T>> int classify(final T element, final T[] splitters) {
+        /* Find the first splitter not less than the element. */
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (splitters[mid].compareTo(element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < splitters.length && splitters[low].compareTo(element) == 0 ? 2 * low + 1 : 2 * low;
+    }
+
+    /**
+     * Sorts the segment [low, high] of data, by distributing it into buckets, then sorting every bucket in parallel.
+     * The auxiliary array holds the segment at [low - auxOffset, high - auxOffset].
+     */
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] data;
+        private final T[] aux;
+        private final int auxOffset;
+        private final int low;
+        private final int high;
+
+        SortTask(final T[] data, final T[] aux, final int auxOffset, final int low, final int high) {
+            this.data = data;
+            this.aux = aux;
+            this.auxOffset = auxOffset;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            final int length = high - low + 1;
+            if (length <= threshold) {
+                bucketSort.sort(data, low, high);
+                return;
+            }
+
+            final T[] splitters = chooseSplitters(data, low, high,
+                    Math.min(pool.getParallelism() * BUCKETS_PER_THREAD, length / threshold));
+            final int buckets = 2 * splitters.length + 1;
+            final int blocks = Math.max(1, Math.min(pool.getParallelism() * BLOCKS_PER_THREAD, length / threshold));
+            final int[] blockStarts = new int[blocks + 1];
+            for (int b = 0; b <= blocks; ++b) {
+                blockStarts[b] = low + (int) ((long) length * b / blocks);
+            }
+
+            /* Classify every element, and count how many of each block fall into each bucket. */
+            final short[] bucketOf = new short[length];
+            final int[][] counts = new int[blocks][buckets];
+            final List<RecursiveAction> tasks = new ArrayList<>(Math.max(blocks, buckets));
+            for (int b = 0; b < blocks; ++b) {
+                final int block = b;
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        final int[] blockCounts = counts[block];
+                        for (int i = blockStarts[block]; i < blockStarts[block + 1]; ++i) {
+                            final int bucket = classify(data[i], splitters);
+                            bucketOf[i - low] = (short) bucket;
+                            ++blockCounts[bucket];
+                        }
+                    }
+                });
+            }
+            invokeAll(tasks);
+
+            /* Bucket k occupies [bucketStarts[k], bucketStarts[k + 1]) of the segment; within it, each block places its
+                share after those of the blocks before it. Replace the counts by where each share begins. */
+            final int[] bucketStarts = new int[buckets + 1];
+            bucketStarts[0] = low;
+            for (int k = 0, next = low; k < buckets; ++k) {
+                for (int b = 0; b < blocks; ++b) {
+                    final int count = counts[b][k];
+                    counts[b][k] = next;
+                    next += count;
+                }
+                bucketStarts[k + 1] = next;
+            }
+
+            /* Move every element into its share of the auxiliary array. */
+            tasks.clear();
+            for (int b = 0; b < blocks; ++b) {
+                final int block = b;
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        final int[] next = counts[block];
+                        for (int i = blockStarts[block]; i < blockStarts[block + 1]; ++i) {
+                            aux[next[bucketOf[i - low]]++ - auxOffset] = data[i];
+                        }
+                    }
+                });
+            }
+            invokeAll(tasks);
+
+            /* Copy every bucket back, and sort those between splitters. A bucket much longer than expected is given a
+                Sample Sort of its own; it holds no splitter, so it is shorter than this segment. */
+            final int expectedLength = length / (splitters.length + 1);
+            tasks.clear();
+            for (int k = 0; k < buckets; ++k) {
+                final int bucketLow = bucketStarts[k];
+                final int bucketHigh = bucketStarts[k + 1] - 1;
+                if (bucketLow > bucketHigh) {
+                    continue;
+                }
+                final boolean equalElements = (k & 1) == 1;
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        System.arraycopy(aux, bucketLow - auxOffset, data, bucketLow, bucketHigh - bucketLow + 1);
+                        if (equalElements || bucketLow == bucketHigh) {
+                            return;
+                        }
+                        if (bucketHigh - bucketLow + 1 > Math.max(threshold, 2 * expectedLength)) {
+                            new SortTask(data, aux, auxOffset, bucketLow, bucketHigh).invoke();
+                        } else {
+                            bucketSort.sort(data, bucketLow, bucketHigh);
+                        }
+                    }
+                });
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Chooses at most the given number of buckets less one distinct splitters, from a random sample of the segment
+     * [low, high] of data, which is sorted by the bucketSort.
+     *
+     * @param data The data from which to sample the specified segment.
+     * @param low The first index to sample from.
+     * @param high The last index to sample from.
+     * @param buckets The number of buckets, between splitters, the segment should be divided into.
+     * @return The distinct splitters, in ascending order.
+     */
+    private T[] chooseSplitters(final T[] data, final int low, final int high, final int buckets) {
+        final int length = high - low + 1;
+        final int count = Math.max(1, Math.min(buckets, MAX_SPLITTERS + 1) - 1);
+        /* Oversampling by lg N elements per bucket makes every bucket O(N / K) long, with high probability. */
+        final int oversampling = 32 - Integer.numberOfLeadingZeros(length);
+        final int sampleLength = Math.min(length, (count + 1) * oversampling);
+        final T[] sample = Arrays.copyOfRange(data, low, low + sampleLength);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sampleLength; ++i) {
+            sample[i] = data[low + random.nextInt(length)];
+        }
+        bucketSort.sort(sample, 0, sampleLength - 1);
+
+        /* Take every oversampling-th element of the sample, skipping repeats. */
+        final T[] splitters = Arrays.copyOf(sample, count);
+        int distinct = 0;
+        for (int j = 1; j <= count; ++j) {
+            final T splitter = sample[(int) ((long) sampleLength * j / (count + 1))];
+            if (distinct == 0 || splitters[distinct - 1].compareTo(splitter) < 0) {
+                splitters[distinct++] = splitter;
+            }
+        }
+        return Arrays.copyOf(splitters, distinct);
+    }
+
+    /**
+     * Sorts the entire array using the Sample Sort algorithm.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final T[] data) {
+        sort(data, 0, data.length - 1);
+    }
+
+    /**
+     * Sorts, using the Sample Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(final T[] data, final int low, final int high) {
+        if (high - low + 1 <= threshold) {
+            bucketSort.sort(data, low, high);
+            return;
+        }
+        /* The auxiliary array covers only [low, high], at [0, high - low]. */
+        final T[] aux = (T[]) Array.newInstance(data.getClass().getComponentType(), high - low + 1);
+        pool.invoke(new SortTask(data, aux, low, low, high));
+    }
+
+    public static void main(final String[] args) {
+        System.out.println("Testing Sample Sort:");
+        Utilities.doublingTest(new SampleSort<Integer>(), (int) Math.pow(2, 13), (int) Math.pow(2, 25));
+    }
+}
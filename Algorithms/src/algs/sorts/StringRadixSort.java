@@ -0,0 +1,169 @@
+package algs.sorts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implements the most-significant-digit (MSD) Radix Sort algorithm for an array of Strings.
+ *
+ * The strings are distributed by their first character with a stable counting pass, then each group of strings sharing
+ * that character is sorted by the next character, and so on; strings which end at a character precede every string
+ * which continues past it. Each group of 15 strings or less is handed to an Insertion Sort which compares from the
+ * current character on, since counting costs O(R) however few strings there are. Characters beyond the extended ASCII
+ * range [0, 256) are all counted into one final group, which is sorted by comparison, so keys mostly in ASCII keep
+ * short count arrays without sorting any other string wrongly.
+ *
+ * The order is that of String.compareTo; theoretically, the MSD Radix Sort algorithm is a stable algorithm.
+ *
+ * The MSD Radix Sort algorithm has the following performance characteristics, for strings in the extended ASCII range:
+ *
+ * - Worst case number of characters examined: O(N W), for strings of average length W.
+ * - Best case number of characters examined: O(N log_R N), for random strings and R = 256 values per character.
+ *
+ * - Guaranteed extra space usage: O(N + D R) for the auxiliary array and the counts, where D is the length of the
+ *   longest prefix shared by more than 15 strings.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class StringRadixSort implements Sort<String> {
+    /* The number of characters counted individually; the rest are counted together. */
+    private static final int RADIX = 256;
+    /* Groups of this length or less are sorted by Insertion Sort, rather than counted. */
+    private static final int SORT_CUTOFF = 15;
+    private final Sort<String> MERGE_SORT;
+
+    /**
+     * Initializes the MERGE_SORT used for strings sharing a character outside the extended ASCII range.
+     */
+    public StringRadixSort() {
+        this.MERGE_SORT = new MergeSort<>();
+    }
+
+    /**
+     * Returns the bucket into which the given string is counted, by its character at the given depth: 0 for a string
+     * which ends before the depth, c + 1 for a character c in the extended ASCII range, and RADIX + 1 for any other.
+     *
+     * @param s The string to count.
+     * @param depth The index of the character by which to count.
+     * @return The bucket of the string, in [0, RADIX + 1].
+     */
+    private static int bucket(final String s, final int depth) {
+        if (depth >= s.length()) {
+            return 0;
+        }
+        final char c = s.charAt(depth);
+        return c < RADIX ? c + 1 : RADIX + 1;
+    }
+
+    /**
+     * Determines whether the string a precedes the string b, given that they share their first depth characters.
+     */
+    private static boolean less(final String a, final String b, final int depth) {
+        final int length = Math.min(a.length(), b.length());
+        for (int i = depth; i < length; ++i) {
+            final char x = a.charAt(i);
+            final char y = b.charAt(i);
+            if (x != y) {
+                return x < y;
+            }
+        }
+        return a.length() < b.length();
+    }
+
+    /**
+     * Sorts the strings at [low, high], which share their first depth characters, with an Insertion Sort that
+     * compares from the character at the given depth.
+     */
+    private static void insertionSort(final String[] data, final int low, final int high, final int depth) {
+        for (int i = low + 1; i <= high; ++i) {
+            final String s = data[i];
+            int j = i;
+            for (; j > low && less(s, data[j - 1], depth); --j) {
+                data[j] = data[j - 1];
+            }
+            data[j] = s;
+        }
+    }
+
+    /**
+     * Sorts, using the MSD Radix Sort algorithm, the strings at [low, high], which share their first depth characters.
+     *
+     * @param data The array to be sorted.
+     * @param aux The auxiliary array into which to distribute the strings.
+     * @param auxOffset The index in data of position 0 of aux.
+     * @param counts The count arrays to reuse, one per depth.
+     * @param low The first index, inclusive, to be sorted.
+     * @param high The last index, inclusive, to be sorted.
+     * @param depth The index of the character by which to distribute the strings.
+     */
+    private void sort(final String[] data, final String[] aux, final int auxOffset, final List<int[]> counts,
+            final int low, final int high, final int depth) {
+        if (high <= low + SORT_CUTOFF) {
+            insertionSort(data, low, high, depth);
+            return;
+        }
+
+        if (counts.size() == depth) {
+            counts.add(new int[RADIX + 3]);
+        }
+        /* The strings in bucket r belong at [starts[r], starts[r + 1]) once distributed. */
+        final int[] starts = counts.get(depth);
+        for (int i = low; i <= high; ++i) {
+            ++starts[bucket(data[i], depth) + 1];
+        }
+        starts[0] = low;
+        for (int r = 0; r <= RADIX + 1; ++r) {
+            starts[r + 1] += starts[r];
+        }
+        for (int i = low; i <= high; ++i) {
+            aux[starts[bucket(data[i], depth)]++ - auxOffset] = data[i];
+        }
+        System.arraycopy(aux, low - auxOffset, data, low, high - low + 1);
+
+        /* The distribution advanced every start to the start of the next bucket; so, the strings in bucket r are now at
+            [starts[r - 1], starts[r]). Those which ended, in bucket 0, are already in order. */
+        for (int r = 1; r <= RADIX; ++r) {
+            if (starts[r] - starts[r - 1] > 1) {
+                sort(data, aux, auxOffset, counts, starts[r - 1], starts[r] - 1, depth + 1);
+            }
+        }
+        final int overflowLow = starts[RADIX];
+        final int overflowHigh = starts[RADIX + 1] - 1;
+        /* The counts at this depth may be reused once the groups are sorted. */
+        Arrays.fill(starts, 0);
+        if (overflowLow < overflowHigh) {
+            MERGE_SORT.sort(data, overflowLow, overflowHigh);
+        }
+    }
+
+    /**
+     * Sorts, using the MSD Radix Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high. This implementation uses an Insertion Sort for groups of length 15 or
+     * less.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final String[] data, final int low, final int high) {
+        if (high <= low) {
+            return;
+        }
+        /* The auxiliary array covers only [low, high], at [0, high - low]. */
+        final String[] aux = new String[high - low + 1];
+        sort(data, aux, low, new ArrayList<int[]>(), low, high, 0);
+    }
+
+    /**
+     * Sorts the entire array using the MSD Radix Sort algorithm. This implementation uses an Insertion Sort for groups
+     * of length 15 or less.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final String[] data) {
+        sort(data, 0, data.length - 1);
+    }
+}
@@ -0,0 +1,644 @@
+package algs.sorts;
+
+import java.util.Arrays;
+
+/**
+ * Implements the Tim Sort algorithm for an array of type T, where T implements the method .compareTo(T)
+ *
+ * Tim Sort is an adaptive Merge Sort: rather than splitting the array in halves regardless of its contents, it scans
+ * the array for runs which are already in order (reversing any strictly descending run in place), extends short runs
+ * to a minimum length with a binary Insertion Sort, and keeps the runs on a stack whose lengths are kept roughly
+ * balanced by merging the topmost runs whenever they would not be. Each merge copies only the shorter of its two runs
+ * aside, and switches to galloping (an exponential search followed by a binary search) when one run keeps supplying the
+ * next element, so that long stretches of either run are moved with a single System.arraycopy.
+ *
+ * This implementation follows Tim Peters' description of the algorithm, as used for java.util.Arrays.
+ *
+ * Theoretically, the Tim Sort algorithm is a stable algorithm.
+ *
+ * The Tim Sort algorithm has the following performance characteristics:
+ *
+ * - Worst case number of comparisons: O(N lg N)
+ * - Average case number of comparisons: O(N lg N)
+ * - Best case number of comparisons: O(N), for input which is already sorted, or reverse sorted.
+ *
+ * - Guaranteed extra space usage: O(N) for the auxiliary array, but only N / 2 in the worst case, and O(1) for input
+ *   which is already sorted.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+public class TimSort<T extends Comparable<T>> implements Sort<T> {
+    /* Segments shorter than this are sorted with a binary Insertion Sort; runs are extended to about half of it. */
+    private static final int MIN_MERGE = 32;
+    /* How many consecutive elements one run must win before a merge begins galloping. */
+    private static final int MIN_GALLOP = 7;
+    /* The initial length of the auxiliary array, which grows as longer merges require. */
+    private static final int INITIAL_AUX_LENGTH = 256;
+    /* The run stack invariants keep run lengths growing at least as fast as the Fibonacci numbers, so no more than
+        this many runs are pending for any array of int-indexable length. */
+    private static final int MAX_PENDING_RUNS = 49;
+
+    /**
+     * Holds the state of a single sort: the stack of pending runs, and the auxiliary array used for merging them.
+     */
+    private static final class RunStack<T extends Comparable<T>> {
+        private final T[] data;
+        private T[] aux;
+        private int minGallop = MIN_GALLOP;
+        private final int[] runBase = new int[MAX_PENDING_RUNS];
+        private final int[] runLength = new int[MAX_PENDING_RUNS];
+        private int size = 0;
+
+        RunStack(final T[] data, final int length) {
+            this.data = data;
+            this.aux = Arrays.copyOf(data, length < 2 * INITIAL_AUX_LENGTH ? length >>> 1 : INITIAL_AUX_LENGTH);
+        }
+
+        /**
+         * Pushes the run [base, base + length) onto the stack of pending runs.
+         *
+         * @param base The first index of the run.
+         * @param length The length of the run.
+         */
+        void push(final int base, final int length) {
+            runBase[size] = base;
+            runLength[size] = length;
+            ++size;
+        }
+
+        /**
+         * Merges runs at the top of the stack until, for every three consecutive runs A, B, C from the bottom,
+         *   |A| > |B| + |C|  and  |B| > |C|
+         * which keeps merges balanced, and bounds the number of pending runs.
+         */
+        void mergeCollapse() {
+            while (size > 1) {
+                int n = size - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    /* Merge the middle run with the shorter of its neighbors. */
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        --n;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break; /* The invariants are established. */
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges all of the pending runs, until only one, the sorted segment, remains.
+         */
+        void mergeForceCollapse() {
+            while (size > 1) {
+                int n = size - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    --n;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the two runs at stack indices i and i + 1, where i is either the second or third run from the top.
+         *
+         * @param i The stack index of the first of the two runs.
+         */
+        private void mergeAt(final int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            final int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            /* Record the length of the merged run, and slide the top run down if it was not part of the merge. */
+            runLength[i] = length1 + length2;
+            if (i == size - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            --size;
+
+            /* Elements of the first run which precede the whole second run are already in place, as are elements of
+                the second run which follow the whole first run. */
+            final int k = gallopRight(data[base2], data, base1, length1, 0);
+            base1 += k;
+            length1 -= k;
+            if (length1 == 0) {
+                return;
+            }
+            length2 = gallopLeft(data[base1 + length1 - 1], data, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+
+            /* Copy the shorter of the remaining runs aside, and merge into the space it occupied. */
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs, from the lowest elements up, where the first run is no longer than the second. The
+         * first element of the second run must be less than the first element of the first run, and the last element
+         * of the first run must be greater than every element of the second run.
+         *
+         * @param base1 The first index of the first run.
+         * @param length1 The length of the first run.
+         * @param base2 The first index of the second run.
+         * @param length2 The length of the second run.
+         */
+        private void mergeLow(final int base1, int length1, final int base2, int length2) {
+            final T[] data = this.data;
+            final T[] aux = ensureCapacity(length1);
+            System.arraycopy(data, base1, aux, 0, length1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int destination = base1;
+
+            /* The first element of the second run comes first, by the preconditions. */
+            data[destination++] = data[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(aux, cursor1, data, destination, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(data, cursor2, data, destination, length2);
+                data[destination + length2] = aux[cursor1];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0; /* The number of consecutive elements taken from the first run. */
+                int count2 = 0; /* The number of consecutive elements taken from the second run. */
+
+                /* Merge one element at a time, until one run starts winning consistently. */
+                do {
+                    if (data[cursor2].compareTo(aux[cursor1]) < 0) {
+                        data[destination++] = data[cursor2++];
+                        ++count2;
+                        count1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        data[destination++] = aux[cursor1++]; /* Prioritize the first run to maintain stability */
+                        ++count1;
+                        count2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                /* Gallop: find how many elements each run wins in a row, and move them all at once, until galloping no
+                    longer pays off. */
+                do {
+                    count1 = gallopRight(data[cursor2], aux, cursor1, length1, 0);
+                    if (count1 != 0) {
+                        System.arraycopy(aux, cursor1, data, destination, count1);
+                        destination += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    data[destination++] = data[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+
+                    count2 = gallopLeft(aux[cursor1], data, cursor2, length2, 0);
+                    if (count2 != 0) {
+                        System.arraycopy(data, cursor2, data, destination, count2);
+                        destination += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    data[destination++] = aux[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    --minGallop;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                /* Penalize leaving gallop mode, so that it is harder to enter again. */
+                if (minGallop < 0) {
+                    minGallop = 0;
+                }
+                minGallop += 2;
+            }
+            this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+            if (length1 == 1) {
+                System.arraycopy(data, cursor2, data, destination, length2);
+                data[destination + length2] = aux[cursor1]; /* The last element of the first run comes last. */
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("compareTo(T) is inconsistent: it does not define a total order.");
+            } else {
+                System.arraycopy(aux, cursor1, data, destination, length1);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs, from the highest elements down, where the first run is no shorter than the second.
+         * The first element of the second run must be less than the first element of the first run, and the last
+         * element of the first run must be greater than every element of the second run.
+         *
+         * @param base1 The first index of the first run.
+         * @param length1 The length of the first run.
+         * @param base2 The first index of the second run.
+         * @param length2 The length of the second run.
+         */
+        private void mergeHigh(final int base1, int length1, final int base2, int length2) {
+            final T[] data = this.data;
+            final T[] aux = ensureCapacity(length2);
+            System.arraycopy(data, base2, aux, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int destination = base2 + length2 - 1;
+
+            /* The last element of the first run comes last, by the preconditions. */
+            data[destination--] = data[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(aux, 0, data, destination - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(data, cursor1 + 1, data, destination + 1, length1);
+                data[destination] = aux[cursor2];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0; /* The number of consecutive elements taken from the first run. */
+                int count2 = 0; /* The number of consecutive elements taken from the second run. */
+
+                /* Merge one element at a time, until one run starts winning consistently. */
+                do {
+                    if (aux[cursor2].compareTo(data[cursor1]) < 0) {
+                        data[destination--] = data[cursor1--];
+                        ++count1;
+                        count2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        data[destination--] = aux[cursor2--]; /* Prioritize the second run to maintain stability */
+                        ++count2;
+                        count1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                /* Gallop: find how many elements each run wins in a row, and move them all at once, until galloping no
+                    longer pays off. */
+                do {
+                    count1 = length1 - gallopRight(aux[cursor2], data, base1, length1, length1 - 1);
+                    if (count1 != 0) {
+                        destination -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(data, cursor1 + 1, data, destination + 1, count1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    data[destination--] = aux[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+
+                    count2 = length2 - gallopLeft(data[cursor1], aux, 0, length2, length2 - 1);
+                    if (count2 != 0) {
+                        destination -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(aux, cursor2 + 1, data, destination + 1, count2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    data[destination--] = data[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    --minGallop;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                /* Penalize leaving gallop mode, so that it is harder to enter again. */
+                if (minGallop < 0) {
+                    minGallop = 0;
+                }
+                minGallop += 2;
+            }
+            this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(data, cursor1 + 1, data, destination + 1, length1);
+                data[destination] = aux[cursor2]; /* The first element of the second run comes first. */
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("compareTo(T) is inconsistent: it does not define a total order.");
+            } else {
+                System.arraycopy(aux, 0, data, destination - (length2 - 1), length2);
+            }
+        }
+
+        /**
+         * Returns the auxiliary array, grown to at least the given length if necessary. It grows to the next power of
+         * two, so that it is reallocated at most lg N times.
+         *
+         * @param minimum The least length the auxiliary array must have.
+         * @return the auxiliary array.
+         */
+        private T[] ensureCapacity(final int minimum) {
+            if (aux.length < minimum) {
+                int length = Integer.highestOneBit(minimum) << 1;
+                if (length < 0) {
+                    length = minimum; /* Overflowed; the run cannot be longer than the array. */
+                } else {
+                    length = Math.min(length, data.length >>> 1);
+                }
+                aux = Arrays.copyOf(aux, Math.max(length, minimum));
+            }
+            return aux;
+        }
+    }
+
+    /**
+     * Finds the position at which to insert the key into the sorted run [base, base + length) of data, before any
+     * elements equal to it: the index k, relative to base, such that
+     *   data[base + k - 1] < key <= data[base + k]
+     * The search gallops outward from the hint, so it takes O(lg d) comparisons, where d is the distance from the hint
+     * to the result.
+     *
+     * @param key The element whose position is sought.
+     * @param data The array containing the run.
+     * @param base The first index of the run.
+     * @param length The length of the run, which must be positive.
+     * @param hint The index, relative to base, at which to begin searching; the closer to the result, the faster.
+     * @return the position at which to insert the key, relative to base, in [0, length].
+     */
+    private static <T extends Comparable<T>> int gallopLeft(final T key, final T[] data,
+            final int base, final int length, final int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (key.compareTo(data[base + hint]) > 0) {
+            /* Gallop right until data[base + hint + lastOffset] < key <= data[base + hint + offset]. */
+            final int maxOffset = length - hint;
+            while (offset < maxOffset && key.compareTo(data[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset; /* Overflowed. */
+                }
+            }
+            if (offset > maxOffset) {
+                offset = maxOffset;
+            }
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            /* Gallop left until data[base + hint - offset] < key <= data[base + hint - lastOffset]. */
+            final int maxOffset = hint + 1;
+            while (offset < maxOffset && key.compareTo(data[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset; /* Overflowed. */
+                }
+            }
+            if (offset > maxOffset) {
+                offset = maxOffset;
+            }
+            final int previous = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - previous;
+        }
+
+        /* Now data[base + lastOffset] < key <= data[base + offset]; binary search between them. */
+        ++lastOffset;
+        while (lastOffset < offset) {
+            final int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (key.compareTo(data[base + mid]) > 0) {
+                lastOffset = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Finds the position at which to insert the key into the sorted run [base, base + length) of data, after any
+     * elements equal to it: the index k, relative to base, such that
+     *   data[base + k - 1] <= key < data[base + k]
+     * The search gallops outward from the hint, so it takes O(lg d) comparisons, where d is the distance from the hint
+     * to the result.
+     *
+     * @param key The element whose position is sought.
+     * @param data The array containing the run.
+     * @param base The first index of the run.
+     * @param length The length of the run, which must be positive.
+     * @param hint The index, relative to base, at which to begin searching; the closer to the result, the faster.
+     * @return the position at which to insert the key, relative to base, in [0, length].
+     */
+    private static <T extends Comparable<T>> int gallopRight(final T key, final T[] data,
+            final int base, final int length, final int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (key.compareTo(data[base + hint]) < 0) {
+            /* Gallop left until data[base + hint - offset] <= key < data[base + hint - lastOffset]. */
+            final int maxOffset = hint + 1;
+            while (offset < maxOffset && key.compareTo(data[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset; /* Overflowed. */
+                }
+            }
+            if (offset > maxOffset) {
+                offset = maxOffset;
+            }
+            final int previous = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - previous;
+        } else {
+            /* Gallop right until data[base + hint + lastOffset] <= key < data[base + hint + offset]. */
+            final int maxOffset = length - hint;
+            while (offset < maxOffset && key.compareTo(data[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset; /* Overflowed. */
+                }
+            }
+            if (offset > maxOffset) {
+                offset = maxOffset;
+            }
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        /* Now data[base + lastOffset] <= key < data[base + offset]; binary search between them. */
+        ++lastOffset;
+        while (lastOffset < offset) {
+            final int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (key.compareTo(data[base + mid]) < 0) {
+                offset = mid;
+            } else {
+                lastOffset = mid + 1;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Finds the length of the run beginning at data[low], and reverses it in place if it is strictly descending; a
+     * run which is only non-increasing is not reversed, since that would not be stable.
+     *
+     * @param data The array in which to find the run.
+     * @param low The first index, inclusive, of the run.
+     * @param high The last index, exclusive, the run may extend to.
+     * @return the length of the run, which is now ascending.
+     */
+    private static <T extends Comparable<T>> int countRunAndMakeAscending(final T[] data, final int low,
+            final int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+        if (data[runHigh++].compareTo(data[low]) < 0) {
+            while (runHigh < high && data[runHigh].compareTo(data[runHigh - 1]) < 0) {
+                ++runHigh;
+            }
+            for (int i = low, j = runHigh - 1; i < j; ++i, --j) {
+                Utilities.swap(data, i, j);
+            }
+        } else {
+            while (runHigh < high && data[runHigh].compareTo(data[runHigh - 1]) >= 0) {
+                ++runHigh;
+            }
+        }
+        return runHigh - low;
+    }
+
+    /**
+     * Sorts the segment [low, high) of data, whose prefix [low, start) is already sorted, with an Insertion Sort which
+     * finds the position of each element by a binary search. This makes O(N lg N) comparisons, though still O(N^2)
+     * moves, which suits the short runs it is used for.
+     *
+     * @param data The array to be sorted.
+     * @param low The first index, inclusive, to be sorted.
+     * @param high The last index, exclusive, to be sorted.
+     * @param start The first index which is not already sorted.
+     */
+    private static <T extends Comparable<T>> void binaryInsertionSort(final T[] data, final int low, final int high,
+            int start) {
+        if (start == low) {
+            ++start;
+        }
+        for (; start < high; ++start) {
+            final T datum = data[start];
+            int left = low;
+            int right = start;
+            /* Find the position after every element not greater than the datum, to maintain stability. */
+            while (left < right) {
+                final int mid = (left + right) >>> 1;
+                if (datum.compareTo(data[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(data, left, data, left + 1, start - left);
+            data[left] = datum;
+        }
+    }
+
+    /**
+     * Returns the minimum length of a run to push on the stack when sorting a segment of the given length: a length in
+     * [MIN_MERGE / 2, MIN_MERGE] such that the segment's length divided by it is a power of two, or just less than one,
+     * so that the final merges are balanced.
+     *
+     * @param length The length of the segment to be sorted.
+     * @return the minimum length of a run.
+     */
+    private static int minimumRunLength(int length) {
+        int remainder = 0; /* Becomes 1 if any 1 bits are shifted off. */
+        while (length >= MIN_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+        return length + remainder;
+    }
+
+    /**
+     * Sorts, using the Tim Sort algorithm, the given array, data, on the inclusive interval [low, high].
+     * Note, that this method assumes low < high.
+     *
+     * @param data The array to be sorted
+     * @param low The first index, inclusive, to be sorted
+     * @param high The last index, inclusive, to be sorted
+     */
+    @Override
+    public void sort(final T[] data, int low, final int high) {
+        int remaining = high - low + 1;
+        if (remaining < 2) {
+            return;
+        }
+
+        /* Short segments need no merging at all. */
+        if (remaining < MIN_MERGE) {
+            final int run = countRunAndMakeAscending(data, low, high + 1);
+            binaryInsertionSort(data, low, high + 1, low + run);
+            return;
+        }
+
+        /* Push each natural run, extended to the minimum run length if it is shorter, merging as the stack requires. */
+        final RunStack<T> runs = new RunStack<>(data, remaining);
+        final int minimumRun = minimumRunLength(remaining);
+        do {
+            int run = countRunAndMakeAscending(data, low, high + 1);
+            if (run < minimumRun) {
+                final int forced = Math.min(remaining, minimumRun);
+                binaryInsertionSort(data, low, low + forced, low + run);
+                run = forced;
+            }
+            runs.push(low, run);
+            runs.mergeCollapse();
+            low += run;
+            remaining -= run;
+        } while (remaining != 0);
+        runs.mergeForceCollapse();
+    }
+
+    /**
+     * Sorts the entire array using the Tim Sort algorithm.
+     *
+     * @param data The array to be sorted.
+     */
+    @Override
+    public void sort(final T[] data) {
+        sort(data, 0, data.length - 1);
+    }
+
+    public static void main(final String[] args) {
+        System.out.println("Testing Tim Sort:");
+        Utilities.doublingTest(new TimSort<Integer>(), (int) Math.pow(2, 13), (int) Math.pow(2, 25));
+    }
+}
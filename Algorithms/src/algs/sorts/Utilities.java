@@ -89,6 +89,45 @@ public class Utilities {
         data[j] = tmp;
     }
     
+    /**
+     * Exchanges the elements at the two provided indices in the given array.
+     *
+     * @param data The data in which to exchange elements.
+     * @param i The first element to exchange.
+     * @param j The second element to exchange.
+     */
+    public static void swap(final int[] data, final int i, final int j) {
+        final int tmp = data[i];
+        data[i] = data[j];
+        data[j] = tmp;
+    }
+
+    /**
+     * Exchanges the elements at the two provided indices in the given array.
+     *
+     * @param data The data in which to exchange elements.
+     * @param i The first element to exchange.
+     * @param j The second element to exchange.
+     */
+    public static void swap(final long[] data, final int i, final int j) {
+        final long tmp = data[i];
+        data[i] = data[j];
+        data[j] = tmp;
+    }
+
+    /**
+     * Exchanges the elements at the two provided indices in the given array.
+     *
+     * @param data The data in which to exchange elements.
+     * @param i The first element to exchange.
+     * @param j The second element to exchange.
+     */
+    public static void swap(final double[] data, final int i, final int j) {
+        final double tmp = data[i];
+        data[i] = data[j];
+        data[j] = tmp;
+    }
+
     /**
      * Checks whether the provided array is sorted according to it's natural ordering, defined by .compareTo(T).
      * 
@@ -123,6 +162,106 @@ public class Utilities {
         return true;
     }
 
+    /**
+     * Checks whether the provided array is sorted in ascending order.
+     *
+     * @param data The array to test whether it is sorted.
+     * @return True if the array is sorted in ascending order, false otherwise.
+     */
+    public static boolean isSorted(final int[] data) {
+        return isSorted(data, 0, data.length - 1);
+    }
+
+    /**
+     * Checks whether the provided array is sorted in ascending order, on the given interval.
+     *
+     * @param data The array to test whether it is sorted.
+     * @param low The least index in the interval to check.
+     * @param high The greatest index in the interval to check.
+     * @return True if the array is sorted in ascending order, false otherwise.
+     */
+    public static boolean isSorted(final int[] data, final int low, final int high) {
+        if (data == null || data.length == 0) {
+            return false;
+        }
+        if (data.length == 1 || high - low <= 1) {
+            return true;
+        }
+        for (int i = low + 1; i <= high; ++i) {
+            if (data[i] < data[i - 1]) {
+                return false; /* No element should be less than it's predecessor. */
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the provided array is sorted in ascending order.
+     *
+     * @param data The array to test whether it is sorted.
+     * @return True if the array is sorted in ascending order, false otherwise.
+     */
+    public static boolean isSorted(final long[] data) {
+        return isSorted(data, 0, data.length - 1);
+    }
+
+    /**
+     * Checks whether the provided array is sorted in ascending order, on the given interval.
+     *
+     * @param data The array to test whether it is sorted.
+     * @param low The least index in the interval to check.
+     * @param high The greatest index in the interval to check.
+     * @return True if the array is sorted in ascending order, false otherwise.
+     */
+    public static boolean isSorted(final long[] data, final int low, final int high) {
+        if (data == null || data.length == 0) {
+            return false;
+        }
+        if (data.length == 1 || high - low <= 1) {
+            return true;
+        }
+        for (int i = low + 1; i <= high; ++i) {
+            if (data[i] < data[i - 1]) {
+                return false; /* No element should be less than it's predecessor. */
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the provided array is sorted in ascending order, as defined by Double.compare(double, double).
+     *
+     * @param data The array to test whether it is sorted.
+     * @return True if the array is sorted in ascending order, false otherwise.
+     */
+    public static boolean isSorted(final double[] data) {
+        return isSorted(data, 0, data.length - 1);
+    }
+
+    /**
+     * Checks whether the provided array is sorted in ascending order, as defined by Double.compare(double, double), on
+     * the given interval.
+     *
+     * @param data The array to test whether it is sorted.
+     * @param low The least index in the interval to check.
+     * @param high The greatest index in the interval to check.
+     * @return True if the array is sorted in ascending order, false otherwise.
+     */
+    public static boolean isSorted(final double[] data, final int low, final int high) {
+        if (data == null || data.length == 0) {
+            return false;
+        }
+        if (data.length == 1 || high - low <= 1) {
+            return true;
+        }
+        for (int i = low + 1; i <= high; ++i) {
+            if (Double.compare(data[i], data[i - 1]) < 0) {
+                return false; /* No element should be less than it's predecessor. */
+            }
+        }
+        return true;
+    }
+
     /**
      * Shuffles the array using the Knuth-Shuffle (Fischer-Yates Shuffle).
      * This shuffling algorithm runs in O(N) time.
@@ -134,4 +273,40 @@ public class Utilities {
             swap(data, i, (int) (Math.random() * i));
         }
     }
+
+    /**
+     * Shuffles the array using the Knuth-Shuffle (Fischer-Yates Shuffle).
+     * This shuffling algorithm runs in O(N) time.
+     *
+     * @param data The array to shuffle.
+     */
+    public static void shuffle(final int[] data) {
+        for (int i = data.length - 1; i > 0; --i) {
+            swap(data, i, (int) (Math.random() * i));
+        }
+    }
+
+    /**
+     * Shuffles the array using the Knuth-Shuffle (Fischer-Yates Shuffle).
+     * This shuffling algorithm runs in O(N) time.
+     *
+     * @param data The array to shuffle.
+     */
+    public static void shuffle(final long[] data) {
+        for (int i = data.length - 1; i > 0; --i) {
+            swap(data, i, (int) (Math.random() * i));
+        }
+    }
+
+    /**
+     * Shuffles the array using the Knuth-Shuffle (Fischer-Yates Shuffle).
+     * This shuffling algorithm runs in O(N) time.
+     *
+     * @param data The array to shuffle.
+     */
+    public static void shuffle(final double[] data) {
+        for (int i = data.length - 1; i > 0; --i) {
+            swap(data, i, (int) (Math.random() * i));
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package algs.math.numbertheory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks BitSieve against the primes found by trial division, and its counts of primes.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class BitSieveTest extends SieveTest {
+    @Override
+    Sieve newSieve() {
+        return new BitSieve();
+    }
+
+    @Test
+    void primeCountAndForEachPrime() {
+        final BitSieve sieve = new BitSieve(N);
+        assertEquals(primes.size(), sieve.primeCount(N));
+        assertEquals(25, sieve.primeCount(100));
+        assertEquals(0, sieve.primeCount(1));
+        assertEquals(1, sieve.primeCount(2));
+        assertEquals(664579, sieve.primeCount(10000000));
+        final int[] count = { 0 };
+        new BitSieve(N).forEachPrime(p -> {
+            if (count[0] < primes.size()) {
+                assertEquals((int) primes.get(count[0]), p);
+            }
+            ++count[0];
+        });
+        assertTrue(count[0] >= primes.size());
+    }
+
+    @Test
+    void getPrimeIndexOfComposites() {
+        final Sieve sieve = newSieve();
+        assertEquals(-4, sieve.getPrimeIndex(9));
+        assertEquals(-25, sieve.getPrimeIndex(100));
+    }
+
+    @Test
+    void primeFactorizeWithSmallLimit() {
+        final BitSieve sieve = new BitSieve(1000);
+        assertEquals(Arrays.asList(Integer.MAX_VALUE), sieve.primeFactorize(Integer.MAX_VALUE));
+        assertEquals(Arrays.asList(2, 1000003), new BitSieve(1000).primeFactorize(2 * 1000003));
+        assertEquals(Arrays.asList(46337, 46337), new BitSieve(1000).primeFactorize(46337 * 46337));
+        assertEquals(Arrays.asList(2, 1000003), new BitSieve().primeFactorize(2 * 1000003));
+    }
+}
@@ -0,0 +1,91 @@
+package algs.math.numbertheory;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks Factorization against known factorizations and products of random primes, and its primality test against
+ * BitSieve.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class FactorizationTest {
+
+    private static void assertFactors(final long n, final long... expected) {
+        final Factorization factorization = Factorization.of(n);
+        assertArrayEquals(expected, factorization.toArray());
+        assertEquals(n, factorization.value());
+    }
+
+    @Test
+    void isPrimeMatchesBitSieve() {
+        final BitSieve sieve = new BitSieve(1 << 20);
+        for (int n = -5; n < 1 << 20; ++n) {
+            assertEquals(sieve.isKnownPrime(n), Factorization.isPrime(n));
+        }
+    }
+
+    @Test
+    void isPrimeOfLargeNumbers() {
+        assertTrue(Factorization.isPrime((1L << 61) - 1));
+        assertTrue(Factorization.isPrime(9223372036854775783L));
+        assertTrue(Factorization.isPrime(Integer.MAX_VALUE));
+        assertFalse(Factorization.isPrime(Long.MAX_VALUE));
+        assertFalse(Factorization.isPrime(2147483647L * 2147483629L));
+        assertFalse(Factorization.isPrime(2147483647L * 2147483647L));
+        /* Strong pseudoprimes to several small bases, and Carmichael numbers. */
+        assertFalse(Factorization.isPrime(3215031751L));
+        assertFalse(Factorization.isPrime(3825123056546413051L));
+        assertFalse(Factorization.isPrime(561));
+        assertFalse(Factorization.isPrime(41041));
+    }
+
+    @Test
+    void factorsOfKnownNumbers() {
+        assertFactors(1);
+        assertFactors(2, 2);
+        assertFactors(360, 2, 2, 2, 3, 3, 5);
+        assertFactors(1L << 62, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2,
+                2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2);
+        assertFactors(Long.MAX_VALUE, 7, 7, 73, 127, 337, 92737, 649657);
+        assertFactors(2147483647L * 2147483629L, 2147483629L, 2147483647L);
+        assertFactors(2147483647L * 2147483647L, 2147483647L, 2147483647L);
+        assertFactors(1031L * 1031 * 1031 * 1033, 1031, 1031, 1031, 1033);
+        assertFactors(9223372036854775783L, 9223372036854775783L);
+        assertEquals("2^3 * 3^2 * 5", Factorization.of(360).toString());
+        assertEquals("1", Factorization.of(1).toString());
+        assertEquals(Factorization.of(360), Factorization.of(360));
+        assertThrows(IllegalArgumentException.class, () -> Factorization.of(0));
+    }
+
+    @Test
+    void factorsOfRandomNumbers() {
+        final Random random = new Random(23);
+        for (int i = 0; i < 300; ++i) {
+            final long n = 1 + (random.nextLong() >>> (1 + random.nextInt(40)));
+            final Factorization factorization = Factorization.of(n);
+            assertEquals(n, factorization.value());
+            for (int j = 0; j < factorization.size(); ++j) {
+                assertTrue(Factorization.isPrime(factorization.prime(j)));
+                assertTrue(j == 0 || factorization.prime(j - 1) < factorization.prime(j));
+                assertTrue(factorization.exponent(j) > 0);
+            }
+        }
+    }
+
+    @Test
+    void multiplyHighUnsignedMatchesBigInteger() {
+        final Random random = new Random(29);
+        for (int i = 0; i < 1000; ++i) {
+            final long a = random.nextLong();
+            final long b = i % 10 == 0 ? -1L : random.nextLong();
+            final BigInteger product = new BigInteger(Long.toUnsignedString(a))
+                    .multiply(new BigInteger(Long.toUnsignedString(b)));
+            assertEquals(product.shiftRight(64).longValue(), Factorization.multiplyHighUnsigned(a, b));
+        }
+    }
+}
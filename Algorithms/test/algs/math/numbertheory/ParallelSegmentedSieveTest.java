@@ -0,0 +1,94 @@
+package algs.math.numbertheory;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the counts and lists of primes of ParallelSegmentedSieve against BitSieve and trial division.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class ParallelSegmentedSieveTest {
+    /* More threads than the common pool may have, so that the segments are sieved by several threads at once. */
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private final ParallelSegmentedSieve sieve = new ParallelSegmentedSieve(POOL);
+
+    @AfterAll
+    static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    private static boolean isPrimeByTrialDivision(final long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (long d = 2; d * d <= n; ++d) {
+            if (n % d == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void countMatchesBitSieve() {
+        final BitSieve expected = new BitSieve(10000000);
+        assertEquals(664579, sieve.count(0, 10000000));
+        final long[][] ranges = { { 0, 0 }, { 0, 1 }, { 0, 2 }, { 0, 3 }, { 2, 3 }, { 3, 1000 }, { 1, 65536 },
+                { 524287, 524289 }, { 524288, 1048577 }, { 999983, 9999991 }, { 5, 4 } };
+        for (final long[] range : ranges) {
+            final long low = Math.max(0, Math.min(range[0], range[1]) - 1);
+            final long high = Math.max(range[0], range[1]) - 1;
+            final long count = range[0] >= range[1] ? 0
+                    : expected.primeCount((int) high) - (range[0] == 0 ? 0 : expected.primeCount((int) low));
+            assertEquals(count, sieve.count(range[0], range[1]));
+        }
+    }
+
+    @Test
+    void forEachPrimeInOrder() {
+        final List<Long> expected = new ArrayList<>();
+        new BitSieve(3000000).forEachPrime(p -> {
+            if (p >= 1000 && p < 3000000) {
+                expected.add((long) p);
+            }
+        });
+        final List<Long> found = new ArrayList<>();
+        sieve.forEachPrime(1000, 3000000, found::add);
+        assertEquals(expected, found);
+
+        final List<Long> small = new ArrayList<>();
+        sieve.forEachPrime(0, 30, small::add);
+        assertEquals(10, small.size());
+        assertEquals(Long.valueOf(2), small.get(0));
+        assertEquals(Long.valueOf(29), small.get(9));
+    }
+
+    @Test
+    void largeRangeMatchesTrialDivision() {
+        final long from = 100000000000L;
+        final long to = from + 3000;
+        final List<Long> expected = new ArrayList<>();
+        for (long n = from; n < to; ++n) {
+            if (isPrimeByTrialDivision(n)) {
+                expected.add(n);
+            }
+        }
+        final List<Long> found = new ArrayList<>();
+        sieve.forEachPrime(from, to, found::add);
+        assertEquals(expected, found);
+        assertEquals(expected.size(), sieve.count(from, to));
+    }
+
+    @Test
+    void rejectsRangesOutOfBounds() {
+        assertThrows(IllegalArgumentException.class, () -> sieve.count(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> sieve.count(0, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,65 @@
+package algs.math.numbertheory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks PrimeCounting against known values of pi and the primes of BitSieve.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class PrimeCountingTest {
+
+    @Test
+    void piOfPowersOfTen() {
+        final long[] expected = { 0, 4, 25, 168, 1229, 9592, 78498, 664579, 5761455, 50847534, 455052511 };
+        long x = 1;
+        for (final long count : expected) {
+            assertEquals(count, PrimeCounting.pi(x));
+            x *= 10;
+        }
+    }
+
+    @Test
+    void piMatchesBitSieve() {
+        final BitSieve sieve = new BitSieve(1 << 20);
+        for (int x = -2; x < 2000; ++x) {
+            assertEquals(x < 2 ? 0 : sieve.primeCount(x), PrimeCounting.pi(x));
+        }
+        final Random random = new Random(13);
+        for (int i = 0; i < 200; ++i) {
+            final int x = random.nextInt(1 << 20);
+            assertEquals(sieve.primeCount(x), PrimeCounting.pi(x));
+        }
+    }
+
+    @Test
+    void nthPrimeMatchesBitSieve() {
+        final BitSieve sieve = new BitSieve(1 << 20);
+        for (int n = 1; n < 300; ++n) {
+            assertEquals(sieve.getPrime(n), PrimeCounting.nthPrime(n));
+        }
+        final Random random = new Random(19);
+        for (int i = 0; i < 30; ++i) {
+            final int n = 1 + random.nextInt(80000);
+            assertEquals(sieve.getPrime(n), PrimeCounting.nthPrime(n));
+        }
+        assertThrows(IllegalArgumentException.class, () -> PrimeCounting.nthPrime(0));
+    }
+
+    @Test
+    void nthPrimeOfLargeIndexes() {
+        assertEquals(15485863L, PrimeCounting.nthPrime(1000000));
+        assertEquals(2038074743L, PrimeCounting.nthPrime(100000000));
+    }
+
+    @Test
+    void liApproximatesPi() {
+        assertEquals(30.1261, PrimeCounting.li(100), 1e-3);
+        assertEquals(50849234.9571, PrimeCounting.li(1e9), 1e-2);
+        assertEquals(1e9, PrimeCounting.li(PrimeCounting.inverseLi(1e9)), 1);
+    }
+}
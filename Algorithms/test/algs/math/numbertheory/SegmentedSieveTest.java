@@ -0,0 +1,44 @@
+package algs.math.numbertheory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks SegmentedSieve against the primes found by trial division, and its segments against BitSieve.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class SegmentedSieveTest extends SieveTest {
+    @Override
+    Sieve newSieve() {
+        return new SegmentedSieve();
+    }
+
+    @Test
+    void queriesAcrossSegmentsMatchBitSieve() {
+        final BitSieve expected = new BitSieve(20 * (int) SegmentedSieve.SEGMENT_NUMBERS);
+        final SegmentedSieve sieve = new SegmentedSieve();
+        assertEquals(0, sieve.limit());
+        assertEquals(expected.primeCount(15 * (int) SegmentedSieve.SEGMENT_NUMBERS), sieve.getPrimeIndex(
+                expected.getPrime(expected.primeCount(15 * (int) SegmentedSieve.SEGMENT_NUMBERS))));
+        /* Query at random among the segments, so that each query most likely sieves its segment again. */
+        final Random random = new Random(5);
+        for (int i = 0; i < 200; ++i) {
+            final int x = random.nextInt(16 * (int) SegmentedSieve.SEGMENT_NUMBERS);
+            assertEquals(expected.isKnownPrime(x), sieve.isKnownPrime(x));
+            assertEquals(expected.getPrimeIndex(x), sieve.getPrimeIndex(x));
+            final int n = 1 + random.nextInt(expected.primeCount(x) + 1);
+            assertEquals(expected.getPrime(n), sieve.getPrime(n));
+        }
+        /* Segment boundaries. */
+        for (int s = 1; s < 16; ++s) {
+            for (int x = (int) (s * SegmentedSieve.SEGMENT_NUMBERS) - 130; x < s * SegmentedSieve.SEGMENT_NUMBERS + 130;
+                    ++x) {
+                assertEquals(expected.getPrimeIndex(x), sieve.getPrimeIndex(x));
+            }
+        }
+    }
+}
@@ -40,4 +40,13 @@ class SieveOfEratosthenesTest {
         List<Integer> factors = sieve.primeFactorize(5);
         assertEquals(factors, Arrays.asList(5));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPrimeFactorizeMultiplicity() {
+        final Sieve fresh = new SieveOfEratosthenes();
+        assertEquals(Arrays.asList(2, 2, 2, 3, 3, 5), fresh.primeFactorize(360));
+        assertEquals(Arrays.asList(3, 3, 7, 11, 31, 151, 331), fresh.primeFactorize((1 << 30) - 1));
+        assertEquals(Arrays.asList(2, 1000003), new SieveOfEratosthenes().primeFactorize(2 * 1000003));
+        assertEquals(Arrays.asList(2, 2, 2, 2, 2, 2, 2, 2, 2, 2), fresh.primeFactorize(1024));
+    }
+}
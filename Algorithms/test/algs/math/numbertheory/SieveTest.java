@@ -0,0 +1,112 @@
+package algs.math.numbertheory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks an implementation of Sieve against the primes found by trial division.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+abstract class SieveTest {
+    static final int N = 100000;
+    static final List<Integer> primes = new ArrayList<>();
+
+    static {
+        for (int i = 2; i < N; ++i) {
+            boolean isPrime = true;
+            for (int j = 0; j < primes.size() && primes.get(j) * primes.get(j) <= i; ++j) {
+                if (i % primes.get(j) == 0) {
+                    isPrime = false;
+                    break;
+                }
+            }
+            if (isPrime) {
+                primes.add(i);
+            }
+        }
+    }
+
+    /**
+     * @return A new, unused instance of the Sieve being tested.
+     */
+    abstract Sieve newSieve();
+
+    @Test
+    void getPrimeMatchesTrialDivision() {
+        final Sieve sieve = newSieve();
+        for (int i = 0; i < primes.size(); ++i) {
+            assertEquals((int) primes.get(i), sieve.getPrime(i + 1));
+        }
+    }
+
+    @Test
+    void getPrimeFarBeyondStart() {
+        final Sieve sieve = newSieve();
+        assertEquals(15485863, sieve.getPrime(1000000));
+        assertTrue(sieve.isKnownPrime(15485863));
+        assertEquals(1000000, sieve.getPrimeIndex(15485863));
+        assertEquals(15485867, sieve.getPrime(1000001));
+    }
+
+    @Test
+    void getPrimeIndexMatchesTrialDivision() {
+        final Sieve sieve = newSieve();
+        /* Index the primes from the last, so that the sieve must reach them before it can count them. */
+        for (int i = primes.size() - 1; i >= 0; --i) {
+            assertEquals(i + 1, sieve.getPrimeIndex(primes.get(i)));
+        }
+    }
+
+    @Test
+    void isKnownPrimeOfFoundPrimes() {
+        final Sieve sieve = newSieve();
+        sieve.getPrime(primes.size());
+        int next = 0;
+        for (int i = -3; i < N; ++i) {
+            final boolean isPrime = next < primes.size() && primes.get(next) == i;
+            assertEquals(isPrime, sieve.isKnownPrime(i));
+            if (isPrime) {
+                ++next;
+            }
+        }
+    }
+
+    @Test
+    void primeFactorizeCountsMultiplicity() {
+        final Sieve sieve = newSieve();
+        sieve.getPrime(primes.size());
+        assertEquals(Arrays.asList(2, 2, 2, 3, 3, 5), sieve.primeFactorize(360));
+        assertEquals(Arrays.asList(5), sieve.primeFactorize(5));
+        assertEquals(Arrays.asList(2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2,
+                2, 2), sieve.primeFactorize(1 << 30));
+        assertEquals(Arrays.asList(3, 3, 7, 11, 31, 151, 331), sieve.primeFactorize((1 << 30) - 1));
+        assertEquals(Arrays.asList(9973, 99991), sieve.primeFactorize(9973 * 99991));
+        assertTrue(sieve.primeFactorize(1).isEmpty());
+        for (int n = 2; n < 5000; ++n) {
+            int product = 1;
+            int previous = 2;
+            for (final int factor : sieve.primeFactorize(n)) {
+                assertTrue(sieve.isKnownPrime(factor));
+                assertTrue(previous <= factor);
+                previous = factor;
+                product *= factor;
+            }
+            assertEquals(n, product);
+        }
+    }
+
+    @Test
+    void primeFactorizeOnNewSieve() {
+        assertEquals(Arrays.asList(5), newSieve().primeFactorize(5));
+        assertEquals(Arrays.asList(2, 5), newSieve().primeFactorize(10));
+        assertEquals(Arrays.asList(2, 1000003), newSieve().primeFactorize(2 * 1000003));
+        assertEquals(Arrays.asList(3, 3, 7, 11, 31, 151, 331), newSieve().primeFactorize((1 << 30) - 1));
+        assertEquals(Arrays.asList(Integer.MAX_VALUE), newSieve().primeFactorize(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,56 @@
+package algs.math.numbertheory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks SmallestPrimeFactorSieve against the primes found by trial division, and its factorizations.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class SmallestPrimeFactorSieveTest extends SieveTest {
+    @Override
+    Sieve newSieve() {
+        return new SmallestPrimeFactorSieve();
+    }
+
+    @Test
+    void factorizeBelowAndBeyondLimit() {
+        final SmallestPrimeFactorSieve sieve = new SmallestPrimeFactorSieve(1000);
+        assertEquals(Factorization.of(720), sieve.factorize(720));
+        assertEquals(Factorization.of(999983L * 2), sieve.factorize(999983 * 2));
+        assertEquals(Arrays.asList(46337, 46337), sieve.primeFactorize(46337 * 46337));
+        assertTrue(sieve.isKnownPrime(Integer.MAX_VALUE));
+        assertEquals(Arrays.asList(Integer.MAX_VALUE), sieve.primeFactorize(Integer.MAX_VALUE));
+        assertTrue(sieve.primeFactorize(1).isEmpty());
+        assertTrue(sieve.primeFactorize(-6).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> sieve.factorize(0));
+    }
+
+    @Test
+    void factorizeBatch() {
+        final SmallestPrimeFactorSieve sieve = new SmallestPrimeFactorSieve(100);
+        final int[] values = new int[5000];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = 1 + 977 * i;
+        }
+        final Factorization[] factorizations = sieve.factorize(values);
+        assertTrue(sieve.limit() > 977 * 4999);
+        for (int i = 0; i < values.length; ++i) {
+            assertEquals(Factorization.of(values[i]), factorizations[i]);
+        }
+    }
+
+    @Test
+    void queriesBeyondMaxLimit() {
+        final SmallestPrimeFactorSieve sieve = new SmallestPrimeFactorSieve();
+        assertEquals(105097565, sieve.getPrimeIndex(Integer.MAX_VALUE));
+        assertEquals(SmallestPrimeFactorSieve.MAX_LIMIT, sieve.limit());
+        assertEquals(-105097564, sieve.getPrimeIndex(Integer.MAX_VALUE - 1));
+        assertEquals(Integer.MAX_VALUE, sieve.getPrime(105097565));
+        assertThrows(IllegalArgumentException.class, () -> sieve.getPrime(105097566));
+    }
+}
@@ -0,0 +1,90 @@
+package algs.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Checks the batched searches of BatchBinarySearch against BinarySearch, for sorted, unsorted and long targets.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class BatchBinarySearchTest {
+    final Random random = new Random(17);
+
+    private int[] sortedData(final int length) {
+        final int[] data = new int[length];
+        for (int i = 0; i < length; ++i) {
+            data[i] = random.nextInt(4 * length + 1) - 2 * length;
+        }
+        Arrays.sort(data);
+        return data;
+    }
+
+    private int[] randomTargets(final int count, final int length) {
+        final int[] targets = new int[count];
+        for (int i = 0; i < count; ++i) {
+            targets[i] = random.nextInt(4 * length + 5) - 2 * length - 2;
+        }
+        return targets;
+    }
+
+    private int[] expected(final int[] targets, final int[] data) {
+        final int[] expected = new int[targets.length];
+        for (int i = 0; i < targets.length; ++i) {
+            expected[i] = BinarySearch.find(targets[i], data);
+        }
+        return expected;
+    }
+
+    @Test
+    void unsortedTargetsTest() {
+        for (final int length : new int[] { 0, 1, 5, 16, 17, 100, 1000, 100000 }) {
+            final int[] data = sortedData(length);
+            final int[] targets = randomTargets(1000 + 7, length);
+            assertArrayEquals(expected(targets, data), BatchBinarySearch.find(targets, data));
+        }
+    }
+
+    @Test
+    void sortedTargetsTest() {
+        for (final int length : new int[] { 0, 1, 5, 16, 17, 100, 1000, 100000 }) {
+            final int[] data = sortedData(length);
+            final int[] targets = randomTargets(5000, length);
+            Arrays.sort(targets);
+            assertArrayEquals(expected(targets, data), BatchBinarySearch.find(targets, data));
+        }
+    }
+
+    @Test
+    void longTargetsTest() {
+        final int[] data = sortedData(50000);
+        final long[] longData = new long[data.length];
+        for (int i = 0; i < data.length; ++i) {
+            longData[i] = (long) data[i] << 20;
+        }
+        final int[] targets = randomTargets(3000, data.length);
+        final long[] longTargets = new long[targets.length];
+        for (int i = 0; i < targets.length; ++i) {
+            longTargets[i] = (long) targets[i] << 20;
+        }
+        final int[] expected = expected(targets, data);
+        assertArrayEquals(expected, BatchBinarySearch.find(longTargets, longData));
+        assertArrayEquals(expected, BatchBinarySearch.parallelFind(longTargets, longData));
+        Arrays.sort(longTargets);
+        Arrays.sort(targets);
+        assertArrayEquals(expected(targets, data), BatchBinarySearch.find(longTargets, longData));
+    }
+
+    @Test
+    void parallelFindTest() {
+        final int[] data = sortedData(1 << 16);
+        final int[] targets = randomTargets(1 << 16, data.length);
+        assertArrayEquals(expected(targets, data), BatchBinarySearch.parallelFind(targets, data));
+        Arrays.sort(targets);
+        assertArrayEquals(expected(targets, data), BatchBinarySearch.parallelFind(targets, data));
+    }
+}
@@ -3,6 +3,9 @@ package algs.search;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -76,4 +79,108 @@ class BinarySearchTest {
         assert index == N / 2;
         assert oddLengthNumbers[index] == target;
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds sorted arrays of every length up to 100, and some longer, with many repeated values, and checks every
+     * search of each of them against a linear scan.
+     */
+    @Test
+    void primitiveBoundsMatchLinearScan() {
+        final Random random = new Random(17);
+        for (int length = 0; length < 140; length += length < 100 ? 1 : 13) {
+            final int[] ints = new int[length];
+            final long[] longs = new long[length];
+            final Integer[] objects = new Integer[length];
+            for (int i = 0; i < length; ++i) {
+                ints[i] = random.nextInt(2 * length + 1) - length;
+            }
+            Arrays.sort(ints);
+            for (int i = 0; i < length; ++i) {
+                longs[i] = (long) ints[i] << 32;
+                objects[i] = ints[i];
+            }
+
+            for (int target = -length - 2; target <= length + 2; ++target) {
+                int lower = 0;
+                while (lower < length && ints[lower] < target) {
+                    ++lower;
+                }
+                int upper = lower;
+                while (upper < length && ints[upper] == target) {
+                    ++upper;
+                }
+                final int found = lower < upper ? lower : -(lower + 1);
+
+                assertEquals(lower, BinarySearch.lowerBound(target, ints));
+                assertEquals(upper, BinarySearch.upperBound(target, ints));
+                assertEquals(found, BinarySearch.find(target, ints));
+                assertEquals(upper - lower, BinarySearch.countInRange(target, target, ints));
+                assertEquals(lower, BinarySearch.lowerBound((long) target << 32, longs));
+                assertEquals(upper, BinarySearch.upperBound((long) target << 32, longs));
+                assertEquals(found, BinarySearch.find((long) target << 32, longs));
+                assertEquals(lower, BinarySearch.lowerBound(target, objects));
+                assertEquals(upper, BinarySearch.upperBound(target, objects));
+                assertEquals(upper - lower, BinarySearch.countInRange(target, target, objects));
+            }
+        }
+    }
+
+    @Test
+    void countInRangeTest() {
+        final int[] data = { -5, -5, 0, 1, 1, 1, 4, 9, 9, 12 };
+        assertEquals(10, BinarySearch.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, data));
+        assertEquals(4, BinarySearch.countInRange(0, 2, data));
+        assertEquals(3, BinarySearch.countInRange(5, 12, data));
+        assertEquals(0, BinarySearch.countInRange(2, 3, data));
+        assertEquals(0, BinarySearch.countInRange(9, 4, data));
+        final long[] longs = { -1, 1, 1, 7, 1L << 35, 1L << 40, 1L << 40, 1L << 41 };
+        assertEquals(6, BinarySearch.countInRange(1L, 1L << 40, longs));
+        assertEquals(0, BinarySearch.countInRange(8L, 1L << 34, longs));
+    }
+
+    /**
+     * Checks the interpolation and exponential searches against find, on keys spread evenly, on keys skewed toward the
+     * front, and on keys spanning the whole range of int, from many hints.
+     */
+    @Test
+    void interpolationAndExponentialMatchFind() {
+        final Random random = new Random(29);
+        for (int length = 0; length < 3000; length += length < 100 ? 1 : 211) {
+            final int[][] datasets = new int[3][length];
+            for (int i = 0; i < length; ++i) {
+                datasets[0][i] = 3 * i + random.nextInt(3);
+                final int root = random.nextInt(length + 1);
+                datasets[1][i] = root * root;
+                datasets[2][i] = random.nextInt() | (random.nextBoolean() ? Integer.MIN_VALUE : 0);
+            }
+            for (final int[] ints : datasets) {
+                Arrays.sort(ints);
+                final long[] longs = new long[length];
+                for (int i = 0; i < length; ++i) {
+                    longs[i] = (long) ints[i] * ints[i] * (ints[i] < 0 ? -1 : 1);
+                }
+                for (int t = 0; t < 60; ++t) {
+                    final int target = t % 3 == 0 || length == 0
+                            ? random.nextInt()
+                            : ints[random.nextInt(length)] + t % 3 - 1;
+                    final long longTarget = (long) target * target * (target < 0 ? -1 : 1);
+                    final int found = BinarySearch.find(target, ints);
+                    final int longFound = BinarySearch.find(longTarget, longs);
+                    assertEquals(found, BinarySearch.interpolationFind(target, ints));
+                    assertEquals(longFound, BinarySearch.interpolationFind(longTarget, longs));
+                    if (length == 0) {
+                        assertEquals(-1, BinarySearch.exponentialFind(target, ints));
+                        continue;
+                    }
+                    assertEquals(found, BinarySearch.exponentialFind(target, ints));
+                    assertEquals(longFound, BinarySearch.exponentialFind(longTarget, longs));
+                    final int hint = random.nextInt(length);
+                    assertEquals(found, BinarySearch.exponentialFind(target, ints, hint));
+                    assertEquals(longFound, BinarySearch.exponentialFind(longTarget, longs, hint));
+                    assertEquals(found, BinarySearch.exponentialFind(target, ints, length - 1));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> BinarySearch.exponentialFind(1, new int[] { 1, 2 }, 2));
+    }
+}
@@ -0,0 +1,167 @@
+package algs.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks BreadthFirstSearch, and the shortest paths it records, on a grid.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class BreadthFirstSearchTest {
+    /* A grid of SIDE by SIDE cells, each joined to the cells beside it; every cell is reachable by many paths. */
+    private static final int SIDE = 60;
+
+    private static List<Integer> neighbors(final int cell) {
+        final List<Integer> neighbors = new ArrayList<>(4);
+        final int row = cell / SIDE;
+        final int column = cell % SIDE;
+        if (row > 0) {
+            neighbors.add(cell - SIDE);
+        }
+        if (row < SIDE - 1) {
+            neighbors.add(cell + SIDE);
+        }
+        if (column > 0) {
+            neighbors.add(cell - 1);
+        }
+        if (column < SIDE - 1) {
+            neighbors.add(cell + 1);
+        }
+        return neighbors;
+    }
+
+    private static int[][] gridCsr() {
+        final int[] offsets = new int[SIDE * SIDE + 1];
+        final List<Integer> targets = new ArrayList<>();
+        for (int cell = 0; cell < SIDE * SIDE; ++cell) {
+            targets.addAll(neighbors(cell));
+            offsets[cell + 1] = targets.size();
+        }
+        final int[] flat = new int[targets.size()];
+        for (int i = 0; i < flat.length; ++i) {
+            flat[i] = targets.get(i);
+        }
+        return new int[][] { offsets, flat };
+    }
+
+    @Test
+    void searchExpandsEachNodeOnce() {
+        final Map<Integer, Integer> expansions = new HashMap<>();
+        final Integer found = BreadthFirstSearch.search(0, cell -> {
+            expansions.merge(cell, 1, Integer::sum);
+            return neighbors(cell);
+        }, cell -> false);
+        assertNull(found);
+        assertEquals(SIDE * SIDE, expansions.size());
+        for (final int count : expansions.values()) {
+            assertEquals(1, count);
+        }
+    }
+
+    @Test
+    void searchFindsTarget() {
+        final int target = SIDE * SIDE - 1;
+        assertEquals(Integer.valueOf(target), BreadthFirstSearch.search(0, BreadthFirstSearchTest::neighbors,
+                cell -> cell == target));
+    }
+
+    @Test
+    void csrSearchMatchesGenericSearch() {
+        final int[][] grid = gridCsr();
+        for (int source = 0; source < SIDE * SIDE; source += 37) {
+            for (int modulus = 1; modulus < 50; modulus += 7) {
+                final int m = modulus;
+                final int s = source;
+                final Integer expected = BreadthFirstSearch.search(source, BreadthFirstSearchTest::neighbors,
+                        cell -> cell != s && cell % m == 0);
+                assertEquals(expected == null ? -1 : expected,
+                        BreadthFirstSearch.search(source, grid[0], grid[1], cell -> cell != s && cell % m == 0));
+            }
+        }
+        assertEquals(-1, BreadthFirstSearch.search(0, grid[0], grid[1], cell -> cell < 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> BreadthFirstSearch.search(SIDE * SIDE, grid[0], grid[1], cell -> true));
+    }
+
+    private static CsrGraph gridGraph() {
+        final CsrGraph.Builder builder = CsrGraph.builder(SIDE * SIDE);
+        for (int cell = 0; cell < SIDE * SIDE; ++cell) {
+            for (final int neighbor : neighbors(cell)) {
+                builder.addEdge(cell, neighbor);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Checks that consecutive cells of a path are neighbors in the grid.
+     */
+    private static void assertConnected(final int[] path) {
+        for (int i = 1; i < path.length; ++i) {
+            assertTrue(neighbors(path[i - 1]).contains(path[i]));
+        }
+    }
+
+    @Test
+    void shortestPathOnGrid() {
+        final int target = 3 * SIDE + 7;
+        final List<Integer> path = BreadthFirstSearch.shortestPath(0, BreadthFirstSearchTest::neighbors,
+                cell -> cell == target);
+        assertNotNull(path);
+        assertEquals(11, path.size());
+        assertEquals(Integer.valueOf(0), path.get(0));
+        assertEquals(Integer.valueOf(target), path.get(10));
+        final int[] cells = new int[path.size()];
+        for (int i = 0; i < cells.length; ++i) {
+            cells[i] = path.get(i);
+        }
+        assertConnected(cells);
+
+        assertEquals(path, BreadthFirstSearch.shortestPath(0, BreadthFirstSearchTest::neighbors,
+                cell -> cell == target, 10));
+        assertNull(BreadthFirstSearch.shortestPath(0, BreadthFirstSearchTest::neighbors, cell -> cell == target, 9));
+        assertEquals(1, BreadthFirstSearch.shortestPath(5, BreadthFirstSearchTest::neighbors, cell -> true, 0).size());
+    }
+
+    @Test
+    void searchTreeOnGrid() {
+        final CsrGraph grid = gridGraph();
+        final int target = 5 * SIDE + 2;
+        final BreadthFirstSearch.Tree tree = BreadthFirstSearch.searchTree(grid, 0, cell -> cell == target);
+        assertEquals(0, tree.source());
+        assertEquals(target, tree.target());
+        assertEquals(7, tree.distance(target));
+        assertEquals(-1, tree.parent(0));
+        final int[] path = tree.path();
+        assertEquals(8, path.length);
+        assertEquals(0, path[0]);
+        assertEquals(target, path[7]);
+        assertConnected(path);
+        for (int i = 0; i < path.length; ++i) {
+            assertEquals(i, tree.distance(path[i]));
+        }
+        /* The search stopped at the target, before discovering the far corner. */
+        assertFalse(tree.reached(SIDE * SIDE - 1));
+        assertNull(tree.pathTo(SIDE * SIDE - 1));
+
+        final BreadthFirstSearch.Tree all = BreadthFirstSearch.searchTree(grid, 0, cell -> false);
+        assertEquals(-1, all.target());
+        assertNull(all.path());
+        for (int cell = 0; cell < SIDE * SIDE; ++cell) {
+            assertEquals(cell / SIDE + cell % SIDE, all.distance(cell));
+        }
+
+        final BreadthFirstSearch.Tree bounded = BreadthFirstSearch.searchTree(grid, 0, cell -> cell == target, 6);
+        assertEquals(-1, bounded.target());
+        assertFalse(bounded.reached(target));
+        assertEquals(6, bounded.distance(6));
+        assertFalse(bounded.reached(7));
+    }
+}
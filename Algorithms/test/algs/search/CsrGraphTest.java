@@ -0,0 +1,91 @@
+package algs.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrGraphTest {
+
+    private static int[] targetsOf(final CsrGraph graph, final int vertex) {
+        final int[] targets = new int[graph.degree(vertex)];
+        for (int e = graph.firstEdge(vertex); e < graph.firstEdge(vertex + 1); ++e) {
+            targets[e - graph.firstEdge(vertex)] = graph.target(e);
+        }
+        return targets;
+    }
+
+    @Test
+    void builderGroupsEdgesBySourceInOrderAdded() {
+        final CsrGraph graph = CsrGraph.builder(4)
+                .addEdge(2, 0)
+                .addEdge(0, 3)
+                .addEdge(2, 1)
+                .addEdge(0, 1)
+                .addUndirectedEdge(3, 2)
+                .build();
+        assertEquals(4, graph.vertexCount());
+        assertEquals(6, graph.edgeCount());
+        assertFalse(graph.isWeighted());
+        assertArrayEquals(new int[] { 3, 1 }, targetsOf(graph, 0));
+        assertArrayEquals(new int[] {}, targetsOf(graph, 1));
+        assertArrayEquals(new int[] { 0, 1, 3 }, targetsOf(graph, 2));
+        assertArrayEquals(new int[] { 2 }, targetsOf(graph, 3));
+        assertEquals(graph.edgeCount(), graph.firstEdge(graph.vertexCount()));
+        assertEquals(1.0, graph.weight(0));
+    }
+
+    @Test
+    void weightsFollowTheirEdges() {
+        final CsrGraph graph = CsrGraph.builder(3)
+                .addEdge(1, 2)
+                .addEdge(0, 1, 2.5)
+                .addEdge(1, 0, -4)
+                .build();
+        assertTrue(graph.isWeighted());
+        assertArrayEquals(new int[] { 2, 0 }, targetsOf(graph, 1));
+        assertEquals(2.5, graph.weight(graph.firstEdge(0)));
+        assertEquals(1.0, graph.weight(graph.firstEdge(1)));
+        assertEquals(-4.0, graph.weight(graph.firstEdge(1) + 1));
+        assertFalse(CsrGraph.builder(2).addEdge(0, 1).build().isWeighted());
+        assertTrue(CsrGraph.builder(2).addEdge(0, 1, 1).build().isWeighted());
+    }
+
+    @Test
+    void transposeReversesEdges() {
+        final CsrGraph transpose = CsrGraph.builder(3)
+                .addEdge(0, 1, 5)
+                .addEdge(0, 2, 6)
+                .addEdge(2, 1, 7)
+                .build()
+                .transpose();
+        assertArrayEquals(new int[] {}, targetsOf(transpose, 0));
+        assertArrayEquals(new int[] { 0, 2 }, targetsOf(transpose, 1));
+        assertArrayEquals(new int[] { 0 }, targetsOf(transpose, 2));
+        assertEquals(5.0, transpose.weight(transpose.firstEdge(1)));
+        assertEquals(7.0, transpose.weight(transpose.firstEdge(1) + 1));
+    }
+
+    @Test
+    void builderRejectsBadVertices() {
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.builder(-1));
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.builder(3).addEdge(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> CsrGraph.builder(3).addEdge(-1, 0));
+    }
+
+    @Test
+    void searchesOfGraph() {
+        /* A path 0 - 1 - ... - 99999, long enough that a recursive Depth-First Search would overflow the stack, with
+            a shortcut from 0 to 50000. */
+        final int n = 100000;
+        final CsrGraph.Builder builder = CsrGraph.builder(n);
+        for (int v = 0; v + 1 < n; ++v) {
+            builder.addUndirectedEdge(v, v + 1);
+        }
+        final CsrGraph graph = builder.addUndirectedEdge(0, n / 2).build();
+        assertEquals(n - 1, DepthFirstSearch.search(graph, 0, v -> v == n - 1));
+        assertEquals(-1, DepthFirstSearch.search(graph, 0, v -> v < 0));
+        assertEquals(n / 2 + 3, BreadthFirstSearch.search(graph, 0, v -> v > n / 2 + 2 || v == 7));
+        assertEquals(n / 2 + 3, ParallelBreadthFirstSearch.search(graph, graph, 0, v -> v > n / 2 + 2 || v == 7));
+        assertEquals(7, ParallelBreadthFirstSearch.search(graph, graph, 0, v -> v == n / 2 + 8 || v == 7));
+    }
+}
@@ -0,0 +1,66 @@
+package algs.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the order in which DepthFirstSearch visits vertices against a recursive preorder.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class DepthFirstSearchTest {
+
+    private static List<Integer> children(final CsrGraph graph, final int vertex) {
+        final List<Integer> children = new ArrayList<>();
+        for (int e = graph.firstEdge(vertex); e < graph.firstEdge(vertex + 1); ++e) {
+            children.add(graph.target(e));
+        }
+        return children;
+    }
+
+    /**
+     * Lists the vertices in the order a recursive Depth-First Search first reaches them.
+     */
+    private static void preorder(final CsrGraph graph, final int vertex, final boolean[] visited,
+            final List<Integer> order) {
+        visited[vertex] = true;
+        order.add(vertex);
+        for (final int child : children(graph, vertex)) {
+            if (!visited[child]) {
+                preorder(graph, child, visited, order);
+            }
+        }
+    }
+
+    @Test
+    void searchesVisitVerticesInRecursiveOrder() {
+        final Random random = new Random(11);
+        for (final int n : new int[] { 1, 2, 30, 300 }) {
+            final CsrGraph.Builder builder = CsrGraph.builder(n);
+            for (int i = 0; i < 2 * n; ++i) {
+                builder.addEdge(random.nextInt(n), random.nextInt(n));
+            }
+            final CsrGraph graph = builder.build();
+            final int source = random.nextInt(n);
+            final List<Integer> order = new ArrayList<>();
+            preorder(graph, source, new boolean[n], order);
+
+            final List<Integer> csrOrder = new ArrayList<>();
+            assertEquals(-1, DepthFirstSearch.search(graph, source, v -> !csrOrder.add(v)));
+            assertEquals(order, csrOrder);
+            final List<Integer> genericOrder = new ArrayList<>();
+            assertNull(DepthFirstSearch.search(source, v -> children(graph, v), v -> !genericOrder.add(v)));
+            assertEquals(order, genericOrder);
+
+            final int target = order.get(order.size() / 2);
+            assertEquals(target, DepthFirstSearch.search(graph, source, v -> v == target));
+            assertEquals(Integer.valueOf(target), DepthFirstSearch.search(source, v -> children(graph, v),
+                    v -> v == target));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package algs.search;
+
+class EytzingerSearchIndexTest extends IntSearchIndexTest {
+    @Override
+    IntSearchIndex newIndex(final int[] sorted) {
+        return new EytzingerSearchIndex(sorted);
+    }
+}
@@ -0,0 +1,70 @@
+package algs.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Exercises an IntSearchIndex against the searches of BinarySearch over the same sorted array.
+ */
+public abstract class IntSearchIndexTest {
+    final Random random = new Random(17);
+
+    abstract IntSearchIndex newIndex(int[] sorted);
+
+    private void assertSearchesMatch(final int[] sorted, final int target) {
+        final IntSearchIndex index = newIndex(sorted);
+        assertEquals(sorted.length, index.size());
+        assertEquals(BinarySearch.lowerBound(target, sorted), index.lowerBound(target));
+        assertEquals(BinarySearch.find(target, sorted), index.find(target));
+    }
+
+    @Test
+    void searchesMatchBinarySearchTest() {
+        for (int length = 0; length < 600; length += length < 300 ? 1 : 37) {
+            final int[] sorted = new int[length];
+            for (int i = 0; i < length; ++i) {
+                sorted[i] = random.nextInt(2 * length + 1) - length;
+            }
+            Arrays.sort(sorted);
+            final IntSearchIndex index = newIndex(sorted);
+            for (int target = -length - 2; target <= length + 2; ++target) {
+                assertEquals(BinarySearch.lowerBound(target, sorted), index.lowerBound(target));
+                assertEquals(BinarySearch.find(target, sorted), index.find(target));
+            }
+        }
+    }
+
+    @Test
+    void extremeKeysTest() {
+        final int[] sorted = { Integer.MIN_VALUE, Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE, Integer.MAX_VALUE };
+        for (final int target : new int[] { Integer.MIN_VALUE, -1, 0, 1, 2, Integer.MAX_VALUE - 1,
+                Integer.MAX_VALUE }) {
+            assertSearchesMatch(sorted, target);
+        }
+        assertSearchesMatch(new int[] { Integer.MAX_VALUE }, Integer.MAX_VALUE);
+        assertSearchesMatch(new int[] { 5 }, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void largeIndexTest() {
+        final int[] sorted = new int[1 << 20];
+        for (int i = 0; i < sorted.length; ++i) {
+            sorted[i] = 3 * i;
+        }
+        final IntSearchIndex index = newIndex(sorted);
+        for (int i = 0; i < 10000; ++i) {
+            final int target = random.nextInt(3 * sorted.length + 3) - 1;
+            assertEquals(BinarySearch.find(target, sorted), index.find(target));
+        }
+    }
+
+    @Test
+    void unsortedKeysTest() {
+        assertThrows(IllegalArgumentException.class, () -> newIndex(new int[] { 1, 3, 2 }));
+    }
+}
@@ -0,0 +1,160 @@
+package algs.search;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class ParallelBreadthFirstSearchTest {
+    /* More threads than the common pool may have, so that the levels are searched by several threads at once. */
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    /**
+     * Builds the adjacency of a random graph of n vertices and about n * degree edges, in compressed sparse row form;
+     * if undirected, every edge is stored in both directions.
+     */
+    private static int[][] randomGraph(final int n, final int degree, final boolean undirected, final long seed) {
+        final Random random = new Random(seed);
+        final List<int[]> edges = new ArrayList<>();
+        for (int i = 0; i < n * degree; ++i) {
+            final int from = random.nextInt(n);
+            /* Most edges are short, so that the graph has a long diameter as well as a dense middle. */
+            final int to = random.nextInt(4) == 0 ? random.nextInt(n) : Math.min(n - 1, from + random.nextInt(8));
+            edges.add(new int[] { from, to });
+            if (undirected) {
+                edges.add(new int[] { to, from });
+            }
+        }
+        return toCsr(n, edges, false);
+    }
+
+    private static int[][] toCsr(final int n, final List<int[]> edges, final boolean transpose) {
+        final int[] offsets = new int[n + 1];
+        for (final int[] edge : edges) {
+            ++offsets[edge[transpose ? 1 : 0] + 1];
+        }
+        for (int v = 0; v < n; ++v) {
+            offsets[v + 1] += offsets[v];
+        }
+        final int[] next = Arrays.copyOf(offsets, n);
+        final int[] targets = new int[edges.size()];
+        for (final int[] edge : edges) {
+            targets[next[edge[transpose ? 1 : 0]]++] = edge[transpose ? 0 : 1];
+        }
+        return new int[][] { offsets, targets };
+    }
+
+    private static List<int[]> edges(final int[] offsets, final int[] targets) {
+        final List<int[]> edges = new ArrayList<>();
+        for (int v = 0; v + 1 < offsets.length; ++v) {
+            for (int e = offsets[v]; e < offsets[v + 1]; ++e) {
+                edges.add(new int[] { v, targets[e] });
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Computes the distance of every vertex from the source by a sequential Breadth-First Search, or -1 for the
+     * unreachable vertices.
+     */
+    private static int[] distances(final int source, final int[] offsets, final int[] targets) {
+        final int[] distance = new int[offsets.length - 1];
+        Arrays.fill(distance, -1);
+        final int[] queue = new int[distance.length];
+        int head = 0;
+        int tail = 0;
+        distance[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            final int vertex = queue[head++];
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; ++e) {
+                if (distance[targets[e]] < 0) {
+                    distance[targets[e]] = distance[vertex] + 1;
+                    queue[tail++] = targets[e];
+                }
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * Finds the least of the target vertices nearest the source, from their distances.
+     */
+    private static int expected(final int[] distance, final boolean[] isTarget) {
+        int best = -1;
+        for (int v = 0; v < distance.length; ++v) {
+            if (isTarget[v] && distance[v] >= 0 && (best < 0 || distance[v] < distance[best])) {
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void csrSearchFindsNearestTarget() {
+        final Random random = new Random(3);
+        for (final int n : new int[] { 1, 10, 500, 20000, 100000 }) {
+            for (final boolean undirected : new boolean[] { true, false }) {
+                final int[][] graph = randomGraph(n, n < 500 ? 2 : 8, undirected, n);
+                final int[][] transpose = toCsr(n, edges(graph[0], graph[1]), true);
+                for (int trial = 0; trial < 5; ++trial) {
+                    final int source = random.nextInt(n);
+                    final boolean[] isTarget = new boolean[n];
+                    for (int i = 0; i < trial; ++i) {
+                        isTarget[random.nextInt(n)] = true;
+                    }
+                    final int expected = expected(distances(source, graph[0], graph[1]), isTarget);
+                    assertEquals(expected, ParallelBreadthFirstSearch.search(POOL, source, graph[0], graph[1],
+                            transpose[0], transpose[1], v -> isTarget[v]));
+                    if (undirected) {
+                        assertEquals(expected,
+                                ParallelBreadthFirstSearch.search(source, graph[0], graph[1], v -> isTarget[v]));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void csrSearchRejectsBadSource() {
+        final int[] offsets = { 0, 1, 1 };
+        final int[] targets = { 1 };
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelBreadthFirstSearch.search(2, offsets, targets, v -> true));
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelBreadthFirstSearch.search(-1, offsets, targets, v -> true));
+    }
+
+    @Test
+    void genericSearchFindsNearestTarget() {
+        /* From 1, the children of k are 2k and 3k; 48 = 2^4 * 3 is first reached at depth 5, along with 32, 72, 108,
+            162 and 243, so the only target at that depth is 48. */
+        final Integer found = ParallelBreadthFirstSearch.search(POOL, 1,
+                k -> Arrays.asList(2 * k, 3 * k), k -> k % 16 == 0 && k % 3 == 0);
+        assertEquals(Integer.valueOf(48), found);
+    }
+
+    @Test
+    void genericSearchReturnsNullWithoutTarget() {
+        /* A ring of 5000 nodes, searched for a node not on it. */
+        final int n = 5000;
+        assertNull(ParallelBreadthFirstSearch.search(0, k -> Arrays.asList((k + 1) % n, (k + n - 1) % n), k -> k < 0));
+        assertEquals(Integer.valueOf(2500),
+                ParallelBreadthFirstSearch.search(0, k -> Arrays.asList((k + 1) % n, (k + n - 1) % n), k -> k == 2500));
+    }
+}
@@ -0,0 +1,8 @@
+package algs.search;
+
+class STreeSearchIndexTest extends IntSearchIndexTest {
+    @Override
+    IntSearchIndex newIndex(final int[] sorted) {
+        return new STreeSearchIndex(sorted);
+    }
+}
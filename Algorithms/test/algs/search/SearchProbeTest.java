@@ -0,0 +1,217 @@
+package algs.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the probes of the Binary, Interpolation and Exponential searches of sorted int arrays, through copies of
+ * their loops which record every element they read; each copy is first checked to read exactly the elements that
+ * BinarySearch reads, by poisoning every other element and searching again.
+ *
+ * @author Robert Mitchell <robert.mitchell36@gmail.com>
+ */
+class SearchProbeTest {
+    private static final int BINARY = 0;
+    private static final int INTERPOLATION = 1;
+    private static final int EXPONENTIAL = 2;
+
+    /**
+     * Copies of the int searches of BinarySearch which record the indices of the elements they read, and count their
+     * probes: the elements compared with the target in order to narrow the window. The final linear scan of at most
+     * LINEAR_SCAN_LENGTH elements counts as a single probe, since it reads about one cache line; the reads of the ends
+     * of the window by the Interpolation Search are recorded, but not counted, since they mostly lie beside an earlier
+     * probe.
+     */
+    private static final class ProbeCountingSearch {
+        final BitSet reads = new BitSet();
+        long probes;
+
+        private int read(final int[] data, final int i) {
+            reads.set(i);
+            return data[i];
+        }
+
+        int lowerBound(final int target, final int[] data, final int low, final int high) {
+            int base = low;
+            int n = high - low + 1;
+            while (n > BinarySearch.LINEAR_SCAN_LENGTH) {
+                final int half = n >>> 1;
+                ++probes;
+                base += read(data, base + half) < target ? half : 0;
+                n -= half;
+            }
+            if (n > 0) {
+                ++probes;
+            }
+            int count = 0;
+            for (int i = base; i < base + n; ++i) {
+                count += read(data, i) < target ? 1 : 0;
+            }
+            return base + count;
+        }
+
+        int interpolationLowerBound(final int target, final int[] data) {
+            int low = 0;
+            int high = data.length - 1;
+            boolean bisect = false;
+            while (high - low >= BinarySearch.LINEAR_SCAN_LENGTH) {
+                final int first = read(data, low);
+                final int last = read(data, high);
+                if (target <= first) {
+                    return low;
+                }
+                if (target > last) {
+                    return high + 1;
+                }
+                final int mid = bisect
+                        ? low + (high - low) / 2
+                        : low + (int) (((long) target - first) * (high - low) / ((long) last - first));
+                final int length = high - low;
+                ++probes;
+                if (read(data, mid) < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+                bisect = !bisect && 2 * (high - low) > length;
+            }
+            return lowerBound(target, data, low, high);
+        }
+
+        int exponentialLowerBound(final int target, final int[] data, final int hint) {
+            int near = 0;
+            int far = 1;
+            ++probes;
+            if (read(data, hint) < target) {
+                while (far < data.length - hint) {
+                    ++probes;
+                    if (read(data, hint + far) >= target) {
+                        break;
+                    }
+                    near = far;
+                    far = 2 * far + 1;
+                }
+                return lowerBound(target, data, hint + near + 1, hint + Math.min(far, data.length - hint) - 1);
+            }
+            while (far <= hint) {
+                ++probes;
+                if (read(data, hint - far) < target) {
+                    break;
+                }
+                near = far;
+                far = 2 * far + 1;
+            }
+            return lowerBound(target, data, Math.max(hint - far, -1) + 1, hint - near - 1);
+        }
+
+        int search(final int search, final int target, final int[] data, final int hint) {
+            switch (search) {
+                case BINARY:
+                    return lowerBound(target, data, 0, data.length - 1);
+                case INTERPOLATION:
+                    return interpolationLowerBound(target, data);
+                default:
+                    return exponentialLowerBound(target, data, hint);
+            }
+        }
+    }
+
+    private static int search(final int search, final int target, final int[] data, final int hint) {
+        switch (search) {
+            case BINARY:
+                return BinarySearch.lowerBound(target, data);
+            case INTERPOLATION:
+                return BinarySearch.interpolationLowerBound(target, data);
+            default:
+                return BinarySearch.exponentialLowerBound(target, data, hint);
+        }
+    }
+
+    /**
+     * Returns n sorted keys, spread evenly over the positive ints, or, if skewed, their squares scaled back into the
+     * positive ints, most of which lie near the front.
+     */
+    private static int[] sortedKeys(final int n, final boolean skewed, final Random random) {
+        final int[] data = new int[n];
+        for (int i = 0; i < n; ++i) {
+            final long key = random.nextInt(Integer.MAX_VALUE);
+            data[i] = skewed ? (int) (key * key / Integer.MAX_VALUE) : (int) key;
+        }
+        Arrays.sort(data);
+        return data;
+    }
+
+    @Test
+    void copiesReadWhatBinarySearchReads() {
+        final Random random = new Random(41);
+        for (final int n : new int[] { 1, 17, 1000, 10000 }) {
+            for (final boolean skewed : new boolean[] { false, true }) {
+                final int[] data = sortedKeys(n, skewed, random);
+                for (int t = 0; t < 100; ++t) {
+                    final int target = t % 2 == 0 ? data[random.nextInt(n)] : random.nextInt(Integer.MAX_VALUE);
+                    final int hint = random.nextInt(n);
+                    for (int search = BINARY; search <= EXPONENTIAL; ++search) {
+                        final ProbeCountingSearch copy = new ProbeCountingSearch();
+                        final int expected = search(search, target, data, hint);
+                        assertEquals(expected, copy.search(search, target, data, hint));
+                        /* Were BinarySearch to read an element the copy does not, one of the poisons would most
+                            likely turn a comparison, and so the answer. */
+                        for (final int poison : new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE }) {
+                            final int[] poisoned = data.clone();
+                            for (int i = copy.reads.nextClearBit(0); i < n; i = copy.reads.nextClearBit(i + 1)) {
+                                poisoned[i] = poison;
+                            }
+                            assertEquals(expected, search(search, target, poisoned, hint));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the mean number of probes per search of the given targets, each search starting from the answer of
+     * the one before.
+     */
+    private static double meanProbes(final int search, final int[] data, final int[] targets) {
+        final ProbeCountingSearch copy = new ProbeCountingSearch();
+        int hint = 0;
+        for (final int target : targets) {
+            hint = Math.min(copy.search(search, target, data, hint), data.length - 1);
+        }
+        return (double) copy.probes / targets.length;
+    }
+
+    @Test
+    void probeCounts() {
+        final int n = 1 << 20;
+        final double lg = 20;
+        final Random random = new Random(43);
+        final int[] uniform = sortedKeys(n, false, random);
+        final int[] skewed = sortedKeys(n, true, random);
+        final int[] uniformTargets = new int[1000];
+        final int[] skewedTargets = new int[1000];
+        final int[] localTargets = new int[1000];
+        for (int i = 0, at = n / 2; i < 1000; ++i) {
+            uniformTargets[i] = uniform[random.nextInt(n)];
+            skewedTargets[i] = skewed[random.nextInt(n)];
+            at = Math.max(0, Math.min(n - 1, at + random.nextInt(65) - 32));
+            localTargets[i] = uniform[at];
+        }
+
+        /* A Binary Search halves the window down to a linear scan of at most 16 elements. */
+        assertEquals(lg - 3, meanProbes(BINARY, uniform, uniformTargets), 0.5);
+        assertEquals(lg - 3, meanProbes(BINARY, skewed, skewedTargets), 0.5);
+        /* An Interpolation Search takes O(lg lg N) probes on uniform keys, and at most about 2 lg N on skewed. */
+        assertTrue(meanProbes(INTERPOLATION, uniform, uniformTargets) < lg / 2);
+        assertTrue(meanProbes(INTERPOLATION, skewed, skewedTargets) < 2 * lg);
+        /* An Exponential Search from a hint within 32 places takes O(lg 32) probes, but 2 lg N from far away. */
+        assertTrue(meanProbes(EXPONENTIAL, uniform, localTargets) < lg / 2);
+        assertTrue(meanProbes(EXPONENTIAL, uniform, uniformTargets) < 2 * lg);
+    }
+}
@@ -0,0 +1,56 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BottomUpMergeSortTest extends StableSortTest {
+    BottomUpMergeSortTest() {
+        super();
+        super.sort = newSort();
+    }
+
+    @Override
+    <E extends Comparable<E>> Sort<E> newSort() {
+        return new BottomUpMergeSort<>();
+    }
+
+    @Test
+    void sortSmallIntervalNearEndTest() {
+        final Integer[] data = new Integer[1 << 16];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (int) (Math.random() * data.length);
+        }
+        final Integer[] expected = data.clone();
+        Arrays.sort(expected, data.length - 50, data.length - 10);
+        sort.sort(data, data.length - 50, data.length - 11);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortWithSuppliedScratchTest() {
+        final BottomUpMergeSort<Integer> bottomUpMergeSort = new BottomUpMergeSort<>();
+        final Integer[] scratch = new Integer[1000];
+        /* Odd and even numbers of merge passes leave the sorted segment in the scratch array and the data alternately. */
+        for (int length = 2; length <= scratch.length; length = length * 3 / 2 + 1) {
+            final Integer[] data = new Integer[length + 20];
+            for (int i = 0; i < data.length; ++i) {
+                data[i] = (int) (Math.random() * 100);
+            }
+            final Integer[] expected = data.clone();
+            Arrays.sort(expected, 10, 10 + length);
+            bottomUpMergeSort.sort(data, scratch, 10, 9 + length);
+            assertArrayEquals(expected, data);
+        }
+    }
+
+    @Test
+    void sortWithShortScratchTest() {
+        final Integer[] data = { 5, 4, 3, 2, 1 };
+        assertThrows(IllegalArgumentException.class,
+                () -> new BottomUpMergeSort<Integer>().sort(data, new Integer[3], 0, data.length - 1));
+    }
+}
@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class DoubleInsertionSortTest extends DoubleSortTest {
+    DoubleInsertionSortTest() {
+        super();
+        super.sort = new DoubleInsertionSort();
+    }
+}
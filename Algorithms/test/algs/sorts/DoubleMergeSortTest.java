@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class DoubleMergeSortTest extends DoubleSortTest {
+    DoubleMergeSortTest() {
+        super();
+        super.sort = new DoubleMergeSort();
+    }
+}
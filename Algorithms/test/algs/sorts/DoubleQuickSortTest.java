@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class DoubleQuickSortTest extends DoubleSortTest {
+    DoubleQuickSortTest() {
+        super();
+        super.sort = new DoubleQuickSort();
+    }
+}
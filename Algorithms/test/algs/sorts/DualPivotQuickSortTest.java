@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class DualPivotQuickSortTest extends SortTest {
+    DualPivotQuickSortTest() {
+        super();
+        super.sort = new QuickSort<>(QuickSort.Partitioning.DUAL_PIVOT);
+    }
+}
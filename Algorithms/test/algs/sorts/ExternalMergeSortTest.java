@@ -0,0 +1,197 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ExternalMergeSortTest {
+    private static final RecordCodec<Integer> INTEGER_CODEC = new RecordCodec<Integer>() {
+        @Override
+        public int encodedSize(final Integer record) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(final Integer record, final ByteBuffer buffer) {
+            buffer.putInt(record);
+        }
+
+        @Override
+        public Integer decode(final ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    private static final RecordCodec<String> STRING_CODEC = new RecordCodec<String>() {
+        @Override
+        public int encodedSize(final String record) {
+            return record.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        @Override
+        public void encode(final String record, final ByteBuffer buffer) {
+            buffer.put(record.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(final ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private final Random random = new Random(17);
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("external-merge-sort");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            for (final Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private <T extends Comparable<T>> List<T> readAll(final ExternalMergeSort<T> sort, final Path file)
+            throws IOException {
+        final List<T> records = new ArrayList<>();
+        try (final ExternalMergeSort.RunReader<T> reader = sort.read(file)) {
+            while (reader.hasNext()) {
+                records.add(reader.next());
+            }
+        }
+        return records;
+    }
+
+    private long countFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void sortManyRunsInSeveralPassesTest() throws IOException {
+        /* 100 runs of 100 records, merged 4 at a time, take 4 passes. */
+        final ExternalMergeSort<Integer> sort = new ExternalMergeSort<>(INTEGER_CODEC, new QuickSort<Integer>(), 100,
+                4, directory);
+        final List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < 10000; ++i) {
+            records.add(random.nextInt());
+        }
+        final Path input = directory.resolve("input");
+        final Path output = directory.resolve("output");
+        sort.write(records.iterator(), input);
+        sort.sort(input, output);
+
+        Collections.sort(records);
+        assertEquals(records, readAll(sort, output));
+        /* Only the input and the output remain; every run was deleted. */
+        assertEquals(2, countFiles());
+    }
+
+    @Test
+    void sortVariableLengthRecordsTest() throws IOException {
+        final ExternalMergeSort<String> sort = new ExternalMergeSort<>(STRING_CODEC, new MergeSort<String>(), 333, 8,
+                directory);
+        final List<String> records = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            final char[] characters = new char[random.nextInt(i % 100 == 0 ? 100000 : 20)];
+            for (int j = 0; j < characters.length; ++j) {
+                characters[j] = "ab\u00e9\u4e2d".charAt(random.nextInt(4));
+            }
+            records.add(new String(characters));
+        }
+        final Path output = directory.resolve("output");
+        sort.sort(records.iterator(), output);
+
+        Collections.sort(records);
+        assertEquals(records, readAll(sort, output));
+    }
+
+    @Test
+    void sortIsStableTest() throws IOException {
+        /* Records compare by their first character only, and are numbered by the rest, in the order they are given. */
+        final class Entry implements Comparable<Entry> {
+            final String value;
+
+            Entry(final String value) {
+                this.value = value;
+            }
+
+            @Override
+            public int compareTo(final Entry that) {
+                return Character.compare(value.charAt(0), that.value.charAt(0));
+            }
+        }
+        final RecordCodec<Entry> codec = new RecordCodec<Entry>() {
+            @Override
+            public int encodedSize(final Entry record) {
+                return STRING_CODEC.encodedSize(record.value);
+            }
+
+            @Override
+            public void encode(final Entry record, final ByteBuffer buffer) {
+                STRING_CODEC.encode(record.value, buffer);
+            }
+
+            @Override
+            public Entry decode(final ByteBuffer buffer) {
+                return new Entry(STRING_CODEC.decode(buffer));
+            }
+        };
+        final ExternalMergeSort<Entry> sort = new ExternalMergeSort<>(codec, new MergeSort<Entry>(), 50, 3, directory);
+        final List<Entry> records = new ArrayList<>();
+        for (int i = 0; i < 3000; ++i) {
+            records.add(new Entry((char) ('a' + random.nextInt(5)) + String.format("%05d", i)));
+        }
+        final Path output = directory.resolve("output");
+        sort.sort(records.iterator(), output);
+
+        final List<String> expected = records.stream().map(entry -> entry.value).sorted().collect(Collectors.toList());
+        final List<String> actual = readAll(sort, output).stream().map(entry -> entry.value)
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void sortSingleRunTest() throws IOException {
+        final ExternalMergeSort<Integer> sort = new ExternalMergeSort<>(INTEGER_CODEC, directory);
+        final Path output = directory.resolve("output");
+        sort.sort(Arrays.asList(3, 1, 2).iterator(), output);
+        assertEquals(Arrays.asList(1, 2, 3), readAll(sort, output));
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    void sortEmptyInputTest() throws IOException {
+        final ExternalMergeSort<Integer> sort = new ExternalMergeSort<>(INTEGER_CODEC, directory);
+        final Path output = directory.resolve("output");
+        sort.sort(Collections.<Integer>emptyIterator(), output);
+        try (final ExternalMergeSort.RunReader<Integer> reader = sort.read(output)) {
+            assertFalse(reader.hasNext());
+        }
+    }
+}
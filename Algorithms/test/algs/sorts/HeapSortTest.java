@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class HeapSortTest extends SortTest {
+    HeapSortTest() {
+        super();
+        super.sort = new HeapSort<>();
+    }
+}
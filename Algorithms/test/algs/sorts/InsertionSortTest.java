@@ -7,9 +7,14 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * Created by robertmitchell on 6/3/17.
  */
-class InsertionSortTest extends SortTest {
+class InsertionSortTest extends StableSortTest {
     InsertionSortTest() {
         super();
         super.sort = new InsertionSort<>();
     }
+
+    @Override
+    <E extends Comparable<E>> Sort<E> newSort() {
+        return new InsertionSort<>();
+    }
 }
\ No newline at end of file
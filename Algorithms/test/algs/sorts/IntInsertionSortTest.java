@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class IntInsertionSortTest extends IntSortTest {
+    IntInsertionSortTest() {
+        super();
+        super.sort = new IntInsertionSort();
+    }
+}
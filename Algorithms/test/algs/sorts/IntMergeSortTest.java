@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class IntMergeSortTest extends IntSortTest {
+    IntMergeSortTest() {
+        super();
+        super.sort = new IntMergeSort();
+    }
+}
@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class IntQuickSortTest extends IntSortTest {
+    IntQuickSortTest() {
+        super();
+        super.sort = new IntQuickSort();
+    }
+}
@@ -0,0 +1,54 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class IntRadixSortTest extends IntSortTest {
+    IntRadixSortTest() {
+        super();
+        super.sort = new IntRadixSort();
+    }
+
+    @Test
+    void sortSignedDataTest() {
+        final Random random = new Random(17);
+        final int[] data = new int[10000];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = random.nextInt();
+        }
+        data[0] = Integer.MIN_VALUE;
+        data[1] = Integer.MAX_VALUE;
+        data[2] = -1;
+        data[3] = 0;
+        final int[] expected = data.clone();
+        Arrays.sort(expected);
+        sort.sort(data);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortByKeyIsStableTest() {
+        final Random random = new Random(17);
+        final int[][] data = new int[5000][];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = new int[] { random.nextInt(100) - 50, i };
+        }
+        final int[][] expected = data.clone();
+        Arrays.sort(expected, (a, b) -> Integer.compare(a[0], b[0]));
+        new IntRadixSort().sort(data, (int[] entry) -> entry[0]);
+        assertArrayEquals(expected, data);
+
+        final int[][] shortData = Arrays.copyOfRange(data, 0, 40);
+        for (final int[] entry : shortData) {
+            entry[0] = -entry[0];
+        }
+        final int[][] shortExpected = shortData.clone();
+        Arrays.sort(shortExpected, (a, b) -> Integer.compare(a[0], b[0]));
+        new IntRadixSort().sort(shortData, (int[] entry) -> entry[0]);
+        assertArrayEquals(shortExpected, shortData);
+    }
+}
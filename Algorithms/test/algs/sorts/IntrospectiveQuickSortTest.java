@@ -0,0 +1,39 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntrospectiveQuickSortTest extends SortTest {
+    IntrospectiveQuickSortTest() {
+        super();
+        super.sort = new QuickSort<>(QuickSort.Partitioning.HOARE, true);
+    }
+
+    /* Long enough to overflow the stack if a sort recursed once per element. */
+    final int LONG_N = 1 << 20;
+
+    @Test
+    void sortLongSortedIntervalTest() {
+        final Integer[] data = new Integer[LONG_N];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i;
+        }
+        for (final QuickSort.Partitioning partitioning : QuickSort.Partitioning.values()) {
+            new QuickSort<Integer>(partitioning, true).sort(data, 1, data.length - 1);
+            assertTrue(Utilities.isSorted(data));
+        }
+    }
+
+    @Test
+    void sortLongOrganPipeIntervalTest() {
+        final Integer[] data = new Integer[LONG_N];
+        for (final QuickSort.Partitioning partitioning : QuickSort.Partitioning.values()) {
+            for (int i = 0; i < data.length; ++i) {
+                data[i] = i < data.length / 2 ? i : data.length - i;
+            }
+            new QuickSort<Integer>(partitioning, true).sort(data, 0, data.length - 1);
+            assertTrue(Utilities.isSorted(data));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package algs.sorts;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+class KeyedInsertionSortTest extends KeyedSortTest {
+    KeyedInsertionSortTest() {
+        super();
+        super.stable = true;
+    }
+
+    @Override
+    <E> void sort(final E[] data, final int low, final int high, final Comparator<? super E> comparator) {
+        InsertionSort.sort(data, low, high, comparator);
+    }
+
+    @Override
+    <E, K extends Comparable<? super K>> void sortByKey(final E[] data, final int low, final int high,
+            final Function<? super E, ? extends K> key) {
+        InsertionSort.sortByKey(data, low, high, key);
+    }
+
+    @Override
+    <E> void sortByLongKey(final E[] data, final int low, final int high, final ToLongFunction<? super E> key) {
+        InsertionSort.sortByLongKey(data, low, high, key);
+    }
+
+    @Override
+    <E> void sortByDoubleKey(final E[] data, final int low, final int high, final ToDoubleFunction<? super E> key) {
+        InsertionSort.sortByDoubleKey(data, low, high, key);
+    }
+}
@@ -0,0 +1,34 @@
+package algs.sorts;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+class KeyedMergeSortTest extends KeyedSortTest {
+    KeyedMergeSortTest() {
+        super();
+        super.stable = true;
+    }
+
+    @Override
+    <E> void sort(final E[] data, final int low, final int high, final Comparator<? super E> comparator) {
+        MergeSort.sort(data, low, high, comparator);
+    }
+
+    @Override
+    <E, K extends Comparable<? super K>> void sortByKey(final E[] data, final int low, final int high,
+            final Function<? super E, ? extends K> key) {
+        MergeSort.sortByKey(data, low, high, key);
+    }
+
+    @Override
+    <E> void sortByLongKey(final E[] data, final int low, final int high, final ToLongFunction<? super E> key) {
+        MergeSort.sortByLongKey(data, low, high, key);
+    }
+
+    @Override
+    <E> void sortByDoubleKey(final E[] data, final int low, final int high, final ToDoubleFunction<? super E> key) {
+        MergeSort.sortByDoubleKey(data, low, high, key);
+    }
+}
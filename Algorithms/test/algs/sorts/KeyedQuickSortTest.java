@@ -0,0 +1,34 @@
+package algs.sorts;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+class KeyedQuickSortTest extends KeyedSortTest {
+    KeyedQuickSortTest() {
+        super();
+        super.stable = false;
+    }
+
+    @Override
+    <E> void sort(final E[] data, final int low, final int high, final Comparator<? super E> comparator) {
+        QuickSort.sort(data, low, high, comparator);
+    }
+
+    @Override
+    <E, K extends Comparable<? super K>> void sortByKey(final E[] data, final int low, final int high,
+            final Function<? super E, ? extends K> key) {
+        QuickSort.sortByKey(data, low, high, key);
+    }
+
+    @Override
+    <E> void sortByLongKey(final E[] data, final int low, final int high, final ToLongFunction<? super E> key) {
+        QuickSort.sortByLongKey(data, low, high, key);
+    }
+
+    @Override
+    <E> void sortByDoubleKey(final E[] data, final int low, final int high, final ToDoubleFunction<? super E> key) {
+        QuickSort.sortByDoubleKey(data, low, high, key);
+    }
+}
@@ -0,0 +1,140 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exercises the static comparator and key-extractor sorts of a Sort class, against Arrays.sort with an equivalent
+ * Comparator.
+ */
+public abstract class KeyedSortTest {
+    final int N = 2000;
+    final int INTERVAL_LOW = 13;
+    final int INTERVAL_HIGH = 1500;
+    final Random random = new Random(17);
+    /* Whether the sorts under test keep equal elements in order. */
+    boolean stable;
+
+    abstract <E> void sort(E[] data, int low, int high, Comparator<? super E> comparator);
+
+    abstract <E, K extends Comparable<? super K>> void sortByKey(E[] data, int low, int high,
+            Function<? super E, ? extends K> key);
+
+    abstract <E> void sortByLongKey(E[] data, int low, int high, ToLongFunction<? super E> key);
+
+    abstract <E> void sortByDoubleKey(E[] data, int low, int high, ToDoubleFunction<? super E> key);
+
+    /**
+     * A record with a key which is expensive to derive, and which counts how often it is derived.
+     */
+    static final class Record {
+        static int parses = 0;
+        final String timestamp;
+        final int id;
+
+        Record(final String timestamp, final int id) {
+            this.timestamp = timestamp;
+            this.id = id;
+        }
+
+        long parse() {
+            ++parses;
+            return Long.parseLong(timestamp);
+        }
+    }
+
+    private Record[] randomRecords() {
+        final Record[] records = new Record[N];
+        for (int i = 0; i < N; ++i) {
+            records[i] = new Record(Integer.toString(random.nextInt(300) - 150), i);
+        }
+        return records;
+    }
+
+    /**
+     * Checks the interval matches Arrays.sort, which is stable, by identity when the sort under test is stable, and by
+     * key otherwise; and that nothing outside the interval moved.
+     */
+    private void assertSorted(final Record[] expected, final Record[] actual,
+            final Comparator<Record> comparator) {
+        if (stable) {
+            assertArrayEquals(expected, actual);
+            return;
+        }
+        for (int i = 0; i < expected.length; ++i) {
+            if (i < INTERVAL_LOW || i > INTERVAL_HIGH) {
+                assertEquals(expected[i], actual[i]);
+            } else {
+                assertEquals(0, comparator.compare(expected[i], actual[i]));
+            }
+        }
+    }
+
+    @Test
+    void sortWithComparatorTest() {
+        final Comparator<Record> comparator = Comparator.comparingLong(Record::parse);
+        final Record[] data = randomRecords();
+        final Record[] expected = data.clone();
+        Arrays.sort(expected, INTERVAL_LOW, INTERVAL_HIGH + 1, comparator);
+        sort(data, INTERVAL_LOW, INTERVAL_HIGH, comparator);
+        assertSorted(expected, data, comparator);
+    }
+
+    @Test
+    void sortByKeyExtractsOnceTest() {
+        final Comparator<Record> comparator = Comparator.comparingLong(Record::parse);
+        final Record[] data = randomRecords();
+        final Record[] expected = data.clone();
+        Arrays.sort(expected, INTERVAL_LOW, INTERVAL_HIGH + 1, comparator);
+
+        Record.parses = 0;
+        sortByKey(data, INTERVAL_LOW, INTERVAL_HIGH, Record::parse);
+        assertEquals(INTERVAL_HIGH - INTERVAL_LOW + 1, Record.parses);
+        assertSorted(expected, data, comparator);
+    }
+
+    @Test
+    void sortByLongKeyExtractsOnceTest() {
+        final Comparator<Record> comparator = Comparator.comparingLong(Record::parse);
+        final Record[] data = randomRecords();
+        final Record[] expected = data.clone();
+        Arrays.sort(expected, INTERVAL_LOW, INTERVAL_HIGH + 1, comparator);
+
+        Record.parses = 0;
+        sortByLongKey(data, INTERVAL_LOW, INTERVAL_HIGH, Record::parse);
+        assertEquals(INTERVAL_HIGH - INTERVAL_LOW + 1, Record.parses);
+        assertSorted(expected, data, comparator);
+    }
+
+    @Test
+    void sortByDoubleKeyTest() {
+        final double[] values = { Double.NaN, Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE,
+                -0.0, 0.0, Double.MIN_VALUE, 1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY };
+        final Double[] data = new Double[N];
+        for (int i = 0; i < N; ++i) {
+            data[i] = random.nextBoolean() ? values[random.nextInt(values.length)] : random.nextGaussian();
+        }
+        final Double[] expected = data.clone();
+        Arrays.sort(expected);
+        sortByDoubleKey(data, 0, N - 1, Double::doubleValue);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortEmptyDataTest() {
+        final Record[] data = new Record[0];
+        sort(data, 0, -1, Comparator.comparingLong(Record::parse));
+        sortByKey(data, 0, -1, Record::parse);
+        sortByLongKey(data, 0, -1, Record::parse);
+        assertEquals(0, data.length);
+    }
+}
@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class LongInsertionSortTest extends LongSortTest {
+    LongInsertionSortTest() {
+        super();
+        super.sort = new LongInsertionSort();
+    }
+}
@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class LongMergeSortTest extends LongSortTest {
+    LongMergeSortTest() {
+        super();
+        super.sort = new LongMergeSort();
+    }
+}
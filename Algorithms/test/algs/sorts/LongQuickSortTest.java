@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class LongQuickSortTest extends LongSortTest {
+    LongQuickSortTest() {
+        super();
+        super.sort = new LongQuickSort();
+    }
+}
@@ -0,0 +1,54 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class LongRadixSortTest extends LongSortTest {
+    LongRadixSortTest() {
+        super();
+        super.sort = new LongRadixSort();
+    }
+
+    @Test
+    void sortSignedDataTest() {
+        final Random random = new Random(17);
+        final long[] data = new long[10000];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = random.nextLong();
+        }
+        data[0] = Long.MIN_VALUE;
+        data[1] = Long.MAX_VALUE;
+        data[2] = -1;
+        data[3] = 0;
+        final long[] expected = data.clone();
+        Arrays.sort(expected);
+        sort.sort(data);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortByKeyIsStableTest() {
+        final Random random = new Random(17);
+        final long[][] data = new long[5000][];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = new long[] { random.nextInt(100) - 50, i };
+        }
+        final long[][] expected = data.clone();
+        Arrays.sort(expected, (a, b) -> Long.compare(a[0], b[0]));
+        new LongRadixSort().sort(data, (long[] entry) -> entry[0]);
+        assertArrayEquals(expected, data);
+
+        final long[][] shortData = Arrays.copyOfRange(data, 0, 40);
+        for (final long[] entry : shortData) {
+            entry[0] = -entry[0];
+        }
+        final long[][] shortExpected = shortData.clone();
+        Arrays.sort(shortExpected, (a, b) -> Long.compare(a[0], b[0]));
+        new LongRadixSort().sort(shortData, (long[] entry) -> entry[0]);
+        assertArrayEquals(shortExpected, shortData);
+    }
+}
@@ -0,0 +1,117 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises a LongSort with the same cases SortTest uses for a Sort.
+ */
+public abstract class LongSortTest {
+    final int N = 500;
+    final int INTERVAL_LOW = 13;
+    final int INTERVAL_HIGH = 27;
+    final long[] data = new long[N];
+    LongSort sort;
+
+    @Test
+    void sortSortedDataTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i;
+        }
+        sort.sort(data);
+        assertTrue(Utilities.isSorted(data));
+    }
+
+    @Test
+    void sortReverseSortedDataTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = data.length - i;
+        }
+        sort.sort(data);
+        assertTrue(Utilities.isSorted(data));
+    }
+
+    @Test
+    void sortRandomDataTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i;
+        }
+        boolean sortsProperly = true;
+        for (int i = 0; i < 1000; ++i) {
+            Utilities.shuffle(data);
+            sort.sort(data);
+            sortsProperly &= Utilities.isSorted(data);
+        }
+        assertTrue(sortsProperly);
+    }
+
+    @Test
+    void sortDuplicateDataTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i % 7;
+        }
+        Utilities.shuffle(data);
+        sort.sort(data);
+        assertTrue(Utilities.isSorted(data));
+    }
+
+    @Test
+    void sortEmptyDataTest() {
+        long[] data = new long[0];
+        boolean threwException = false;
+        try {
+            sort.sort(data);
+        } catch (Exception e) {
+            threwException = true;
+        } finally {
+            assertFalse(threwException);
+        }
+    }
+
+    @Test
+    void sortSortedIntervalTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i;
+        }
+        sort.sort(data, INTERVAL_LOW, INTERVAL_HIGH);
+        assertTrue(Utilities.isSorted(data, INTERVAL_LOW, INTERVAL_HIGH));
+    }
+
+    @Test
+    void sortReverseSortedIntervalTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = data.length - i;
+        }
+        sort.sort(data, INTERVAL_LOW, INTERVAL_HIGH);
+        assertTrue(Utilities.isSorted(data, INTERVAL_LOW, INTERVAL_HIGH));
+    }
+
+    @Test
+    void sortRandomIntervalTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i;
+        }
+        boolean sortsProperly = true;
+        for (int i = 0; i < 1000; ++i) {
+            Utilities.shuffle(data);
+            sort.sort(data, INTERVAL_LOW, INTERVAL_HIGH);
+            sortsProperly &= Utilities.isSorted(data, INTERVAL_LOW, INTERVAL_HIGH);
+        }
+        assertTrue(sortsProperly);
+    }
+
+    @Test
+    void sortEmptyIntervalTest() {
+        boolean threwException = false;
+        try {
+            sort.sort(data, INTERVAL_LOW, INTERVAL_LOW);
+        } catch (Exception e) {
+            System.err.println(e);
+            threwException = true;
+        } finally {
+            assertFalse(threwException);
+        }
+    }
+}
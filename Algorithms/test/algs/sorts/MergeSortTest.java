@@ -7,9 +7,14 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * Created by robertmitchell on 6/3/17.
  */
-class MergeSortTest extends SortTest {
+class MergeSortTest extends StableSortTest {
     MergeSortTest() {
         super();
         super.sort = new MergeSort<>();
     }
+
+    @Override
+    <E extends Comparable<E>> Sort<E> newSort() {
+        return new MergeSort<>();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelMergeSortTest extends StableSortTest {
+    /* A small threshold, so that the test data is sorted and merged by parallel tasks. */
+    static final int THRESHOLD = 16;
+
+    ParallelMergeSortTest() {
+        super();
+        super.sort = newSort();
+    }
+
+    @Override
+    <E extends Comparable<E>> Sort<E> newSort() {
+        return new ParallelMergeSort<>(THRESHOLD);
+    }
+
+    @Test
+    void sortLargeRandomDataTest() {
+        final Integer[] data = new Integer[1 << 17];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (int) (Math.random() * data.length);
+        }
+        new ParallelMergeSort<Integer>().sort(data);
+        assertTrue(Utilities.isSorted(data));
+        assertEquals(1 << 17, data.length);
+    }
+}
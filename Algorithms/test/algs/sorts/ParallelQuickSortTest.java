@@ -0,0 +1,54 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class ParallelQuickSortTest extends SortTest {
+    /* A small threshold, so that the test data is partitioned in parallel, and sorted by parallel tasks. */
+    static final int THRESHOLD = 16;
+
+    ParallelQuickSortTest() {
+        super();
+        super.sort = new ParallelQuickSort<>(THRESHOLD);
+    }
+
+    @Test
+    void sortWithoutParallelPartitioningTest() {
+        final Integer[] data = new Integer[N];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (int) (Math.random() * N);
+        }
+        final Integer[] expected = data.clone();
+        Arrays.sort(expected);
+        new ParallelQuickSort<Integer>(ForkJoinPool.commonPool(), THRESHOLD, false).sort(data);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortDuplicateDataTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i % 3;
+        }
+        Utilities.shuffle(data);
+        final Integer[] expected = data.clone();
+        Arrays.sort(expected);
+        sort.sort(data);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortLargeRandomDataTest() {
+        final Integer[] data = new Integer[1 << 17];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (int) (Math.random() * data.length);
+        }
+        final Integer[] expected = data.clone();
+        Arrays.sort(expected);
+        new ParallelQuickSort<Integer>(ForkJoinPool.commonPool(), 1 << 10, true).sort(data);
+        assertArrayEquals(expected, data);
+    }
+}
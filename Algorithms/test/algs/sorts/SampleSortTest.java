@@ -0,0 +1,65 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class SampleSortTest extends SortTest {
+    /* A small threshold, so that the test data is distributed into buckets by parallel tasks. */
+    static final int THRESHOLD = 16;
+
+    SampleSortTest() {
+        super();
+        super.sort = new SampleSort<>(ForkJoinPool.commonPool(), new QuickSort<Integer>(), THRESHOLD);
+    }
+
+    private void assertSortsLikeArraysSort(final Integer[] data, final int low, final int high) {
+        final Integer[] expected = data.clone();
+        Arrays.sort(expected, low, high + 1);
+        sort.sort(data, low, high);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortLargeRandomDataTest() {
+        final Integer[] data = new Integer[1 << 17];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (int) (Math.random() * data.length);
+        }
+        assertSortsLikeArraysSort(data, 0, data.length - 1);
+    }
+
+    @Test
+    void sortLargeFewUniqueIntervalTest() {
+        final Integer[] data = new Integer[1 << 17];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (int) (Math.random() * 3);
+        }
+        assertSortsLikeArraysSort(data, 1000, data.length - 1000);
+    }
+
+    @Test
+    void sortSkewedDataTest() {
+        /* Nearly every element is equal, and the rest are spread thinly on both sides of it. */
+        final Integer[] data = new Integer[1 << 17];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i % 64 == 0 ? (int) (Math.random() * data.length) - data.length / 2 : 7;
+        }
+        assertSortsLikeArraysSort(data, 0, data.length - 1);
+    }
+
+    @Test
+    void sortWithDefaultsTest() {
+        final Integer[] data = new Integer[1 << 16];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = data.length - i;
+        }
+        final Integer[] expected = data.clone();
+        Arrays.sort(expected);
+        new SampleSort<Integer>().sort(data);
+        assertArrayEquals(expected, data);
+    }
+}
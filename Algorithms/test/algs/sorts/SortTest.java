@@ -47,6 +47,20 @@ public abstract class SortTest {
         assertTrue(sortsProperly);
     }
 
+    @Test
+    void sortFewUniqueDataTest() {
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i % 5;
+        }
+        boolean sortsProperly = true;
+        for (int i = 0; i < 100; ++i) {
+            Utilities.shuffle(data);
+            sort.sort(data);
+            sortsProperly &= Utilities.isSorted(data);
+        }
+        assertTrue(sortsProperly);
+    }
+
     @Test
     void sortEmptyDataTest() {
         Integer[] data = new Integer[0];
@@ -0,0 +1,51 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Extends the cases of SortTest with a check that equal elements keep their relative order, for the stable sorts.
+ */
+public abstract class StableSortTest extends SortTest {
+
+    /**
+     * An element which compares only by its key, and remembers its original position to check stability.
+     */
+    static final class Entry implements Comparable<Entry> {
+        final int key;
+        final int position;
+
+        Entry(final int key, final int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(final Entry other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
+    /**
+     * Returns a new instance of the sort under test, for elements of any type.
+     *
+     * @return a new instance of the sort under test.
+     */
+    abstract <E extends Comparable<E>> Sort<E> newSort();
+
+    @Test
+    void sortIsStableTest() {
+        final Entry[] entries = new Entry[N];
+        for (int i = 0; i < entries.length; ++i) {
+            entries[i] = new Entry((int) (Math.random() * 10), i);
+        }
+        this.<Entry>newSort().sort(entries);
+        for (int i = 1; i < entries.length; ++i) {
+            assertTrue(entries[i - 1].key <= entries[i].key);
+            if (entries[i - 1].key == entries[i].key) {
+                assertTrue(entries[i - 1].position < entries[i].position);
+            }
+        }
+    }
+}
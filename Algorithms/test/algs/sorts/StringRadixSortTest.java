@@ -0,0 +1,64 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class StringRadixSortTest {
+    private final Sort<String> sort = new StringRadixSort();
+    private final Random random = new Random(17);
+
+    /**
+     * Builds strings over the given alphabet, many sharing long prefixes, and some of them empty.
+     */
+    private String[] randomStrings(final int n, final String alphabet) {
+        final String[] prefixes = { "", "id-", "id-0000", "customer/", "customer/region/" };
+        final String[] data = new String[n];
+        for (int i = 0; i < n; ++i) {
+            final StringBuilder builder = new StringBuilder(prefixes[random.nextInt(prefixes.length)]);
+            final int length = random.nextInt(8);
+            for (int j = 0; j < length; ++j) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            data[i] = builder.toString();
+        }
+        return data;
+    }
+
+    @Test
+    void sortAsciiDataTest() {
+        final String[] data = randomStrings(20000, "abcdefghijklmnopqrstuvwxyz0123456789/-");
+        final String[] expected = data.clone();
+        Arrays.sort(expected);
+        sort.sort(data);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortUnicodeDataTest() {
+        final String[] data = randomStrings(20000, "ab\u00e9\u00ff\u0100\u03bb\u4e2d\uffff");
+        final String[] expected = data.clone();
+        Arrays.sort(expected);
+        sort.sort(data);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortIntervalTest() {
+        final String[] data = randomStrings(5000, "abc");
+        final String[] expected = data.clone();
+        Arrays.sort(expected, 100, 4000);
+        sort.sort(data, 100, 3999);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortEmptyDataTest() {
+        final String[] data = new String[0];
+        sort.sort(data);
+        assertArrayEquals(new String[0], data);
+    }
+}
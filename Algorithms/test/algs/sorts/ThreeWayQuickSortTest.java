@@ -0,0 +1,8 @@
+package algs.sorts;
+
+class ThreeWayQuickSortTest extends SortTest {
+    ThreeWayQuickSortTest() {
+        super();
+        super.sort = new QuickSort<>(QuickSort.Partitioning.THREE_WAY);
+    }
+}
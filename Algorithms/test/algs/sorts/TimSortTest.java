@@ -0,0 +1,53 @@
+package algs.sorts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class TimSortTest extends StableSortTest {
+    TimSortTest() {
+        super();
+        super.sort = newSort();
+    }
+
+    @Override
+    <E extends Comparable<E>> Sort<E> newSort() {
+        return new TimSort<>();
+    }
+
+    /**
+     * Builds a long array of ascending runs, with a few elements out of place and a descending tail, so that every kind
+     * of run, merge, and gallop is exercised.
+     */
+    @Test
+    void sortPartiallySortedDataTest() {
+        final Integer[] data = new Integer[1 << 16];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = i % 5000;
+        }
+        for (int i = 0; i < 100; ++i) {
+            data[(int) (Math.random() * data.length)] = (int) (Math.random() * 5000);
+        }
+        for (int i = data.length - 1000; i < data.length; ++i) {
+            data[i] = data.length - i;
+        }
+        final Integer[] expected = data.clone();
+        Arrays.sort(expected);
+        sort.sort(data);
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    void sortLargeRandomIntervalTest() {
+        final Integer[] data = new Integer[1 << 16];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (int) (Math.random() * data.length);
+        }
+        final Integer[] expected = data.clone();
+        Arrays.sort(expected, 100, data.length - 100);
+        sort.sort(data, 100, data.length - 101);
+        assertArrayEquals(expected, data);
+    }
+}